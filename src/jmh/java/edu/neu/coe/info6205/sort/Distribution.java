@@ -0,0 +1,85 @@
+package edu.neu.coe.info6205.sort;
+
+import java.util.Random;
+
+/**
+ * Enumeration of the initial orderings of the arrays to be sorted by the JMH sort benchmarks.
+ * <p>
+ * Each Distribution generates an array of non-negative int keys, which are then converted to the element type under test
+ * (see SortTrial): the keys are non-negative so that RadixSort (which cannot sort negative numbers) can sort them too.
+ */
+public enum Distribution {
+
+    /**
+     * Keys chosen at random from (almost) the whole range of non-negative ints.
+     */
+    RANDOM {
+        public int[] keys(int n, Random random) {
+            int[] result = new int[n];
+            for (int i = 0; i < n; i++) result[i] = random.nextInt(Integer.MAX_VALUE);
+            return result;
+        }
+    },
+
+    /**
+     * Keys which are already in order.
+     */
+    SORTED {
+        public int[] keys(int n, Random random) {
+            int[] result = new int[n];
+            for (int i = 0; i < n; i++) result[i] = i;
+            return result;
+        }
+    },
+
+    /**
+     * Keys which are in reverse order.
+     */
+    REVERSED {
+        public int[] keys(int n, Random random) {
+            int[] result = new int[n];
+            for (int i = 0; i < n; i++) result[i] = n - 1 - i;
+            return result;
+        }
+    },
+
+    /**
+     * Keys which are in order apart from n/100 (at least one) swaps of random pairs.
+     */
+    PARTIALLY_SORTED {
+        public int[] keys(int n, Random random) {
+            int[] result = SORTED.keys(n, random);
+            if (n > 1)
+                for (int k = 0; k < Math.max(1, n / 100); k++) {
+                    int i = random.nextInt(n);
+                    int j = random.nextInt(n);
+                    int temp = result[i];
+                    result[i] = result[j];
+                    result[j] = temp;
+                }
+            return result;
+        }
+    },
+
+    /**
+     * Keys chosen at random from only FEW_DISTINCT_KEYS different values.
+     */
+    FEW_DISTINCT {
+        public int[] keys(int n, Random random) {
+            int[] result = new int[n];
+            for (int i = 0; i < n; i++) result[i] = random.nextInt(FEW_DISTINCT_KEYS);
+            return result;
+        }
+    };
+
+    /**
+     * Method to generate the keys of an array in this distribution.
+     *
+     * @param n      the number of keys.
+     * @param random the source of randomness (ignored by SORTED and REVERSED).
+     * @return an array of n non-negative ints.
+     */
+    public abstract int[] keys(int n, Random random);
+
+    public static final int FEW_DISTINCT_KEYS = 16;
+}
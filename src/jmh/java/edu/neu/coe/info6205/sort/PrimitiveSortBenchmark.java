@@ -0,0 +1,136 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.sort.elementary.PrimitiveHeapSort;
+import edu.neu.coe.info6205.sort.elementary.PrimitiveInsertionSort;
+import edu.neu.coe.info6205.sort.elementary.PrimitiveShellSort;
+import edu.neu.coe.info6205.sort.linearithmic.PrimitiveMergeSort;
+import edu.neu.coe.info6205.sort.linearithmic.PrimitiveQuickSort_DualPivot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the PrimitiveSort implementations in sort.elementary and sort.linearithmic
+ * (on arrays of int, long or double).
+ * <p>
+ * PrimitiveInsertionSort is quadratic: at the larger size (especially on REVERSED input) each invocation takes seconds.
+ * <p>
+ * Run by: java -cp target/benchmarks.jar edu.neu.coe.info6205.sort.SortBenchmarks (after mvn -P jmh package)
+ * or by: java -jar target/benchmarks.jar PrimitiveSortBenchmark -rf json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveSortBenchmark {
+
+    @Param({"PrimitiveInsertionSort", "PrimitiveShellSort", "PrimitiveHeapSort", "PrimitiveMergeSort", "PrimitiveQuickSort_DualPivot"})
+    public String sorter;
+
+    @Param({"1000", "100000"})
+    public int n;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "PARTIALLY_SORTED", "FEW_DISTINCT"})
+    public Distribution distribution;
+
+    @Param({"int", "long", "double"})
+    public String elementType;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        primitiveSort = createSorter(sorter);
+        int[] keys = distribution.keys(n, new Random(0L));
+        switch (elementType) {
+            case "int":
+                originalInts = keys;
+                ints = new int[n];
+                break;
+            case "long":
+                originalLongs = new long[n];
+                for (int i = 0; i < n; i++) originalLongs[i] = (long) keys[i] << 16;
+                longs = new long[n];
+                break;
+            case "double":
+                originalDoubles = new double[n];
+                for (int i = 0; i < n; i++) originalDoubles[i] = keys[i] / 16.0;
+                doubles = new double[n];
+                break;
+            default:
+                throw new IllegalArgumentException("unknown element type: " + elementType);
+        }
+    }
+
+    /**
+     * NOTE the overhead of Level.Invocation is small by comparison with a sort of n elements.
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        if (ints != null) System.arraycopy(originalInts, 0, ints, 0, n);
+        else if (longs != null) System.arraycopy(originalLongs, 0, longs, 0, n);
+        else System.arraycopy(originalDoubles, 0, doubles, 0, n);
+    }
+
+    @TearDown(Level.Trial)
+    public void check() {
+        for (int i = 1; i < n; i++)
+            if (ints != null ? ints[i - 1] > ints[i] : longs != null ? longs[i - 1] > longs[i] : doubles[i - 1] > doubles[i])
+                throw new RuntimeException(sorter + ": not sorted at " + i);
+    }
+
+    /**
+     * NOTE the branches on the element type are perfectly predictable and cost nothing by comparison with the sort.
+     */
+    @Benchmark
+    public Object sort() {
+        if (ints != null) {
+            primitiveSort.sort(ints);
+            return ints;
+        }
+        if (longs != null) {
+            primitiveSort.sort(longs);
+            return longs;
+        }
+        primitiveSort.sort(doubles);
+        return doubles;
+    }
+
+    private static PrimitiveSort createSorter(String sorter) {
+        switch (sorter) {
+            case "PrimitiveInsertionSort":
+                return new PrimitiveInsertionSort();
+            case "PrimitiveShellSort":
+                return new PrimitiveShellSort();
+            case "PrimitiveHeapSort":
+                return new PrimitiveHeapSort();
+            case "PrimitiveMergeSort":
+                return new PrimitiveMergeSort();
+            case "PrimitiveQuickSort_DualPivot":
+                return new PrimitiveQuickSort_DualPivot();
+            default:
+                throw new IllegalArgumentException("unknown sorter: " + sorter);
+        }
+    }
+
+    private PrimitiveSort primitiveSort;
+    private int[] originalInts;
+    private long[] originalLongs;
+    private double[] originalDoubles;
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+}
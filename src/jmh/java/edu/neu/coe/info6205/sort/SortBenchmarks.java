@@ -0,0 +1,44 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.sort.counting.CountingSortBenchmark;
+import edu.neu.coe.info6205.sort.elementary.ElementarySortBenchmark;
+import edu.neu.coe.info6205.sort.linearithmic.LinearithmicSortBenchmark;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Main program to run all of the JMH sort benchmarks (ElementarySortBenchmark, LinearithmicSortBenchmark,
+ * CountingSortBenchmark and PrimitiveSortBenchmark) and write the results as JSON,
+ * so that they can be compared from one run to the next (for example with JMH Visualizer).
+ * <p>
+ * Run by: java -cp target/benchmarks.jar edu.neu.coe.info6205.sort.SortBenchmarks [resultFile [benchmarkRegexp]]
+ * (after mvn -P jmh package).
+ * The default result file is jmh-sort-yyyyMMdd-HHmmss.json (in the current directory);
+ * the default benchmarks are all four classes.
+ * For anything else (e.g. choosing parameter values), use the JMH command line:
+ * java -jar target/benchmarks.jar LinearithmicSortBenchmark -p elementType=Integer -rf json -rff result.json.
+ */
+public class SortBenchmarks {
+
+    public static void main(String[] args) throws RunnerException {
+        String resultFile = args.length > 0 ? args[0] : "jmh-sort-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json";
+        OptionsBuilder builder = new OptionsBuilder();
+        if (args.length > 1) builder.include(args[1]);
+        else for (Class<?> clazz : BENCHMARKS) builder.include(clazz.getSimpleName());
+        Options options = builder.resultFormat(ResultFormatType.JSON).result(resultFile).build();
+        new Runner(options).run();
+    }
+
+    private static final Class<?>[] BENCHMARKS = new Class<?>[]{
+            ElementarySortBenchmark.class,
+            LinearithmicSortBenchmark.class,
+            CountingSortBenchmark.class,
+            PrimitiveSortBenchmark.class
+    };
+}
@@ -0,0 +1,209 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.sort.counting.LSDStringSort;
+import edu.neu.coe.info6205.sort.counting.MSDStringSort;
+import edu.neu.coe.info6205.sort.elementary.BubbleSort;
+import edu.neu.coe.info6205.sort.elementary.HeapSort;
+import edu.neu.coe.info6205.sort.elementary.HeapSortPure;
+import edu.neu.coe.info6205.sort.elementary.InsertionSort;
+import edu.neu.coe.info6205.sort.elementary.InsertionSortBasic;
+import edu.neu.coe.info6205.sort.elementary.InsertionSortOpt;
+import edu.neu.coe.info6205.sort.elementary.RandomSort;
+import edu.neu.coe.info6205.sort.elementary.SelectionSort;
+import edu.neu.coe.info6205.sort.elementary.ShellSort;
+import edu.neu.coe.info6205.sort.elementary.ShellSortPure;
+import edu.neu.coe.info6205.sort.linearithmic.IntroSort;
+import edu.neu.coe.info6205.sort.linearithmic.MergeSort;
+import edu.neu.coe.info6205.sort.linearithmic.MergeSortBasic;
+import edu.neu.coe.info6205.sort.linearithmic.QuickSort_3way;
+import edu.neu.coe.info6205.sort.linearithmic.QuickSort_Basic;
+import edu.neu.coe.info6205.sort.linearithmic.QuickSort_DualPivot;
+import edu.neu.coe.info6205.sort.linearithmic.QuickSort_Exp;
+import edu.neu.coe.info6205.sort.linearithmic.TimSort;
+import edu.neu.coe.info6205.util.Config;
+
+import java.util.function.Consumer;
+
+/**
+ * Class to represent one trial of a JMH sort benchmark: a sorter and the (unsorted) array which it is to sort.
+ * <p>
+ * Before each invocation, restore copies the original array into the working array;
+ * sort then sorts the working array in place; and check (after the last invocation) makes sure that it really is sorted.
+ * The sorters are all given a non-instrumented BaseHelper, so what is measured is the sort itself.
+ *
+ * @param <X> the underlying comparable type.
+ */
+public class SortTrial<X extends Comparable<X>> {
+
+    /**
+     * Primary constructor.
+     *
+     * @param description the name of the sorter.
+     * @param original    the array to be sorted (which is never itself changed).
+     * @param sorter      a function which sorts its argument in place.
+     */
+    public SortTrial(String description, X[] original, Consumer<X[]> sorter) {
+        this.description = description;
+        this.original = original;
+        this.xs = original.clone();
+        this.sorter = sorter;
+    }
+
+    /**
+     * Method to restore the working array to its original (unsorted) state.
+     */
+    public void restore() {
+        System.arraycopy(original, 0, xs, 0, xs.length);
+    }
+
+    /**
+     * Method to sort the working array.
+     *
+     * @return the working array (for the benefit of the JMH Blackhole).
+     */
+    public X[] sort() {
+        sorter.accept(xs);
+        return xs;
+    }
+
+    /**
+     * Method to check that the working array is sorted.
+     *
+     * @throws RuntimeException if it is not.
+     */
+    public void check() {
+        for (int i = 1; i < xs.length; i++)
+            if (xs[i - 1].compareTo(xs[i]) > 0) throw new RuntimeException(description + ": not sorted at " + i);
+    }
+
+    /**
+     * Method to create a SortTrial of one of the comparison sorts in sort.elementary or sort.linearithmic.
+     *
+     * @param sorter      the (simple) class name of the sorter, e.g. "HeapSort" (ShellSort and ShellSortPure use mode 3).
+     * @param elementType one of "Integer", "Double" or "String".
+     * @param keys        the keys (see Distribution) from which the elements are derived.
+     * @return a new SortTrial.
+     */
+    public static SortTrial<?> create(String sorter, String elementType, int[] keys) {
+        switch (elementType) {
+            case "Integer":
+                return create(sorter, integers(keys));
+            case "Double":
+                return create(sorter, doubles(keys));
+            case "String":
+                return create(sorter, strings(keys));
+            default:
+                throw new IllegalArgumentException("unknown element type: " + elementType);
+        }
+    }
+
+    /**
+     * Method to create a SortTrial of one of the comparison sorts in sort.elementary or sort.linearithmic.
+     *
+     * @param sorter   the (simple) class name of the sorter.
+     * @param original the array to be sorted.
+     * @param <Y>      the underlying comparable type.
+     * @return a new SortTrial.
+     */
+    public static <Y extends Comparable<Y>> SortTrial<Y> create(String sorter, Y[] original) {
+        if (sorter.equals("InsertionSortBasic")) {
+            InsertionSortBasic insertionSortBasic = new InsertionSortBasic();
+            return new SortTrial<>(sorter, original, insertionSortBasic::sort);
+        }
+        Helper<Y> helper = new BaseHelper<>(sorter, original.length, 0L, config);
+        SortWithHelper<Y> sortWithHelper = createSorter(sorter, helper);
+        return new SortTrial<>(sorter, original, sortWithHelper::mutatingSort);
+    }
+
+    /**
+     * Method to create a SortTrial of one of the String sorts in sort.counting.
+     *
+     * @param sorter   either "LSDStringSort" or "MSDStringSort".
+     * @param original the array to be sorted.
+     * @return a new SortTrial.
+     */
+    public static SortTrial<String> createStringSort(String sorter, String[] original) {
+        switch (sorter) {
+            case "LSDStringSort":
+                LSDStringSort lsdStringSort = new LSDStringSort();
+                return new SortTrial<>(sorter, original, lsdStringSort::sort);
+            case "MSDStringSort":
+                MSDStringSort msdStringSort = new MSDStringSort(new BaseHelper<>(sorter, original.length, 0L, config));
+                return new SortTrial<>(sorter, original, msdStringSort::mutatingSort);
+            default:
+                throw new IllegalArgumentException("unknown String sorter: " + sorter);
+        }
+    }
+
+    /**
+     * Method to create a sorter (with the given helper) from its class name.
+     */
+    static <Y extends Comparable<Y>> SortWithHelper<Y> createSorter(String sorter, Helper<Y> helper) {
+        switch (sorter) {
+            case "BubbleSort":
+                return new BubbleSort<>(helper);
+            case "SelectionSort":
+                return new SelectionSort<>(helper);
+            case "InsertionSort":
+                return new InsertionSort<>(helper);
+            case "InsertionSortOpt":
+                return new InsertionSortOpt<>(helper);
+            case "ShellSort":
+                return new ShellSort<>(3, helper);
+            case "ShellSortPure":
+                return new ShellSortPure<>(3, helper);
+            case "HeapSort":
+                return new HeapSort<>(helper);
+            case "HeapSortPure":
+                return new HeapSortPure<>(helper);
+            case "RandomSort":
+                return new RandomSort<>(helper);
+            case "MergeSortBasic":
+                return new MergeSortBasic<>(helper);
+            case "MergeSort":
+                return new MergeSort<>(helper);
+            case "QuickSort_Basic":
+                return new QuickSort_Basic<>(helper);
+            case "QuickSort_3way":
+                return new QuickSort_3way<>(helper);
+            case "QuickSort_DualPivot":
+                return new QuickSort_DualPivot<>(helper);
+            case "QuickSort_Exp":
+                return new QuickSort_Exp<>(helper);
+            case "IntroSort":
+                return new IntroSort<>(helper);
+            case "TimSort":
+                return new TimSort<>(helper);
+            default:
+                throw new IllegalArgumentException("unknown sorter: " + sorter);
+        }
+    }
+
+    public static Integer[] integers(int[] keys) {
+        Integer[] result = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) result[i] = keys[i];
+        return result;
+    }
+
+    public static Double[] doubles(int[] keys) {
+        Double[] result = new Double[keys.length];
+        for (int i = 0; i < keys.length; i++) result[i] = keys[i] / 16.0;
+        return result;
+    }
+
+    /**
+     * Method to convert keys to Strings which sort in the same order (by padding them with zeroes to the same length).
+     */
+    public static String[] strings(int[] keys) {
+        String[] result = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) result[i] = String.format("%010d", keys[i]);
+        return result;
+    }
+
+    private static final Config config = Config.setupConfig("false", "0", "0", "", "");
+
+    private final String description;
+    private final X[] original;
+    private final X[] xs;
+    private final Consumer<X[]> sorter;
+}
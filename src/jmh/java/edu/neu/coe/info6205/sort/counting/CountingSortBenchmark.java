@@ -0,0 +1,89 @@
+package edu.neu.coe.info6205.sort.counting;
+
+import edu.neu.coe.info6205.sort.Distribution;
+import edu.neu.coe.info6205.sort.SortTrial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the sorts in this package.
+ * <p>
+ * Unlike the comparison sorts, each of these sorts only one element type:
+ * LSDStringSort and MSDStringSort sort Strings (the keys padded with zeroes to ten digits, see SortTrial.strings);
+ * RadixSort sorts the (non-negative) int keys themselves.
+ * NOTE MSDStringSort fails until it is implemented: JMH reports the failure and moves on to the next benchmark.
+ * <p>
+ * Run by: java -cp target/benchmarks.jar edu.neu.coe.info6205.sort.SortBenchmarks (after mvn -P jmh package)
+ * or by: java -jar target/benchmarks.jar CountingSortBenchmark -rf json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CountingSortBenchmark {
+
+    @Param({"LSDStringSort", "MSDStringSort", "RadixSort"})
+    public String sorter;
+
+    @Param({"10000", "100000", "1000000"})
+    public int n;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "PARTIALLY_SORTED", "FEW_DISTINCT"})
+    public Distribution distribution;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        int[] keys = distribution.keys(n, new Random(0L));
+        if (sorter.equals("RadixSort")) {
+            original = keys;
+            xs = new int[n];
+            radixSort = new RadixSort();
+        } else trial = SortTrial.createStringSort(sorter, SortTrial.strings(keys));
+    }
+
+    /**
+     * NOTE the overhead of Level.Invocation is small by comparison with a sort of n elements.
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        if (trial != null) trial.restore();
+        else System.arraycopy(original, 0, xs, 0, n);
+    }
+
+    @TearDown(Level.Trial)
+    public void check() {
+        if (trial != null) trial.check();
+        else for (int i = 1; i < n; i++) if (xs[i - 1] > xs[i]) throw new RuntimeException("RadixSort: not sorted at " + i);
+    }
+
+    /**
+     * NOTE the branch on trial is perfectly predictable and costs nothing by comparison with the sort.
+     */
+    @Benchmark
+    public Object sort() throws Exception {
+        if (trial != null) return trial.sort();
+        radixSort.sort(xs, 0, n - 1);
+        return xs;
+    }
+
+    private SortTrial<String> trial;
+    private RadixSort radixSort;
+    private int[] original;
+    private int[] xs;
+}
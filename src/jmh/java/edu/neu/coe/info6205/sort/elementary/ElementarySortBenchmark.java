@@ -0,0 +1,78 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.Distribution;
+import edu.neu.coe.info6205.sort.SortTrial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the comparison sorts in this package (on arrays of Integer, Double or String),
+ * replacing the hand-rolled warmup and timing of SortBenchmark/SorterBenchmark.
+ * The primitive sorts are benchmarked by PrimitiveSortBenchmark.
+ * <p>
+ * Because most of these sorts are quadratic, the default sizes are small: use -p n=... to override them.
+ * NOTE InsertionSort, InsertionSortBasic and RandomSort (which finishes with InsertionSort) fail until InsertionSort is implemented:
+ * JMH reports the failure and moves on to the next benchmark.
+ * <p>
+ * Run by: java -cp target/benchmarks.jar edu.neu.coe.info6205.sort.SortBenchmarks (after mvn -P jmh package)
+ * or by: java -jar target/benchmarks.jar ElementarySortBenchmark -rf json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementarySortBenchmark {
+
+    @Param({"BubbleSort", "SelectionSort", "InsertionSort", "InsertionSortBasic", "InsertionSortOpt", "RandomSort", "ShellSort", "ShellSortPure", "HeapSort", "HeapSortPure"})
+    public String sorter;
+
+    @Param({"1000", "10000"})
+    public int n;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "PARTIALLY_SORTED", "FEW_DISTINCT"})
+    public Distribution distribution;
+
+    @Param({"Integer", "Double", "String"})
+    public String elementType;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        trial = SortTrial.create(sorter, elementType, distribution.keys(n, new Random(0L)));
+    }
+
+    /**
+     * NOTE the overhead of Level.Invocation is small by comparison with a sort of n elements.
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        trial.restore();
+    }
+
+    @TearDown(Level.Trial)
+    public void check() {
+        trial.check();
+    }
+
+    @Benchmark
+    public Object sort() {
+        return trial.sort();
+    }
+
+    private SortTrial<?> trial;
+}
@@ -0,0 +1,144 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of HeapSort and ShellSort (whose inner loops call the Helper)
+ * against HeapSortPure and ShellSortPure (whose inner loops do not), all with a non-instrumented BaseHelper.
+ * <p>
+ * When polluted is true, the Helper call sites of HeapSort and ShellSort are first exercised (before warmup)
+ * with three different classes of Helper so that the JIT compiler sees them as megamorphic
+ * and can no longer inline compare, swap, etc.
+ * This is what happens in a program which uses more than one kind of Helper.
+ * The Pure sorts have no Helper call sites in their inner loops and so should be unaffected by pollution.
+ * <p>
+ * Run by: java -jar target/benchmarks.jar HelperDispatchBenchmark (after mvn -P jmh package).
+ * To see the inlining decisions, add: -jvmArgsAppend "-XX:+UnlockDiagnosticVMOptions -XX:+PrintInlining".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HelperDispatchBenchmark {
+
+    @Param({"10000"})
+    public int n;
+
+    @Param({"false", "true"})
+    public boolean polluted;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        Config config = Config.setupConfig("false", "0", "0", "", "");
+        Helper<Integer> helper = new BaseHelper<>("HelperDispatchBenchmark", n, 0L, config);
+        original = helper.random(Integer.class, Random::nextInt);
+        xs = new Integer[n];
+        heapSort = new HeapSort<>(helper);
+        shellSort = new ShellSort<>(3, helper);
+        heapSortPure = new HeapSortPure<>(helper);
+        shellSortPure = new ShellSortPure<>(3, helper);
+        if (polluted) pollute(config);
+    }
+
+    /**
+     * NOTE the overhead of Level.Invocation is small by comparison with a sort of n elements.
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        System.arraycopy(original, 0, xs, 0, n);
+    }
+
+    @Benchmark
+    public Integer[] heapSort() {
+        heapSort.mutatingSort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public Integer[] heapSortPure() {
+        heapSortPure.mutatingSort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public Integer[] shellSort() {
+        shellSort.mutatingSort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public Integer[] shellSortPure() {
+        shellSortPure.mutatingSort(xs);
+        return xs;
+    }
+
+    /**
+     * Method to run HeapSort and ShellSort with three different classes of (non-instrumented) Helper.
+     * NOTE the two subclasses must override the methods called by the sorts (as InstrumentedHelper does):
+     * otherwise class hierarchy analysis would still allow the JIT compiler to inline BaseHelper's methods.
+     */
+    private void pollute(Config config) {
+        List<Helper<Integer>> helpers = List.of(
+                new BaseHelper<>("base", config),
+                new DelegatingHelper("subclass 1", config),
+                new DelegatingHelper("subclass 2", config) {
+                }
+        );
+        for (int i = 0; i < 3000; i++) {
+            Helper<Integer> helper = helpers.get(i % helpers.size());
+            Integer[] ys = Arrays.copyOf(original, Math.min(n, 100));
+            SortWithHelper<Integer> sorter = i % 2 == 0 ? new HeapSort<>(helper) : new ShellSort<>(3, helper);
+            sorter.mutatingSort(ys);
+        }
+    }
+
+    static class DelegatingHelper extends BaseHelper<Integer> {
+        DelegatingHelper(String description, Config config) {
+            super(description, config);
+        }
+
+        @Override
+        public int compare(Integer[] xs, int i, int j) {
+            return super.compare(xs, i, j);
+        }
+
+        @Override
+        public void swap(Integer[] xs, int i, int j) {
+            super.swap(xs, i, j);
+        }
+
+        @Override
+        public boolean swapConditional(Integer[] xs, int i, int j) {
+            return super.swapConditional(xs, i, j);
+        }
+    }
+
+    private Integer[] original;
+    private Integer[] xs;
+    private HeapSort<Integer> heapSort;
+    private ShellSort<Integer> shellSort;
+    private HeapSortPure<Integer> heapSortPure;
+    private ShellSortPure<Integer> shellSortPure;
+}
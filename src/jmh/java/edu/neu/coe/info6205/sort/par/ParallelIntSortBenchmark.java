@@ -0,0 +1,96 @@
+package edu.neu.coe.info6205.sort.par;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the parallel sorts of int[] in this package against Arrays.parallelSort.
+ * All the sorts (including Arrays.parallelSort) use the threads of the common pool.
+ * <p>
+ * Run by: java -jar target/benchmarks.jar ParallelIntSortBenchmark (after mvn -P jmh package).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelIntSortBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int n;
+
+    @Param({"10000"})
+    public int cutoff;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        Random random = new Random(0L);
+        original = new int[n];
+        for (int i = 0; i < n; i++) original[i] = random.nextInt();
+        xs = new int[n];
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        mergeSort = new ParallelMergeSort(pool, cutoff);
+        radixSort = new ParallelRadixSort(pool, cutoff);
+        sampleSort = new ParallelSampleSort(pool, cutoff, new Random(0L));
+    }
+
+    /**
+     * NOTE the array is restored before every invocation (which takes milliseconds, so the overhead of Level.Invocation is negligible).
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        System.arraycopy(original, 0, xs, 0, n);
+    }
+
+    @TearDown(Level.Trial)
+    public void check() {
+        for (int i = 1; i < n; i++) if (xs[i - 1] > xs[i]) throw new RuntimeException("not sorted at " + i);
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        Arrays.parallelSort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public int[] parallelMergeSort() {
+        mergeSort.sort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public int[] parallelRadixSort() {
+        radixSort.sort(xs);
+        return xs;
+    }
+
+    @Benchmark
+    public int[] parallelSampleSort() {
+        sampleSort.sort(xs);
+        return xs;
+    }
+
+    private int[] original;
+    private int[] xs;
+    private ParallelMergeSort mergeSort;
+    private ParallelRadixSort radixSort;
+    private ParallelSampleSort sampleSort;
+}
@@ -0,0 +1,110 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.Playout;
+
+import java.util.Arrays;
+
+import static edu.neu.coe.info6205.mcts.ConnectFour.BitboardPosition.bit;
+import static edu.neu.coe.info6205.mcts.ConnectFour.BitboardPosition.fourInARow;
+import static edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourPosition.gridColumns;
+import static edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourPosition.gridRows;
+
+/**
+ * BitboardPlayout class is a mutable version of BitboardPosition which plays (and undoes) moves in place.
+ * A move is simply the column number.
+ */
+public class BitboardPlayout implements Playout {
+
+    /**
+     * Constructor to create a BitboardPlayout which starts from the given position.
+     *
+     * @param position the starting position (which is not changed).
+     */
+    public BitboardPlayout(BitboardPosition position) {
+        this.x = position.x;
+        this.o = position.o;
+        this.heights = Arrays.copyOf(position.heights, gridColumns);
+        this.count = position.count;
+        this.initialCount = position.count;
+        this.last = position.last;
+        this.initialLast = position.last;
+        this.won = position.winner().isPresent();
+        this.history = new int[gridRows * gridColumns];
+    }
+
+    public int player() {
+        return last == ConnectFour.X ? ConnectFour.O : ConnectFour.X;
+    }
+
+    public boolean isTerminal() {
+        return won || count == gridRows * gridColumns;
+    }
+
+    public int winner() {
+        return won ? last : ConnectFour.BLANK;
+    }
+
+    public int maxMoves() {
+        return gridColumns;
+    }
+
+    public int moves(int[] buffer) {
+        int n = 0;
+        for (int column = 0; column < gridColumns; column++)
+            if (heights[column] < gridRows) buffer[n++] = column;
+        return n;
+    }
+
+    public void play(int column) {
+        int player = player();
+        long bit = bit(column, heights[column]++);
+        if (player == ConnectFour.X) {
+            x |= bit;
+            won = fourInARow(x);
+        } else {
+            o |= bit;
+            won = fourInARow(o);
+        }
+        history[count++] = column;
+        last = player;
+    }
+
+    public void undo() {
+        if (count == initialCount) throw new RuntimeException("no move to undo");
+        int column = history[--count];
+        long bit = bit(column, --heights[column]);
+        if (last == ConnectFour.X) x &= ~bit;
+        else o &= ~bit;
+        last = count == initialCount ? initialLast : 1 - last;
+        won = false;
+    }
+
+    /**
+     * Method to determine (without playing it) whether a counter in the given column would complete four in a row.
+     *
+     * @param player the player (X or O), who need not be the player to move.
+     * @param column a column which is not full.
+     * @return true if player would win by playing in column.
+     */
+    public boolean wins(int player, int column) {
+        long bit = bit(column, heights[column]);
+        return fourInARow((player == ConnectFour.X ? x : o) | bit);
+    }
+
+    /**
+     * @return the position which has been reached.
+     */
+    public BitboardPosition position() {
+        return new BitboardPosition(x, o, Arrays.copyOf(heights, gridColumns), count, last);
+    }
+
+    private long x;
+    private long o;
+    private final int[] heights;
+    private final int[] history;
+    private final int initialCount;
+    private final int initialLast;
+    private int count;
+    private int last;
+    private boolean won;
+}
@@ -0,0 +1,253 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourPosition.gridColumns;
+import static edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourPosition.gridRows;
+
+/**
+ * BitboardPosition class represents a position of the Connect Four game as a pair of bitboards.
+ * <p>
+ * Each column occupies <code>gridRows + 1</code> bits of a long (the extra bit is a sentinel which is always zero
+ * so that lines cannot wrap from one column to the next): bit <code>column * (gridRows + 1) + row</code>
+ * (where row 0 is the bottom row) is set if the player has a piece in that cell.
+ * <p>
+ * Only the player who made the last move can have won, and four-in-a-row is detected with four shift-and-mask
+ * operations (one per direction), so <code>winner()</code> is O(1).
+ * Unlike ConnectFourPosition, <code>move</code> copies only the (seven-element) column height array.
+ */
+public class BitboardPosition {
+
+    /**
+     * Primary constructor.
+     *
+     * @param x       the bitboard of player X.
+     * @param o       the bitboard of player O.
+     * @param heights the number of pieces in each column.
+     * @param count   the number of pieces on the board.
+     * @param last    the last player who made a move.
+     */
+    BitboardPosition(long x, long o, int[] heights, int count, int last) {
+        this.x = x;
+        this.o = o;
+        this.heights = heights;
+        this.count = count;
+        this.last = last;
+        this.won = last >= 0 && fourInARow(board(last));
+    }
+
+    /**
+     * @return the empty position (X to play).
+     */
+    public static BitboardPosition start() {
+        return new BitboardPosition(0L, 0L, new int[gridColumns], 0, ConnectFour.BLANK);
+    }
+
+    /**
+     * Method to create a BitboardPosition from a ConnectFourPosition (for example, one created by parsePosition).
+     *
+     * @param position a ConnectFourPosition (pieces are assumed to rest on the bottom of each column).
+     * @return the equivalent BitboardPosition.
+     */
+    public static BitboardPosition of(ConnectFourPosition position) {
+        long x = 0L;
+        long o = 0L;
+        int[] heights = new int[gridColumns];
+        int count = 0;
+        for (int column = 0; column < gridColumns; column++)
+            for (int row = 0; row < gridRows; row++) {
+                int cell = position.grid[gridRows - 1 - row][column];
+                if (cell < 0) continue;
+                long bit = bit(column, row);
+                if (cell == ConnectFour.X) x |= bit;
+                else o |= bit;
+                heights[column] = row + 1;
+                count++;
+            }
+        return new BitboardPosition(x, o, heights, count, position.last);
+    }
+
+    /**
+     * Make a move on the game board.
+     *
+     * @param player The player making the move.
+     * @param column The column in which to make the move.
+     * @return A new BitboardPosition representing the game board after the move.
+     * @throws RuntimeException If the position is full, the column is full or consecutive moves are made by the same player.
+     * @throws IllegalArgumentException If an invalid column is provided.
+     */
+    public BitboardPosition move(int player, int column) {
+        if (full()) throw new RuntimeException("Position is full");
+        if (player == last) throw new RuntimeException("Consecutive moves by the same player: " + player);
+        if (column < 0 || column >= gridColumns) throw new IllegalArgumentException("Invalid column: " + column);
+        if (heights[column] >= gridRows) throw new RuntimeException("Column is full: " + column);
+        long bit = bit(column, heights[column]);
+        int[] newHeights = Arrays.copyOf(heights, gridColumns);
+        newHeights[column]++;
+        if (player == ConnectFour.X) return new BitboardPosition(x | bit, o, newHeights, count + 1, player);
+        else return new BitboardPosition(x, o | bit, newHeights, count + 1, player);
+    }
+
+    /**
+     * Get the list of possible moves for the given player.
+     *
+     * @param player The player for whom to get the possible moves.
+     * @return A list of the columns which are not yet full.
+     * @throws RuntimeException If consecutive moves are made by the same player.
+     */
+    public List<Integer> moves(int player) {
+        if (player == last) throw new RuntimeException("Consecutive moves by the same player: " + player);
+        List<Integer> result = new ArrayList<>(gridColumns);
+        for (int column = 0; column < gridColumns; column++)
+            if (heights[column] < gridRows) result.add(column);
+        return result;
+    }
+
+    /**
+     * @param column a column.
+     * @return true if a piece may be played in column.
+     */
+    public boolean canPlay(int column) {
+        return heights[column] < gridRows;
+    }
+
+    /**
+     * Check if there is a winner on the current game board.
+     *
+     * @return An optional integer representing the winning player (the last player), or empty if no winner.
+     */
+    public Optional<Integer> winner() {
+        return won ? Optional.of(last) : Optional.empty();
+    }
+
+    /**
+     * Check if the game board is full.
+     *
+     * @return True if the game board is full, otherwise false.
+     */
+    public boolean full() {
+        return count == gridRows * gridColumns;
+    }
+
+    /**
+     * @return true if the game is over.
+     */
+    public boolean isTerminal() {
+        return won || full();
+    }
+
+    /**
+     * @return the grid (in the same form as ConnectFourPosition.grid: row 0 is the top row).
+     */
+    public int[][] grid() {
+        int[][] result = new int[gridRows][gridColumns];
+        for (int i = 0; i < gridRows; i++)
+            for (int j = 0; j < gridColumns; j++)
+                result[i][j] = cell(gridRows - 1 - i, j);
+        return result;
+    }
+
+    /**
+     * Method to yield the Zobrist hash of this position (the same as that of the equivalent ConnectFourPosition).
+     *
+     * @return the exclusive-or of the Zobrist keys of the occupied cells.
+     */
+    public long zobrist() {
+        return zobrist(false);
+    }
+
+    /**
+     * Method to yield a hash which is the same for this position and its mirror image.
+     *
+     * @return the lesser of the Zobrist hashes of this position and its mirror image.
+     */
+    public long canonicalHash() {
+        return Math.min(zobrist(false), zobrist(true));
+    }
+
+    private long zobrist(boolean mirror) {
+        long result = 0L;
+        for (int column = 0; column < gridColumns; column++)
+            for (int row = 0; row < heights[column]; row++) {
+                int key = mirror ? gridColumns - 1 - column : column;
+                result ^= ConnectFourPosition.zobristKey(key, row, (x & bit(column, row)) != 0 ? ConnectFour.X : ConnectFour.O);
+            }
+        return result;
+    }
+
+    /**
+     * Method to determine if the given bitboard has four pieces in a line.
+     *
+     * @param board a bitboard.
+     * @return true if there are four in a row: vertically, horizontally or on either diagonal.
+     */
+    static boolean fourInARow(long board) {
+        for (int shift : shifts) {
+            long pairs = board & (board >> shift);
+            if ((pairs & (pairs >> (2 * shift))) != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param column the column.
+     * @param row    the row (0 is the bottom).
+     * @return the bit which corresponds to the given cell.
+     */
+    static long bit(int column, int row) {
+        return 1L << (column * height + row);
+    }
+
+    @Override
+    public boolean equals(Object o1) {
+        if (this == o1) return true;
+        if (!(o1 instanceof BitboardPosition)) return false;
+        BitboardPosition that = (BitboardPosition) o1;
+        return x == that.x && o == that.o && last == that.last;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(x * 31 + o) * 31 + last;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = gridRows - 1; i >= 0; i--) {
+            for (int j = 0; j < gridColumns; j++) {
+                int cell = cell(i, j);
+                sb.append(cell == ConnectFour.BLANK ? "." : (cell == ConnectFour.X ? "X" : "O")).append(" ");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    private int cell(int row, int column) {
+        long bit = bit(column, row);
+        if ((x & bit) != 0) return ConnectFour.X;
+        if ((o & bit) != 0) return ConnectFour.O;
+        return ConnectFour.BLANK;
+    }
+
+    private long board(int player) {
+        return player == ConnectFour.X ? x : o;
+    }
+
+    // The number of bits per column (including the sentinel bit).
+    static final int height = gridRows + 1;
+
+    // The shifts for vertical, horizontal, and the two diagonal directions respectively.
+    private static final int[] shifts = {1, height, height - 1, height + 1};
+
+    final long x;
+    final long o;
+    final int[] heights;
+    final int count;
+    final int last;
+    private final boolean won;
+}
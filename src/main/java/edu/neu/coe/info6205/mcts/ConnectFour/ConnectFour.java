@@ -3,7 +3,9 @@ package edu.neu.coe.info6205.mcts.ConnectFour;
 import edu.neu.coe.info6205.mcts.core.Game;
 import edu.neu.coe.info6205.mcts.core.Move;
 import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.Playout;
 import edu.neu.coe.info6205.mcts.core.State;
+import edu.neu.coe.info6205.mcts.core.TranspositionTable;
 import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
 import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
 import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourPosition;
@@ -50,13 +52,14 @@ public class ConnectFour implements Game<ConnectFour> {
             if (mctsTurn) {
                 mcts.run(100);
                 System.out.println("Player: " + state.player() + " Move");
-                Node<ConnectFour> bestMove = mcts.bestChild(MCTS.root);
+                Node<ConnectFour> bestMove = mcts.bestChild(mcts.root());
                 if (bestMove == null) {
                     throw new Error("Best move is null");
                 }
                 state = bestMove.state();
                 System.out.println(state);
-                MCTS.root = new ConnectFourNode(state);
+                // NOTE the subtree beneath the chosen move is kept for the next search.
+                mcts.advance(state);
             } else {
                 // Random move
                 Collection<Move<ConnectFour>> legalMoves = state.moves(state.player());
@@ -65,6 +68,7 @@ public class ConnectFour implements Game<ConnectFour> {
                     throw new Error("Random move is null");
                 }
                 state = state.next(randomMove);
+                mcts.advance(state);
                 System.out.println("Player: " + state.player() + " Move");
                 System.out.println(state);
             }
@@ -104,6 +108,39 @@ public class ConnectFour implements Game<ConnectFour> {
         return new ConnectFourState();
     }
 
+    /**
+     * Get a starting state for this game which is backed by a BitboardPosition rather than a ConnectFourPosition.
+     * Such states are much cheaper to play out.
+     *
+     * @return a State of ConnectFour.
+     */
+    public State<ConnectFour> startBitboard() {
+        return new BitboardState(BitboardPosition.start());
+    }
+
+    /**
+     * Method to create a TranspositionTable for this game, keyed by the canonical (mirror-invariant) Zobrist hash
+     * of the position. States backed by ConnectFourPosition and by BitboardPosition hash identically.
+     *
+     * @param capacity the maximum number of entries.
+     * @return a new TranspositionTable.
+     */
+    public static TranspositionTable<ConnectFour> transpositionTable(int capacity) {
+        return new TranspositionTable<>(capacity, ConnectFour::canonicalHash);
+    }
+
+    /**
+     * Method to yield the canonical (mirror-invariant) Zobrist hash of the position of a State.
+     *
+     * @param state a State backed by either a ConnectFourPosition or a BitboardPosition.
+     * @return the canonical hash.
+     */
+    public static long canonicalHash(State<ConnectFour> state) {
+        if (state instanceof BitboardState) return ((BitboardState) state).position().canonicalHash();
+        if (state instanceof ConnectFourState) return ((ConnectFourState) state).connectFourPosition().canonicalHash();
+        throw new IllegalArgumentException("cannot hash state: " + state);
+    }
+
     @Override
     public int opener() {
         return X;
@@ -111,6 +148,9 @@ public class ConnectFour implements Game<ConnectFour> {
 
     private boolean mctsTurn = true; // Flag to alternate between MCTS and random moves
 
+    // NOTE this is created only when needed (it used to be created for every State).
+    private Scanner scanner;
+
     public class ConnectFourState implements State<ConnectFour> {
 
         private final ConnectFourPosition connectFourPosition;
@@ -182,6 +222,11 @@ public class ConnectFour implements Game<ConnectFour> {
             return moves(player).iterator();
         }
 
+        @Override
+        public Optional<Playout> playout() {
+            return Optional.of(new BitboardPlayout(BitboardPosition.of(connectFourPosition)));
+        }
+
         @Override
         public Move<ConnectFour> chooseMove(int player) {
             Collection<Move<ConnectFour>> legalMoves = moves(player);
@@ -198,9 +243,8 @@ public class ConnectFour implements Game<ConnectFour> {
             return iterator.next();
         }
 
-        private final Scanner scanner = new Scanner(System.in);
-
         public int getMove() {
+            if (scanner == null) scanner = new Scanner(System.in);
             System.out.print("Enter column number (0-6): ");
             while (!scanner.hasNextInt()) {
                 System.out.println("Invalid input. Please enter a number.");
@@ -214,6 +258,18 @@ public class ConnectFour implements Game<ConnectFour> {
             return column;
         }
 
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ConnectFourState)) return false;
+            return connectFourPosition.equals(((ConnectFourState) o).connectFourPosition);
+        }
+
+        @Override
+        public int hashCode() {
+            return connectFourPosition.hashCode();
+        }
+
         @Override
         public String toString() {
             StringBuilder sb = new StringBuilder();
@@ -226,4 +282,93 @@ public class ConnectFour implements Game<ConnectFour> {
             return sb.toString();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Inner class to define a State of ConnectFour which is backed by a BitboardPosition.
+     */
+    public class BitboardState implements State<ConnectFour> {
+
+        private final BitboardPosition position;
+
+        public BitboardState(BitboardPosition position) {
+            this.position = position;
+        }
+
+        public BitboardState(ConnectFourPosition position) {
+            this(BitboardPosition.of(position));
+        }
+
+        @Override
+        public ConnectFour game() {
+            return ConnectFour.this;
+        }
+
+        @Override
+        public boolean isTerminal() {
+            return position.isTerminal();
+        }
+
+        @Override
+        public int player() {
+            return switch (position.last) {
+                case BLANK, O -> X;
+                case X -> O;
+                default -> BLANK;
+            };
+        }
+
+        public BitboardPosition position() {
+            return position;
+        }
+
+        @Override
+        public Optional<Integer> winner() {
+            return position.winner();
+        }
+
+        @Override
+        public Random random() {
+            return random;
+        }
+
+        @Override
+        public Collection<Move<ConnectFour>> moves(int player) {
+            List<Integer> columns = position.moves(player);
+            ArrayList<Move<ConnectFour>> legalMoves = new ArrayList<>(columns.size());
+            for (Integer col : columns) legalMoves.add(new ConnectFourMove(player, col));
+            return legalMoves;
+        }
+
+        @Override
+        public State<ConnectFour> next(Move<ConnectFour> move) {
+            return new BitboardState(position.move(move.player(), ((ConnectFourMove) move).column()));
+        }
+
+        @Override
+        public Iterator<Move<ConnectFour>> moveIterator(int player) {
+            return moves(player).iterator();
+        }
+
+        @Override
+        public Optional<Playout> playout() {
+            return Optional.of(new BitboardPlayout(position));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BitboardState)) return false;
+            return position.equals(((BitboardState) o).position);
+        }
+
+        @Override
+        public int hashCode() {
+            return position.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return position.toString();
+        }
+    }
+}
@@ -1,29 +1,42 @@
 package edu.neu.coe.info6205.mcts.ConnectFour;
 
 import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.PackedStatistics;
 import edu.neu.coe.info6205.mcts.core.State;
+import edu.neu.coe.info6205.mcts.core.TranspositionTable;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class ConnectFourNode implements Node<ConnectFour> {
 
     private final State<ConnectFour> state;
-    private final ArrayList<Node<ConnectFour>> children;
-    private int wins;
-    private int playouts;
+    private final List<Node<ConnectFour>> children;
+    private final PackedStatistics statistics;
+    private final TranspositionTable<ConnectFour> table;
 
-    private final Random random = new Random();
     private Node<ConnectFour> parent;
 
-    public ConnectFourNode(State<ConnectFour> state) {
+    /**
+     * Primary constructor.
+     *
+     * @param state the State of this Node.
+     * @param table a TranspositionTable whose statistics are shared by this Node and its descendants (or null).
+     */
+    public ConnectFourNode(State<ConnectFour> state, TranspositionTable<ConnectFour> table) {
         this.state = state;
-        this.children = new ArrayList<>();
+        this.table = table;
+        this.statistics = table != null ? table.statistics(state) : new PackedStatistics();
+        this.children = new CopyOnWriteArrayList<>();
         initializeNodeData();
     }
 
+    public ConnectFourNode(State<ConnectFour> state) {
+        this(state, null);
+    }
+
     @Override
     public boolean isLeaf() {
         return state().isTerminal();
@@ -44,48 +57,65 @@ public class ConnectFourNode implements Node<ConnectFour> {
         return children;
     }
 
+    /**
+     * Method which adds the immediate children of this Node.
+     * NOTE with a TranspositionTable, the statistics of this Node may already include playouts which reached
+     * the same position by another move order: so, rather than resetting them (by backPropagate), they are left alone.
+     */
     @Override
     public void explore() {
-        Node.super.explore();
+        if (table == null) {
+            Node.super.explore();
+            return;
+        }
+        if (isLeaf()) return;
+        if (children.isEmpty()) expand();
+        else throw new RuntimeException("exploration done already for " + this);
     }
 
 
-
     @Override
-    public void addChild(State<ConnectFour> state) {
-        ConnectFourNode child = new ConnectFourNode(state);
+    public Node<ConnectFour> addChild(State<ConnectFour> state) {
+        ConnectFourNode child = new ConnectFourNode(state, table);
         child.setParent(this);  // Set the parent of the child
         children.add(child);
+        return child;
     }
 
     @Override
     public void backPropagate() {
-        playouts = 0;
-        wins = 0;
+        int wins = 0;
+        int playouts = 0;
         for (Node<ConnectFour> child : children) {
             wins += child.wins();
             playouts += child.playouts();
         }
+        statistics.set(wins, playouts);
     }
 
     @Override
     public int wins() {
-        return wins;
+        return statistics.wins();
     }
 
     @Override
     public void setWins(int wins) {
-        this.wins = wins;
+        statistics.setWins(wins);
     }
 
     @Override
     public int playouts() {
-        return playouts;
+        return statistics.playouts();
     }
 
     @Override
     public void setPlayouts(int playout) {
-        this.playouts = playout;
+        statistics.setPlayouts(playout);
+    }
+
+    @Override
+    public void addStatistics(int wins, int playouts) {
+        statistics.add(wins, playouts);
     }
 
     @Override
@@ -99,21 +129,21 @@ public class ConnectFourNode implements Node<ConnectFour> {
     }
 
     private void initializeNodeData() {
-        if (isLeaf()) {
-            playouts = 1;
+        // NOTE shared statistics which have already been initialized (by a transposition) are left alone.
+        if (isLeaf() && statistics.playouts() == 0) {
             Optional<Integer> winner = state.winner();
             if (winner.isPresent())
-                wins = 2; // A win is worth 2 points.
+                statistics.set(2, 1); // A win is worth 2 points.
             else
-                wins = 1; // A draw is worth 1 point.
+                statistics.set(1, 1); // A draw is worth 1 point.
         }
     }
     public void incrementPlayouts() {
-        this.playouts++;
+        statistics.add(0, 1);
     }
 
 
     public void addWins(int wins) {
-        this.wins += wins;
+        statistics.add(wins, 0);
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.OpeningBook;
+import edu.neu.coe.info6205.mcts.core.SearchBudget;
+import edu.neu.coe.info6205.mcts.core.State;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Builds an opening book for ConnectFour by searching the starting position, then shows the latency of
+ * loading the (memory-mapped) book and of serving the first move from it.
+ * <p>
+ * Usage: ConnectFourOpeningBook [iterations [minPlayouts [file]]].
+ */
+public class ConnectFourOpeningBook {
+
+    public static void main(String[] args) throws IOException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int minPlayouts = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        Path path = Paths.get(args.length > 2 ? args[2] : "connectfour.book");
+        State<ConnectFour> start = new ConnectFour(0L).startBitboard();
+        MCTS mcts = new MCTS(new ConnectFourNode(start));
+        long begin = System.nanoTime();
+        mcts.run(SearchBudget.iterations(iterations));
+        System.out.printf("ConnectFourOpeningBook: searched %d iterations in %.1f secs%n", iterations, (System.nanoTime() - begin) / 1E9);
+        int entries = OpeningBook.save(path, mcts.root(), ConnectFour::canonicalHash, minPlayouts);
+        System.out.println("Saved " + entries + " entries (" + Files.size(path) + " bytes) to " + path);
+        begin = System.nanoTime();
+        OpeningBook<ConnectFour> book = OpeningBook.load(path, ConnectFour::canonicalHash);
+        System.out.printf("Loaded book in %.3f millisecs%n", (System.nanoTime() - begin) / 1E6);
+        for (int i = 0; i < 3; i++) {
+            begin = System.nanoTime();
+            State<ConnectFour> move = book.bestMove(start, minPlayouts).orElseThrow();
+            System.out.printf("Book move in %.3f millisecs:%n%s", (System.nanoTime() - begin) / 1E6, move);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.PlayoutBenchmark;
+
+/**
+ * Benchmark which compares the speed and the heap allocation of random playouts from the starting position
+ * for states backed by ConnectFourPosition (int[][] grid) and by BitboardPosition,
+ * played out either by State.next or in place (by BitboardPlayout).
+ */
+public class ConnectFourPlayoutBenchmark {
+
+    public static void main(String[] args) {
+        int playouts = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        ConnectFour game = new ConnectFour(0L);
+        System.out.println("ConnectFourPlayoutBenchmark: playouts=" + playouts);
+        new PlayoutBenchmark<>(game.start(), playouts).report("ConnectFourPosition");
+        new PlayoutBenchmark<>(game.startBitboard(), playouts).report("BitboardPosition");
+    }
+}
@@ -0,0 +1,28 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.Playout;
+import edu.neu.coe.info6205.mcts.core.PlayoutPolicy;
+
+import java.util.Random;
+
+/**
+ * PlayoutPolicy for Connect Four which plays an immediate win if there is one,
+ * otherwise blocks an immediate win by the opponent, otherwise plays at random.
+ * <p>
+ * The test for a win is a handful of bitboard operations (see BitboardPlayout.wins) so this policy requires
+ * a BitboardPlayout; for any other Playout it falls back to PlayoutPolicy.immediateWin().
+ */
+public class ConnectFourPlayoutPolicy implements PlayoutPolicy {
+
+    public int choose(Playout playout, int[] moves, int n, Random random) {
+        if (!(playout instanceof BitboardPlayout)) return fallback.choose(playout, moves, n, random);
+        BitboardPlayout bitboard = (BitboardPlayout) playout;
+        int player = bitboard.player();
+        int opponent = player == ConnectFour.X ? ConnectFour.O : ConnectFour.X;
+        for (int i = 0; i < n; i++) if (bitboard.wins(player, moves[i])) return moves[i];
+        for (int i = 0; i < n; i++) if (bitboard.wins(opponent, moves[i])) return moves[i];
+        return moves[random.nextInt(n)];
+    }
+
+    private final PlayoutPolicy fallback = PlayoutPolicy.immediateWin();
+}
@@ -1,6 +1,9 @@
 package edu.neu.coe.info6205.mcts.ConnectFour;
 
+import edu.neu.coe.info6205.mcts.core.Zobrist;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -104,6 +107,62 @@ public class ConnectFourPosition {
         return count == gridRows * gridColumns;
     }
 
+    /**
+     * Method to yield the Zobrist hash of this position.
+     * The cell keys are indexed by <code>column * gridRows + row</code> (where row 0 is the bottom row)
+     * so that the hash agrees with that of the equivalent BitboardPosition.
+     *
+     * @return the exclusive-or of the Zobrist keys of the occupied cells.
+     */
+    public long zobrist() {
+        return zobrist(false);
+    }
+
+    /**
+     * Method to yield a hash which is the same for this position and its mirror image (reflect(0)).
+     * The other symmetries of the grid do not preserve the rules of the game.
+     *
+     * @return the lesser of the Zobrist hashes of this position and its mirror image.
+     */
+    public long canonicalHash() {
+        return Math.min(zobrist(false), zobrist(true));
+    }
+
+    private long zobrist(boolean mirror) {
+        long result = 0L;
+        for (int i = 0; i < gridRows; i++)
+            for (int j = 0; j < gridColumns; j++) {
+                int player = grid[i][j];
+                if (player >= 0) result ^= zobristKey(mirror ? gridColumns - 1 - j : j, gridRows - 1 - i, player);
+            }
+        return result;
+    }
+
+    /**
+     * @param column the column.
+     * @param row    the row (0 is the bottom).
+     * @param player the player.
+     * @return the Zobrist key for player occupying the given cell.
+     */
+    static long zobristKey(int column, int row, int player) {
+        return zobrist.key(column * gridRows + row, player);
+    }
+
+    private static final Zobrist zobrist = new Zobrist(gridRows * gridColumns, 2, 0x5DEECE66DL);
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ConnectFourPosition)) return false;
+        ConnectFourPosition that = (ConnectFourPosition) o;
+        return last == that.last && Arrays.deepEquals(grid, that.grid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(grid) * 31 + last;
+    }
+
     // Testing
 
     private int[][] copyGrid() {
@@ -0,0 +1,98 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.MCTSSolver;
+import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.SearchBudget;
+import edu.neu.coe.info6205.mcts.core.SearchReport;
+import edu.neu.coe.info6205.mcts.core.State;
+
+/**
+ * Endgame benchmark which compares plain MCTS with MCTS-Solver on some Connect Four positions
+ * (parsed by ConnectFourPosition.parsePosition).
+ * <p>
+ * For each position, the solver is run until it proves the root (or the budget is exhausted);
+ * plain MCTS is then given the same number of iterations.
+ * The report shows the proven winner, the number of iterations and time required, and the move chosen by each search.
+ * <p>
+ * Usage: ConnectFourSolverBenchmark [maxIterations].
+ */
+public class ConnectFourSolverBenchmark {
+
+    public static void main(String[] args) {
+        int maxIterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        System.out.println("ConnectFourSolverBenchmark: maxIterations=" + maxIterations);
+        for (String[] position : positions) run(position[0], position[1], Integer.parseInt(position[2]), maxIterations);
+    }
+
+    private static void run(String description, String grid, int last, int maxIterations) {
+        ConnectFour game = new ConnectFour(0L);
+        State<ConnectFour> state = game.new BitboardState(ConnectFourPosition.parsePosition(grid, last));
+        Node<ConnectFour> root = new ConnectFourNode(state);
+        MCTSSolver<ConnectFour> solver = new MCTSSolver<>(new MCTS(root));
+        SearchReport<ConnectFour> solved = solver.run(SearchBudget.iterations(maxIterations).andMillis(10_000));
+        MCTS mcts = new MCTS(new ConnectFourNode(state));
+        SearchReport<ConnectFour> plain = mcts.run(SearchBudget.iterations(solved.iterations()));
+        String winner = solver.winner(root).map(w -> w == ConnectFour.X ? "X" : "O").orElse("unproven");
+        System.out.printf("%s (%s to move): winner=%s, solver: %d iterations, %.1f millis, %d proofs, column %d; plain MCTS: %.1f millis, column %d%n",
+                description, state.player() == ConnectFour.X ? "X" : "O", winner, solved.iterations(), solved.nanos() / 1E6, solver.proofs(),
+                column(solved.bestMove()), plain.nanos() / 1E6, column(plain.bestMove()));
+    }
+
+    /**
+     * @param node a child of a root whose State is a BitboardState (or null if the root was never expanded).
+     * @return the column of the move which led to node (or -1 if node is null).
+     */
+    private static int column(Node<ConnectFour> node) {
+        if (node == null) return -1;
+        int[] before = ((ConnectFour.BitboardState) node.getParent().state()).position().heights;
+        int[] after = ((ConnectFour.BitboardState) node.state()).position().heights;
+        for (int column = 0; column < before.length; column++) if (before[column] != after[column]) return column;
+        return -1;
+    }
+
+    // Each position is a description, a grid (top row first) and the player who moved last.
+    private static final String[][] positions = {
+            {"win in 1",
+                    ". . . . . . .\n" +
+                            ". . . . . . .\n" +
+                            ". . . . . . .\n" +
+                            ". . . . . . .\n" +
+                            ". O O . . . .\n" +
+                            ". X X X . . O", "0"},
+            {"win in 3",
+                    ". . . . . . .\n" +
+                            ". . . . . . .\n" +
+                            ". . . . . . .\n" +
+                            ". . . . . . .\n" +
+                            ". . O O . . .\n" +
+                            ". . X X . . .", "0"},
+            {"loss in 2",
+                    ". . . . . . .\n" +
+                            ". . . . . . .\n" +
+                            ". . . . . . .\n" +
+                            ". . . . . . .\n" +
+                            ". . O O . . .\n" +
+                            ". X X X . . .", "1"},
+            {"win in 7",
+                    ". . . . . . X\n" +
+                            ". . . . . O O\n" +
+                            "O . . . . X X\n" +
+                            "O . . . O X O\n" +
+                            "X . X . O O X\n" +
+                            "X X O O O X X", "0"},
+            {"win in 13",
+                    ". . . . . . .\n" +
+                            ". X . O . . .\n" +
+                            ". X . X . . .\n" +
+                            "O O . X . O O\n" +
+                            "X X . O X X O\n" +
+                            "X O X O O X O", "0"},
+            {"loss in 18",
+                    ". X . O . . .\n" +
+                            ". X . X . . .\n" +
+                            ". X X O . . .\n" +
+                            ". O O O . . X\n" +
+                            "O X X O . O X\n" +
+                            "X X O X O O O", "0"},
+    };
+}
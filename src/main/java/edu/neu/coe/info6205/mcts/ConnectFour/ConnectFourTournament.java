@@ -0,0 +1,35 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.Engine;
+import edu.neu.coe.info6205.mcts.core.PUCT;
+import edu.neu.coe.info6205.mcts.core.PlayoutPolicy;
+import edu.neu.coe.info6205.mcts.core.SearchBudget;
+import edu.neu.coe.info6205.mcts.core.Tournament;
+import edu.neu.coe.info6205.mcts.core.UCB1;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Self-play tournament between two MCTS engines for ConnectFour (by default, UCB1 against PUCT).
+ * <p>
+ * Usage: ConnectFourTournament [games [iterations [parallelism [seed [csv file]]]]].
+ */
+public class ConnectFourTournament {
+
+    public static void main(String[] args) throws IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 0L;
+        String file = args.length > 4 ? args[4] : "tournament.csv";
+        SearchBudget budget = SearchBudget.iterations(iterations);
+        Engine<ConnectFour> a = Engine.mcts("UCB1", (s, r) -> new MCTS(new ConnectFourNode(s), new UCB1(1.44), PlayoutPolicy.random(), null, r), budget);
+        Engine<ConnectFour> b = Engine.mcts("PUCT", (s, r) -> new MCTS(new ConnectFourNode(s), new PUCT(1.5, 2), PlayoutPolicy.random(), null, r), budget);
+        System.out.println("ConnectFourTournament: games=" + games + ", iterations=" + iterations + ", parallelism=" + parallelism + ", seed=" + seed + ", csv=" + file);
+        try (Writer csv = new FileWriter(file)) {
+            System.out.println(new Tournament<>(s -> new ConnectFour(s).startBitboard(), a, b, games, seed, parallelism).run(csv));
+        }
+    }
+}
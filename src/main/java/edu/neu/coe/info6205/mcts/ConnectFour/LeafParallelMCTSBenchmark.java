@@ -0,0 +1,42 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.LeafParallelMCTS;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark which shows how the playouts per second of LeafParallelMCTS vary with the batch size
+ * (the number of playouts performed concurrently from each selected leaf).
+ */
+public class LeafParallelMCTSBenchmark {
+
+    public static void main(String[] args) {
+        int playouts = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(cores);
+        System.out.println("LeafParallelMCTSBenchmark: playouts=" + playouts + ", cores=" + cores);
+        System.out.println("Batch\tPlayouts/sec\tPlayouts at best move");
+        try {
+            for (int batch = 1; batch <= 32; batch *= 2) {
+                // NOTE the first run is a warmup.
+                run(batch, playouts / 10, pool);
+                long start = System.nanoTime();
+                MCTS mcts = run(batch, playouts, pool);
+                long nanos = System.nanoTime() - start;
+                System.out.printf("%d\t%.0f\t%d%n", batch, mcts.root().playouts() * 1E9 / nanos, mostPlayouts(mcts));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static MCTS run(int batch, int playouts, ForkJoinPool pool) {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        new LeafParallelMCTS<>(mcts, batch, pool).run(playouts / batch);
+        return mcts;
+    }
+
+    private static int mostPlayouts(MCTS mcts) {
+        return mcts.root().children().stream().mapToInt(n -> n.playouts()).max().orElse(0);
+    }
+}
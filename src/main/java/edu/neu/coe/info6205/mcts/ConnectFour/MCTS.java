@@ -1,50 +1,69 @@
 package edu.neu.coe.info6205.mcts.ConnectFour;
 
-import edu.neu.coe.info6205.mcts.core.Move;
+import edu.neu.coe.info6205.mcts.core.BaseMCTS;
 import edu.neu.coe.info6205.mcts.core.Node;
-import edu.neu.coe.info6205.mcts.core.State;
+import edu.neu.coe.info6205.mcts.core.PlayoutPolicy;
+import edu.neu.coe.info6205.mcts.core.ProgressiveWidening;
+import edu.neu.coe.info6205.mcts.core.SelectionPolicy;
+import edu.neu.coe.info6205.mcts.core.UCB1;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
 import java.util.Random;
 
-public class MCTS {
-
-    static Node<ConnectFour> root;
-
-    public MCTS(Node<ConnectFour> root) {
-        MCTS.root = root;
+/**
+ * Class to represent a Monte Carlo Tree Search for ConnectFour.
+ */
+public class MCTS extends BaseMCTS<ConnectFour> {
+
+    /**
+     * Primary constructor.
+     *
+     * @param root          the root Node.
+     * @param policy        the SelectionPolicy.
+     * @param playoutPolicy the PlayoutPolicy (used when the State of a node yields a Playout).
+     * @param widening      the ProgressiveWidening (or null to expand all the children of a node at once).
+     * @param random        the random source for the playouts (or null to use ThreadLocalRandom).
+     */
+    public MCTS(Node<ConnectFour> root, SelectionPolicy policy, PlayoutPolicy playoutPolicy, ProgressiveWidening widening, Random random) {
+        super(root, policy, playoutPolicy, widening, random);
     }
 
-    public void backPropagate(Node<ConnectFour> node, int result) {
-        while (node != null) {
-            int playout = node.playouts();
-            node.setPlayouts(playout+1);
-            int win = node.wins();
-            if ((node.state().player() == 1 && result == 1) ||
-                    (node.state().player() == 0 && result == -1)) {
-                node.setWins(win + 2);
-
-            } else if (result == 0) {
-                node.setWins(win + 1);
+    /**
+     * Secondary constructor whose playouts use ThreadLocalRandom.
+     *
+     * @param root          the root Node.
+     * @param policy        the SelectionPolicy.
+     * @param playoutPolicy the PlayoutPolicy (used when the State of a node yields a Playout).
+     * @param widening      the ProgressiveWidening (or null to expand all the children of a node at once).
+     */
+    public MCTS(Node<ConnectFour> root, SelectionPolicy policy, PlayoutPolicy playoutPolicy, ProgressiveWidening widening) {
+        this(root, policy, playoutPolicy, widening, null);
+    }
 
-            }
-            node = node.getParent();
-        }
+    /**
+     * Secondary constructor which uses random playouts and no progressive widening.
+     *
+     * @param root   the root Node.
+     * @param policy the SelectionPolicy.
+     */
+    public MCTS(Node<ConnectFour> root, SelectionPolicy policy) {
+        this(root, policy, PlayoutPolicy.random(), null);
     }
 
-    public int simulate(Node<ConnectFour> node) {
-        State<ConnectFour> state = node.state();
-        Random random = new Random();
-        while (!state.isTerminal()) {
-            List<Move<ConnectFour>> moves = new ArrayList<>(state.moves(state.player()));
-            Move<ConnectFour> move = moves.get(random.nextInt(moves.size()));
-            state = state.next(move);
-        }
-        return state.winner().orElse(0);
+    /**
+     * Secondary constructor which uses UCB1 with an exploration constant of 1.44.
+     *
+     * @param root the root Node.
+     */
+    public MCTS(Node<ConnectFour> root) {
+        this(root, new UCB1(1.44));
     }
 
+    /**
+     * Method to compute the UCB1 value of node directly (bestChild uses the SelectionPolicy instead).
+     *
+     * @param node a Node which has a parent.
+     * @return the UCB1 value of node (positive infinity if it has no playouts).
+     */
     public double ucb1(Node<ConnectFour> node) {
         double c = 1.44;
         int playouts = node.playouts();
@@ -54,36 +73,4 @@ public class MCTS {
         return node.wins() / (double) playouts +
                 c * Math.sqrt(Math.log(node.getParent().playouts()) / (double) playouts);
     }
-
-
-    public Node<ConnectFour> bestChild(Node<ConnectFour> node) {
-        if (node.children().isEmpty()) {
-            return null;
-        }
-
-        return node.children().stream()
-                .max(Comparator.comparingDouble(this::ucb1))
-                .orElseThrow(() -> new IllegalStateException("No best child found, but children list is not empty"));
-    }
-
-    public Node<ConnectFour> select(Node<ConnectFour> node) {
-        while (!node.isLeaf()) {
-            if (!node.children().isEmpty()) {
-                node = bestChild(node);
-            } else {
-                node.explore();
-                return node;
-            }
-        }
-        return node;
-    }
-
-    public void run(int iterations) {
-        for (int i = 0; i < iterations; i++) {
-            Node<ConnectFour> node = select(root);
-            int result = simulate(node);
-            backPropagate(node, result);
-        }
-    }
-
 }
@@ -0,0 +1,53 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.NodePool;
+import edu.neu.coe.info6205.mcts.core.State;
+
+import java.util.function.Function;
+
+/**
+ * Benchmark which compares the heap retained (per node) by an MCTS tree of ConnectFourNodes
+ * (one object per node, each with its own children list and State) with that retained by a NodePool.
+ * <p>
+ * Retained heap is measured as the difference in used heap (after garbage collection) before and after growing the tree.
+ */
+public class NodeMemoryBenchmark {
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        ConnectFour game = new ConnectFour(0L);
+        System.out.println("NodeMemoryBenchmark: iterations=" + iterations);
+        System.out.println("Nodes\tBytes/node\tIterations/sec\tDescription");
+        report("ConnectFourNode (ConnectFourPosition)", iterations, game.start(), ConnectFourNode::new);
+        report("ConnectFourNode (BitboardPosition)", iterations, game.startBitboard(), ConnectFourNode::new);
+        report("NodePool", iterations, game.startBitboard(), s -> new NodePool<>(s).root());
+    }
+
+    private static void report(String description, int iterations, State<ConnectFour> state, Function<State<ConnectFour>, Node<ConnectFour>> rootFunction) {
+        // NOTE the first tree is a warmup.
+        new MCTS(rootFunction.apply(state)).run(iterations / 10);
+        long before = usedHeap();
+        long start = System.nanoTime();
+        Node<ConnectFour> root = rootFunction.apply(state);
+        new MCTS(root).run(iterations);
+        long nanos = System.nanoTime() - start;
+        long bytes = usedHeap() - before;
+        long nodes = count(root);
+        System.out.printf("%d\t%.1f\t\t%.0f\t\t%s%n", nodes, (double) bytes / nodes, iterations * 1E9 / nanos, description);
+        // NOTE this keeps the tree reachable until its heap has been measured.
+        if (root.playouts() < 0) System.out.println(root);
+    }
+
+    private static long count(Node<ConnectFour> node) {
+        long result = 1;
+        for (Node<ConnectFour> child : node.children()) result += count(child);
+        return result;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
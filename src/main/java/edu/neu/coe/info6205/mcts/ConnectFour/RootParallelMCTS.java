@@ -0,0 +1,153 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Class to represent a root-parallel Monte Carlo Tree Search for ConnectFour.
+ * <p>
+ * Each of the <code>trees</code> tasks grows its own, completely independent, tree (using MCTS) from the same starting State.
+ * Nothing mutable is shared between the tasks, so no synchronization is required during the search.
+ * When all tasks are complete, the playouts and wins of the children of each root are merged
+ * and the move with the most (merged) playouts is chosen.
+ */
+public class RootParallelMCTS {
+
+    /**
+     * Run each of the trees for the given number of iterations and then merge the results.
+     *
+     * @param iterations the number of iterations for each tree.
+     * @return the State of the best child of the root (i.e. the State after the best move).
+     */
+    public State<ConnectFour> run(int iterations) {
+        List<Future<Node<ConnectFour>>> futures = new ArrayList<>(trees);
+        for (int i = 0; i < trees; i++)
+            futures.add(executor.submit(() -> {
+                MCTS mcts = new MCTS(new ConnectFourNode(state));
+                mcts.run(iterations);
+                return mcts.root();
+            }));
+        reset();
+        for (Future<Node<ConnectFour>> future : futures) merge(join(future));
+        return bestChild();
+    }
+
+    /**
+     * @return the State of the root child which has the greatest number of merged playouts (null if there are no children).
+     */
+    public State<ConnectFour> bestChild() {
+        int best = -1;
+        for (int i = 0; i < children.size(); i++)
+            if (best < 0 || playouts[i] > playouts[best]) best = i;
+        return best < 0 ? null : children.get(best);
+    }
+
+    /**
+     * @return the States of the children of the root, in the order in which they were expanded.
+     */
+    public List<State<ConnectFour>> children() {
+        return children;
+    }
+
+    /**
+     * @return the merged playouts of each child of the root (same order as children()).
+     */
+    public int[] playouts() {
+        return playouts;
+    }
+
+    /**
+     * @return the merged wins of each child of the root (same order as children()).
+     */
+    public int[] wins() {
+        return wins;
+    }
+
+    /**
+     * @return the total number of playouts over all trees.
+     */
+    public long totalPlayouts() {
+        return totalPlayouts;
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param state    the State from which each tree will be grown.
+     * @param trees    the number of independent trees.
+     * @param executor the executor on which the trees are to be grown.
+     */
+    public RootParallelMCTS(State<ConnectFour> state, int trees, ExecutorService executor) {
+        if (trees < 1) throw new IllegalArgumentException("trees must be positive: " + trees);
+        this.state = state;
+        this.trees = trees;
+        this.executor = executor;
+    }
+
+    /**
+     * Secondary constructor which uses the common fork-join pool.
+     *
+     * @param state the State from which each tree will be grown.
+     * @param trees the number of independent trees.
+     */
+    public RootParallelMCTS(State<ConnectFour> state, int trees) {
+        this(state, trees, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Merge the children of the given root into the merged statistics.
+     * NOTE: the children of every root appear in the same order because they are all expanded from the same State
+     * and ConnectFour yields its moves in column order.
+     *
+     * @param root the root of one of the trees.
+     */
+    private void merge(Node<ConnectFour> root) {
+        totalPlayouts += root.playouts();
+        if (children.isEmpty()) {
+            for (Node<ConnectFour> child : root.children()) children.add(child.state());
+            playouts = new int[children.size()];
+            wins = new int[children.size()];
+        }
+        if (root.children().size() != children.size())
+            throw new IllegalStateException("trees disagree on the number of children: " + root.children().size() + " vs " + children.size());
+        int i = 0;
+        for (Node<ConnectFour> child : root.children()) {
+            playouts[i] += child.playouts();
+            wins[i] += child.wins();
+            i++;
+        }
+    }
+
+    private void reset() {
+        children.clear();
+        playouts = new int[0];
+        wins = new int[0];
+        totalPlayouts = 0;
+    }
+
+    private static Node<ConnectFour> join(Future<Node<ConnectFour>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("root-parallel search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("root-parallel search failed", e.getCause());
+        }
+    }
+
+    private final State<ConnectFour> state;
+    private final int trees;
+    private final ExecutorService executor;
+    private final List<State<ConnectFour>> children = new ArrayList<>();
+    private int[] playouts = new int[0];
+    private int[] wins = new int[0];
+    private long totalPlayouts;
+}
@@ -0,0 +1,62 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.State;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Benchmark which shows how the playouts per second of RootParallelMCTS scale with the number of threads.
+ * <p>
+ * For each thread count, one tree per thread is grown for a fixed number of iterations,
+ * so that the total work grows in proportion to the number of threads.
+ */
+public class RootParallelMCTSBenchmark {
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("RootParallelMCTSBenchmark: iterations per tree=" + iterations + ", runs=" + runs + ", cores=" + cores);
+        System.out.println("Threads\tPlayouts/sec\tSpeedup");
+        double base = 0;
+        for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+            double rate = new RootParallelMCTSBenchmark(threads, iterations).run(runs);
+            if (base == 0) base = rate;
+            System.out.printf("%d\t%.0f\t\t%.2f%n", threads, rate, rate / base);
+            if (threads == cores) break;
+        }
+    }
+
+    /**
+     * Run the benchmark (after one warmup run).
+     *
+     * @param runs the number of timed runs.
+     * @return the mean number of playouts per second.
+     */
+    public double run(int runs) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            State<ConnectFour> state = new ConnectFour(0L).start();
+            new RootParallelMCTS(state, threads, executor).run(iterations);
+            long playouts = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                RootParallelMCTS mcts = new RootParallelMCTS(state, threads, executor);
+                mcts.run(iterations);
+                playouts += mcts.totalPlayouts();
+            }
+            return playouts * 1E9 / (System.nanoTime() - start);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public RootParallelMCTSBenchmark(int threads, int iterations) {
+        this.threads = threads;
+        this.iterations = iterations;
+    }
+
+    private final int threads;
+    private final int iterations;
+}
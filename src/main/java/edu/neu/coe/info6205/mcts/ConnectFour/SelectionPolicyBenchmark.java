@@ -0,0 +1,59 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.PUCT;
+import edu.neu.coe.info6205.mcts.core.SelectionPolicy;
+import edu.neu.coe.info6205.mcts.core.UCB1;
+import edu.neu.coe.info6205.mcts.core.UCB1Tuned;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Benchmark which compares the time taken to choose the best child of a node:
+ * by streaming over the children with a Comparator of MCTS.ucb1 (as bestChild used to do)
+ * and by each of the SelectionPolicy implementations.
+ * <p>
+ * The nodes are all the internal nodes of a tree grown by MCTS from the starting position.
+ */
+public class SelectionPolicyBenchmark {
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        mcts.run(iterations);
+        List<Node<ConnectFour>> nodes = new ArrayList<>();
+        collect(mcts.root(), nodes);
+        System.out.println("SelectionPolicyBenchmark: iterations=" + iterations + ", internal nodes=" + nodes.size() + ", repetitions=" + repetitions);
+        Function<Node<ConnectFour>, Node<ConnectFour>> stream = node -> node.children().stream().max(Comparator.comparingDouble(mcts::ucb1)).orElse(null);
+        report("stream of ucb1", nodes, repetitions, stream);
+        report("UCB1", nodes, repetitions, policy(new UCB1(1.44)));
+        report("UCB1Tuned", nodes, repetitions, policy(new UCB1Tuned(2)));
+        report("PUCT", nodes, repetitions, policy(new PUCT(1.5, 2)));
+    }
+
+    private static Function<Node<ConnectFour>, Node<ConnectFour>> policy(SelectionPolicy policy) {
+        return policy::select;
+    }
+
+    private static void report(String description, List<Node<ConnectFour>> nodes, int repetitions, Function<Node<ConnectFour>, Node<ConnectFour>> bestChild) {
+        // NOTE the first half of the repetitions are a warmup.
+        for (int i = 0; i < repetitions / 2; i++) for (Node<ConnectFour> node : nodes) sink += bestChild.apply(node).playouts();
+        long start = System.nanoTime();
+        for (int i = 0; i < repetitions; i++) for (Node<ConnectFour> node : nodes) sink += bestChild.apply(node).playouts();
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%s:\t%.1f nanosecs/selection%n", description, (double) nanos / repetitions / nodes.size());
+    }
+
+    private static void collect(Node<ConnectFour> node, List<Node<ConnectFour>> nodes) {
+        if (node.children().isEmpty()) return;
+        nodes.add(node);
+        for (Node<ConnectFour> child : node.children()) collect(child, nodes);
+    }
+
+    // NOTE this prevents the JIT compiler from eliminating the selections as dead code.
+    private static long sink;
+}
@@ -0,0 +1,181 @@
+package edu.neu.coe.info6205.mcts.core;
+
+/**
+ * Class to run the search of a TreeSearch within a SearchBudget (a wall-clock deadline, an iteration limit
+ * and/or a node limit) rather than for a fixed number of iterations.
+ * <p>
+ * The search is "anytime": bestMove() may be called at any moment (including from another thread while run is in progress)
+ * and a search may be cut short by calling stop().
+ * The budget is checked before every iteration so that the deadline is overrun by at most one iteration.
+ * <p>
+ * If a ProgressiveWidening is given, every Node on the path is first offered the chance to add a child;
+ * when it does so, the new child is simulated.
+ * Otherwise, unlike TreeSearch.select, a leaf is grown by Node.expand (rather than Node.explore) so that its statistics
+ * are not reset: this allows the number of nodes in the tree to be kept up to date without walking the tree.
+ *
+ * @param <G> the type of the Game.
+ */
+public class AnytimeSearch<G extends Game> {
+
+    /**
+     * Run the search until the budget is exhausted (or stop() is called).
+     *
+     * @param budget the SearchBudget.
+     * @return a SearchReport.
+     */
+    public SearchReport<G> run(SearchBudget budget) {
+        stopped = false;
+        long iterations = 0;
+        long start = System.nanoTime();
+        long elapsed = 0;
+        if (instrumentation != null) instrumentation.start();
+        while (!stopped && !budget.exhausted(iterations, elapsed, nodes)) {
+            iterate();
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        }
+        if (instrumentation != null) instrumentation.finish(iterations, elapsed);
+        return new SearchReport<>(bestMove(), iterations, elapsed, nodes, depth);
+    }
+
+    /**
+     * Method to cause run to return after the current iteration.
+     * This method may be called from any thread.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Method to yield the best move found so far: the child of the root with the most playouts.
+     * This method may be called from any thread.
+     *
+     * @return the best child of the root, or null if the root has not yet been expanded.
+     */
+    public Node<G> bestMove() {
+        return bestMove(search.root());
+    }
+
+    /**
+     * @param node a Node.
+     * @return the child of node with the most playouts, or null if node has no children.
+     */
+    public static <G extends Game> Node<G> bestMove(Node<G> node) {
+        Node<G> result = null;
+        for (Node<G> child : node.children())
+            if (result == null || child.playouts() > result.playouts()) result = child;
+        return result;
+    }
+
+    /**
+     * @return the number of nodes in the tree.
+     */
+    public long nodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the greatest depth reached by selection so far.
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Perform one iteration (select, expand, simulate, back-propagate) of the search.
+     * The clock is read only if this search is instrumented.
+     */
+    void iterate() {
+        boolean timing = instrumentation != null;
+        long start = timing ? System.nanoTime() : 0;
+        long expanding = 0;
+        Node<G> node = search.root();
+        int d = 0;
+        while (!node.isLeaf()) {
+            if (widening != null) {
+                long t = timing ? System.nanoTime() : 0;
+                boolean first = timing && node.children().isEmpty();
+                Node<G> child = widening.widen(node);
+                if (child != null) {
+                    if (timing) {
+                        long nanos = System.nanoTime() - t;
+                        expanding += nanos;
+                        instrumentation.expand(nanos, 1, first);
+                    }
+                    nodes++;
+                    node = child;
+                    d++;
+                    break;
+                }
+            } else if (node.children().isEmpty()) {
+                long t = timing ? System.nanoTime() : 0;
+                node.expand();
+                int children = node.children().size();
+                if (timing) {
+                    long nanos = System.nanoTime() - t;
+                    expanding += nanos;
+                    instrumentation.expand(nanos, children, true);
+                }
+                nodes += children;
+                break;
+            }
+            Node<G> child = search.bestChild(node);
+            if (child == null) break;
+            node = child;
+            d++;
+        }
+        if (d > depth) depth = d;
+        long selected = timing ? System.nanoTime() : 0;
+        int result = search.simulate(node);
+        long simulated = timing ? System.nanoTime() : 0;
+        search.backPropagate(node, result);
+        if (timing)
+            instrumentation.iteration(selected - start - expanding, simulated - selected, System.nanoTime() - simulated, d);
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param search          the TreeSearch whose tree will be grown (the tree need not be empty).
+     * @param widening        the ProgressiveWidening to be applied to every Node (or null to expand all children at once).
+     * @param instrumentation the SearchInstrumentation which records each run (or null for no instrumentation).
+     */
+    public AnytimeSearch(TreeSearch<G> search, ProgressiveWidening widening, SearchInstrumentation instrumentation) {
+        this.search = search;
+        this.widening = widening;
+        this.instrumentation = instrumentation;
+        this.nodes = count(search.root());
+    }
+
+    /**
+     * Secondary constructor (without instrumentation).
+     *
+     * @param search   the TreeSearch whose tree will be grown (the tree need not be empty).
+     * @param widening the ProgressiveWidening to be applied to every Node (or null to expand all children at once).
+     */
+    public AnytimeSearch(TreeSearch<G> search, ProgressiveWidening widening) {
+        this(search, widening, null);
+    }
+
+    /**
+     * Secondary constructor (without progressive widening or instrumentation).
+     *
+     * @param search the TreeSearch whose tree will be grown (the tree need not be empty).
+     */
+    public AnytimeSearch(TreeSearch<G> search) {
+        this(search, null);
+    }
+
+    static <G extends Game> long count(Node<G> node) {
+        long result = 1;
+        for (Node<G> child : node.children()) result += count(child);
+        return result;
+    }
+
+    private final TreeSearch<G> search;
+    private final ProgressiveWidening widening;
+    private final SearchInstrumentation instrumentation;
+    private volatile boolean stopped;
+    private long nodes;
+    private int depth;
+}
@@ -0,0 +1,179 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Abstract class to represent a (sequential) Monte Carlo Tree Search for a two-player game (G).
+ * <p>
+ * All the game-independent behavior (selection, simulation, reward, running to a budget and re-rooting) is defined here,
+ * so that the engine for each game need only bind the type of the Game and choose its defaults.
+ * A playout is a draw if its result is negative (each game uses -1 for a draw, as does Playout.winner).
+ *
+ * @param <G> the type of the Game.
+ */
+public abstract class BaseMCTS<G extends Game> implements TreeSearch<G> {
+
+    /**
+     * @return the root Node of this search tree.
+     */
+    public Node<G> root() {
+        return root;
+    }
+
+    /**
+     * Method to re-root this search tree after a move has been played (by either player),
+     * so that the playouts accumulated beneath the new root are carried over to the next search.
+     *
+     * @param state the State reached by the move.
+     * @return the new root.
+     * @throws IllegalArgumentException if state cannot be reached from the root in one move.
+     */
+    public Node<G> advance(State<G> state) {
+        root = TreeSearch.reRoot(root, state);
+        return root;
+    }
+
+    /**
+     * Method to choose the child of node to be followed during selection, according to the SelectionPolicy.
+     *
+     * @param node a Node.
+     * @return the best child of node (or null if it has no children).
+     */
+    public Node<G> bestChild(Node<G> node) {
+        return policy.select(node);
+    }
+
+    /**
+     * Method to descend from node (by bestChild) to the Node to be simulated,
+     * exploring the first unexplored Node which is encountered.
+     *
+     * @param node the Node from which to descend.
+     * @return the Node to be simulated.
+     */
+    public Node<G> select(Node<G> node) {
+        while (!node.isLeaf()) {
+            if (!node.children().isEmpty()) {
+                node = bestChild(node);
+            } else {
+                node.explore();
+                return node;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Method to play out the game from the given State, using the random source of this search
+     * (or ThreadLocalRandom if it has none).
+     * If the State yields a Playout, the moves are chosen by the PlayoutPolicy;
+     * otherwise, the game is played out uniformly at random using State.next.
+     *
+     * @param state the State from which to play out the game.
+     * @return the winner or -1 for a draw.
+     */
+    public int simulate(State<G> state) {
+        Random random = this.random != null ? this.random : ThreadLocalRandom.current();
+        Optional<Playout> playout = state.playout();
+        if (playout.isPresent()) return playout.get().playOut(random, playoutPolicy);
+        while (!state.isTerminal()) {
+            List<Move<G>> moves = new ArrayList<>(state.moves(state.player()));
+            state = state.next(moves.get(random.nextInt(moves.size())));
+        }
+        return state.winner().orElse(-1);
+    }
+
+    /**
+     * A win for the player who moved to node (i.e. the player who chose node at its parent) is worth 2 points,
+     * a draw is worth 1 point.
+     *
+     * @param node   a Node on the path from the simulated node to the root.
+     * @param result the result yielded by simulate (the winner or -1 for a draw).
+     * @return 2, 1 or 0.
+     */
+    public int reward(Node<G> node, int result) {
+        if (result < 0) return 1;
+        // NOTE the player to move at node is "white" so the player who moved to node is not.
+        return (result == opener) != node.white() ? 2 : 0;
+    }
+
+    /**
+     * Run the given number of iterations.
+     * Without progressive widening, each iteration is select (which explores the Node it reaches), simulate and back-propagate;
+     * with it, the iterations are run by AnytimeSearch (which widens each Node it passes through).
+     *
+     * @param iterations the number of iterations.
+     */
+    public void run(int iterations) {
+        if (widening != null) {
+            run(SearchBudget.iterations(iterations));
+            return;
+        }
+        for (int i = 0; i < iterations; i++) {
+            Node<G> node = select(root);
+            backPropagate(node, simulate(node));
+        }
+    }
+
+    /**
+     * Run the search until the given budget (a deadline, iteration limit and/or node limit) is exhausted.
+     *
+     * @param budget the SearchBudget.
+     * @return a SearchReport whose bestMove is the child of the root with the most playouts.
+     */
+    public SearchReport<G> run(SearchBudget budget) {
+        return run(budget, null);
+    }
+
+    /**
+     * Run the search until the given budget is exhausted, recording the run in the given SearchInstrumentation.
+     *
+     * @param budget          the SearchBudget.
+     * @param instrumentation the SearchInstrumentation (or null).
+     * @return a SearchReport whose bestMove is the child of the root with the most playouts.
+     */
+    public SearchReport<G> run(SearchBudget budget, SearchInstrumentation instrumentation) {
+        return new AnytimeSearch<>(this, widening, instrumentation).run(budget);
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param root          the root Node.
+     * @param policy        the SelectionPolicy.
+     * @param playoutPolicy the PlayoutPolicy (used when the State of a node yields a Playout).
+     * @param widening      the ProgressiveWidening (or null to expand all the children of a node at once).
+     * @param random        the random source for the playouts, so that a search run for a number of iterations is reproducible
+     *                      (or null to use ThreadLocalRandom, as is required if the search is run by more than one thread).
+     */
+    protected BaseMCTS(Node<G> root, SelectionPolicy policy, PlayoutPolicy playoutPolicy, ProgressiveWidening widening, Random random) {
+        this.root = root;
+        this.opener = root.state().game().opener();
+        this.policy = policy;
+        this.playoutPolicy = playoutPolicy;
+        this.widening = widening;
+        this.random = random;
+    }
+
+    /**
+     * Secondary constructor whose playouts use ThreadLocalRandom.
+     *
+     * @param root          the root Node.
+     * @param policy        the SelectionPolicy.
+     * @param playoutPolicy the PlayoutPolicy (used when the State of a node yields a Playout).
+     * @param widening      the ProgressiveWidening (or null to expand all the children of a node at once).
+     */
+    protected BaseMCTS(Node<G> root, SelectionPolicy policy, PlayoutPolicy playoutPolicy, ProgressiveWidening widening) {
+        this(root, policy, playoutPolicy, widening, null);
+    }
+
+    private Node<G> root;
+    private final int opener;
+    private final SelectionPolicy policy;
+    private final PlayoutPolicy playoutPolicy;
+    private final ProgressiveWidening widening;
+    private final Random random;
+}
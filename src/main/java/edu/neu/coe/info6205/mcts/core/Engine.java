@@ -0,0 +1,101 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+/**
+ * This interface defines a player (an "engine") of a game (G), for example in a Tournament.
+ * An Engine may be called concurrently (for different games) by several threads.
+ *
+ * @param <G> the type of the Game.
+ */
+public interface Engine<G extends Game> {
+
+    /**
+     * @return the name of this Engine (as it appears in reports).
+     */
+    String name();
+
+    /**
+     * Method to choose and play a move.
+     *
+     * @param state  a non-terminal State in which it is this Engine's turn to play.
+     * @param random a random source (seeded for the game being played).
+     * @return the State which results from this Engine's move.
+     */
+    State<G> move(State<G> state, Random random);
+
+    /**
+     * Method to create an Engine which chooses its move by a Monte Carlo Tree Search of the given budget
+     * (the move is the child of the root with the most playouts).
+     * A new tree is grown for every move.
+     * If the budget is exhausted before the root has been expanded (e.g. a tiny time budget), a random move is played instead.
+     * <p>
+     * The TreeSearch is given the random source of the game so that its playouts are determined by the seed of the game:
+     * a game between such Engines can then be replayed from its seed, provided that the budget is a number of iterations
+     * (a deadline depends on the speed of the machine) and that the Game of the starting State was seeded too.
+     *
+     * @param name    the name of the Engine.
+     * @param factory a function which creates a TreeSearch whose root has the given State and whose playouts use the given random source.
+     * @param budget  the SearchBudget for each move.
+     * @return an Engine.
+     */
+    static <G extends Game> Engine<G> mcts(String name, BiFunction<State<G>, Random, TreeSearch<G>> factory, SearchBudget budget) {
+        return new Engine<>() {
+            public String name() {
+                return name;
+            }
+
+            public State<G> move(State<G> state, Random random) {
+                Node<G> bestMove = new AnytimeSearch<>(factory.apply(state, random)).run(budget).bestMove();
+                return bestMove != null ? bestMove.state() : randomMove(state, random);
+            }
+        };
+    }
+
+    /**
+     * Method to create an Engine which plays uniformly at random.
+     *
+     * @param name the name of the Engine.
+     * @return an Engine.
+     */
+    static <G extends Game> Engine<G> random(String name) {
+        return new Engine<>() {
+            public String name() {
+                return name;
+            }
+
+            public State<G> move(State<G> state, Random random) {
+                return randomMove(state, random);
+            }
+        };
+    }
+
+    /**
+     * Method to create an Engine which plays from an OpeningBook while it can (i.e. while some successor of the State
+     * has at least minPlayouts playouts in the book) and otherwise defers to another Engine.
+     *
+     * @param book        the OpeningBook.
+     * @param minPlayouts the least number of playouts for a book move to be played.
+     * @param engine      the Engine to be used when the book has no move.
+     * @return an Engine with the same name as engine.
+     */
+    static <G extends Game> Engine<G> book(OpeningBook<G> book, int minPlayouts, Engine<G> engine) {
+        return new Engine<>() {
+            public String name() {
+                return engine.name();
+            }
+
+            public State<G> move(State<G> state, Random random) {
+                return book.bestMove(state, minPlayouts).orElseGet(() -> engine.move(state, random));
+            }
+        };
+    }
+
+    private static <G extends Game> State<G> randomMove(State<G> state, Random random) {
+        List<Move<G>> moves = new ArrayList<>(state.moves(state.player()));
+        return state.next(moves.get(random.nextInt(moves.size())));
+    }
+}
@@ -0,0 +1,130 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class to represent a leaf-parallel Monte Carlo Tree Search: each iteration selects (and expands) one leaf of the tree
+ * of a TreeSearch, as usual, but then plays out <code>batch</code> games from that leaf concurrently on a ForkJoinPool.
+ * The results are back-propagated together, in one walk up the tree (and with one update per Node).
+ * <p>
+ * Selection, expansion, back-propagation and the resolution of the selected leaf's State are performed by the calling thread only,
+ * so the Nodes of the tree need not be thread-safe, not even in Node.state (as in NodePool);
+ * but the simulate method of the TreeSearch must be.
+ * Compared with one playout per iteration, the tree is walked <code>batch</code> times less often,
+ * at the cost of a less well-informed choice of leaf.
+ *
+ * @param <G> the type of the Game.
+ */
+public class LeafParallelMCTS<G extends Game> {
+
+    /**
+     * Run the given number of iterations, each of which performs <code>batch</code> playouts.
+     *
+     * @param iterations the number of iterations.
+     */
+    public void run(int iterations) {
+        for (int i = 0; i < iterations; i++) iterate();
+    }
+
+    /**
+     * Perform one iteration: select, expand, simulate (batch times, concurrently) and back-propagate.
+     */
+    public void iterate() {
+        Node<G> node = select(search.root());
+        int[] results = new int[batch];
+        pool.invoke(new Playouts(node.state(), results, 0, batch));
+        backPropagate(node, results);
+    }
+
+    /**
+     * Method to add the results of a batch of playouts to node and each of its ancestors.
+     *
+     * @param node    the Node from which the playouts were simulated.
+     * @param results the results yielded by simulate.
+     */
+    void backPropagate(Node<G> node, int[] results) {
+        while (node != null) {
+            int wins = 0;
+            for (int result : results) wins += search.reward(node, result);
+            node.addStatistics(wins, results.length);
+            node = node.getParent();
+        }
+    }
+
+    /**
+     * Method to select the Node to be simulated, expanding the first unexpanded Node encountered.
+     *
+     * @param node the root.
+     * @return the Node to be simulated.
+     */
+    private Node<G> select(Node<G> node) {
+        while (!node.isLeaf()) {
+            if (node.children().isEmpty()) {
+                node.expand();
+                return node;
+            }
+            Node<G> child = search.bestChild(node);
+            if (child == null) return node;
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Task to perform the playouts (from state) from <code>from</code> (inclusive) to <code>to</code> (exclusive) of a batch,
+     * splitting itself in half until only one playout remains.
+     */
+    @SuppressWarnings("serial")
+    private class Playouts extends RecursiveAction {
+        Playouts(State<G> state, int[] results, int from, int to) {
+            this.state = state;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) results[from] = search.simulate(state);
+            else {
+                int mid = (from + to) >>> 1;
+                ForkJoinTask.invokeAll(new Playouts(state, results, from, mid), new Playouts(state, results, mid, to));
+            }
+        }
+
+        private final State<G> state;
+        private final int[] results;
+        private final int from;
+        private final int to;
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param search the (game-specific) TreeSearch whose tree is to be grown.
+     * @param batch  the number of playouts to be performed from each selected leaf.
+     * @param pool   the ForkJoinPool on which the playouts will run.
+     */
+    public LeafParallelMCTS(TreeSearch<G> search, int batch, ForkJoinPool pool) {
+        if (batch < 1) throw new IllegalArgumentException("batch must be positive: " + batch);
+        this.search = search;
+        this.batch = batch;
+        this.pool = pool;
+    }
+
+    /**
+     * Secondary constructor which uses the common pool.
+     *
+     * @param search the (game-specific) TreeSearch whose tree is to be grown.
+     * @param batch  the number of playouts to be performed from each selected leaf.
+     */
+    public LeafParallelMCTS(TreeSearch<G> search, int batch) {
+        this(search, batch, ForkJoinPool.commonPool());
+    }
+
+    private final TreeSearch<G> search;
+    private final int batch;
+    private final ForkJoinPool pool;
+}
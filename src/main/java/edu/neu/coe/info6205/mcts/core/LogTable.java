@@ -0,0 +1,27 @@
+package edu.neu.coe.info6205.mcts.core;
+
+/**
+ * Class which provides a precomputed table of natural logarithms of small non-negative integers,
+ * for use by selection policies (the playouts of a node are, after all, an integer).
+ */
+public final class LogTable {
+
+    /**
+     * @param n a non-negative integer.
+     * @return the natural logarithm of n (negative infinity for 0).
+     */
+    public static double log(int n) {
+        return n < size ? table[n] : Math.log(n);
+    }
+
+    private LogTable() {
+    }
+
+    private static final int size = 1 << 16;
+
+    private static final double[] table = new double[size];
+
+    static {
+        for (int i = 0; i < size; i++) table[i] = Math.log(i);
+    }
+}
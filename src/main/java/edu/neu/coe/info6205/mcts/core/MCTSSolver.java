@@ -0,0 +1,167 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Class to run the search of a TreeSearch as an MCTS-Solver (Winands, Björnsson and Saito, 2008):
+ * as well as the usual statistics, game-theoretic values are proven and propagated up the tree.
+ * <p>
+ * A node is proven (i.e. its winner, with best play, is known) if it is a terminal position which has a winner, or if
+ * <ul>
+ *     <li>one of its children is proven to be a win for the player to move at the node (who will therefore play that move); or</li>
+ *     <li>all of its children are proven to be wins for the other player.</li>
+ * </ul>
+ * When selection reaches a proven node, its winner is back-propagated without a simulation,
+ * so that no more playouts are wasted on a solved subtree.
+ * The search ends as soon as the root is proven.
+ * Drawn positions are not proven: they are simply simulated as usual.
+ * <p>
+ * Only the non-terminal proven nodes are recorded (in a map) so neither the Node implementations nor their memory footprint are affected.
+ *
+ * @param <G> the type of the Game.
+ */
+public class MCTSSolver<G extends Game> {
+
+    /**
+     * Run the search until the root is proven, or the budget is exhausted (or stop() is called).
+     *
+     * @param budget the SearchBudget.
+     * @return a SearchReport.
+     */
+    public SearchReport<G> run(SearchBudget budget) {
+        stopped = false;
+        long iterations = 0;
+        long start = System.nanoTime();
+        long elapsed = 0;
+        while (!stopped && !isSolved() && !budget.exhausted(iterations, elapsed, nodes)) {
+            iterate();
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        }
+        return new SearchReport<>(bestMove(), iterations, elapsed, nodes, depth);
+    }
+
+    /**
+     * Method to cause run to return after the current iteration.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * @return true if the root has been proven.
+     */
+    public boolean isSolved() {
+        return winner(search.root()).isPresent();
+    }
+
+    /**
+     * @param node a Node of the tree.
+     * @return the winner of node (with best play) if it has been proven, otherwise empty.
+     */
+    public Optional<Integer> winner(Node<G> node) {
+        Integer result = proven(node);
+        return result == null ? Optional.empty() : Optional.of(result);
+    }
+
+    /**
+     * Method to yield the best move found so far:
+     * if the root is proven to be a win for the player to move, a winning child; otherwise, the child with the most playouts.
+     *
+     * @return the best child of the root, or null if the root has not yet been expanded.
+     */
+    public Node<G> bestMove() {
+        Node<G> root = search.root();
+        Integer winner = proven(root);
+        if (winner != null && winner == root.state().player())
+            for (Node<G> child : root.children())
+                if (winner.equals(proven(child))) return child;
+        return AnytimeSearch.bestMove(root);
+    }
+
+    /**
+     * @return the number of (non-terminal) nodes which have been proven.
+     */
+    public int proofs() {
+        return proofs.size();
+    }
+
+    /**
+     * Perform one iteration of the search.
+     */
+    void iterate() {
+        Node<G> node = search.root();
+        int d = 0;
+        while (!node.isLeaf() && !proofs.containsKey(node)) {
+            if (node.children().isEmpty()) {
+                node.expand();
+                nodes += node.children().size();
+                prove(node);
+                break;
+            }
+            Node<G> child = search.bestChild(node);
+            if (child == null) break;
+            node = child;
+            d++;
+        }
+        if (d > depth) depth = d;
+        Integer winner = proven(node);
+        if (winner == null) {
+            search.backPropagate(node, search.simulate(node));
+            return;
+        }
+        for (Node<G> ancestor = node.getParent(); ancestor != null && !proofs.containsKey(ancestor); ancestor = ancestor.getParent())
+            if (!prove(ancestor)) break;
+        search.backPropagate(node, winner);
+    }
+
+    /**
+     * @param node a Node.
+     * @return the proven winner of node, or null if node is unproven.
+     */
+    private Integer proven(Node<G> node) {
+        if (node.isLeaf()) return node.state().winner().orElse(null);
+        return proofs.get(node);
+    }
+
+    /**
+     * Method to try to prove node from its children.
+     *
+     * @param node an expanded, non-terminal Node.
+     * @return true if node has been proven.
+     */
+    private boolean prove(Node<G> node) {
+        int player = node.state().player();
+        boolean all = true;
+        Integer other = null;
+        for (Node<G> child : node.children()) {
+            Integer winner = proven(child);
+            if (winner == null) all = false;
+            else if (winner == player) {
+                proofs.put(node, player);
+                return true;
+            } else other = winner;
+        }
+        if (!all || other == null) return false;
+        proofs.put(node, other);
+        return true;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param search the TreeSearch whose tree will be grown (the tree need not be empty, but it must not share Nodes with another tree).
+     */
+    public MCTSSolver(TreeSearch<G> search) {
+        this.search = search;
+        this.nodes = AnytimeSearch.count(search.root());
+    }
+
+    private final TreeSearch<G> search;
+    private final Map<Node<G>, Integer> proofs = new HashMap<>();
+    private volatile boolean stopped;
+    private long nodes;
+    private int depth;
+}
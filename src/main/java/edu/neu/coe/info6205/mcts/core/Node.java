@@ -42,11 +42,19 @@ public interface Node<G extends Game> {
     default void explore() {
         if (isLeaf()) return;
         if (children().isEmpty()) {
-            addChildren(state());
+            expand();
             backPropagate();
         } else throw new RuntimeException("exploration done already for " + this);
     }
 
+    /**
+     * Method which adds the immediate children of this Node but, unlike explore, leaves the wins and playouts alone.
+     * NOTE this is a mutating method.
+     */
+    default void expand() {
+        addChildren(state());
+    }
+
     /**
      * This method sets the number of wins and playouts according to the children states.
      */
@@ -56,8 +64,9 @@ public interface Node<G extends Game> {
      * Method to add a child to this Node.
      *
      * @param state the State for the new chile.
+     * @return the new child.
      */
-    void addChild(State<G> state);
+    Node<G> addChild(State<G> state);
 
     /**
      * @return the score for this Node and its descendents a win is worth 2 points, a draw is worth 1 point.
@@ -73,6 +82,18 @@ public interface Node<G extends Game> {
 
     void setPlayouts(int playout);
 
+    /**
+     * Method to add to the wins and playouts of this Node.
+     * Implementations which may be shared between threads should override this so that the update is atomic.
+     *
+     * @param wins     the wins to be added.
+     * @param playouts the playouts to be added.
+     */
+    default void addStatistics(int wins, int playouts) {
+        setWins(wins() + wins);
+        setPlayouts(playouts() + playouts);
+    }
+
     // Add methods to handle parent node
     Node<G> getParent();
     void setParent(Node<G> parent);
@@ -0,0 +1,371 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class to represent the Nodes of an MCTS tree for a game (G) as parallel primitive arrays (a "struct of arrays")
+ * rather than as one object (with its own children list, parent reference and State) per Node.
+ * <p>
+ * Each node is identified by an index into the arrays: its wins and playouts, the index of its parent,
+ * the index of its first child (the children of a node occupy consecutive indices), the number of its children,
+ * its move (the index of the move in the list yielded by <code>moves</code> of its parent's State) and some flags.
+ * That comes to 23 bytes per node.
+ * <p>
+ * States are not retained: the State of a node is reconstructed (when it is required) by replaying the moves
+ * from the nearest ancestor which has no parent (the root, or a node which has been detached by setParent(null)).
+ * The most recently reconstructed State is cached, and replay starts from it instead if it belongs to an ancestor:
+ * that way, expanding (or widening) a node and then simulating it (or one of its new children) costs at most one move.
+ * This assumes that <code>State.moves</code> yields its moves in a deterministic order, as it does for the games in this package.
+ * <p>
+ * Children may be allocated all at once (by expand) or one at a time (by addChild, as used by ProgressiveWidening).
+ * In the latter case, a block for all the possible children is reserved when the first is added, so that nodes never move.
+ * <p>
+ * The Node interface is implemented by lightweight views (see root() and Node.children()) so that a NodePool
+ * may be used by any of the searches which operate on Nodes from one thread (including LeafParallelMCTS, whose playouts
+ * start from a State resolved by the calling thread) but not by TreeParallelMCTS.
+ * Detached subtrees are not reclaimed until the pool itself is garbage-collected.
+ * A NodePool is not thread-safe.
+ *
+ * @param <G> the type of the Game.
+ */
+public class NodePool<G extends Game> {
+
+    /**
+     * @return the root Node of this pool.
+     */
+    public Node<G> root() {
+        return new PooledNode(0);
+    }
+
+    /**
+     * Method to determine whether a Node belongs to a NodePool.
+     * Such Nodes do not support setParent with a non-null parent.
+     *
+     * @param node a Node.
+     * @return true if node is a view of a node in a NodePool.
+     */
+    public static boolean isPooled(Node<?> node) {
+        return node instanceof NodePool.PooledNode;
+    }
+
+    /**
+     * @return the number of nodes allocated in this pool (including any reserved for children yet to be added by addChild).
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the number of bytes occupied by the arrays of this pool (including unused capacity).
+     */
+    public long bytes() {
+        return (long) capacity() * bytesPerNode;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param state    the State of the root.
+     * @param capacity the initial capacity (the arrays grow as required).
+     */
+    public NodePool(State<G> state, int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        wins = new int[capacity];
+        playouts = new int[capacity];
+        parent = new int[capacity];
+        firstChild = new int[capacity];
+        childCount = new short[capacity];
+        move = new int[capacity];
+        flags = new byte[capacity];
+        allocate(1);
+        initialize(0, -1, -1, state);
+        anchors.put(0, state);
+        cachedIndex = 0;
+        cachedState = state;
+    }
+
+    /**
+     * Secondary constructor.
+     *
+     * @param state the State of the root.
+     */
+    public NodePool(State<G> state) {
+        this(state, 1024);
+    }
+
+    /**
+     * Method to reconstruct the State of the given node.
+     *
+     * @param index the index of a node.
+     * @return its State.
+     */
+    State<G> state(int index) {
+        if (index == cachedIndex) return cachedState;
+        int depth = 0;
+        int i = index;
+        while (parent[i] >= 0 && i != cachedIndex) {
+            depth++;
+            i = parent[i];
+        }
+        int[] path = new int[depth];
+        for (int j = index; j != i; j = parent[j]) path[--depth] = move[j];
+        State<G> result = i == cachedIndex ? cachedState : anchors.get(i);
+        for (int m : path) result = result.next(moves(result).get(m));
+        cachedIndex = index;
+        cachedState = result;
+        return result;
+    }
+
+    /**
+     * Method to expand the given node: its children are allocated as one block of consecutive indices.
+     *
+     * @param index the index of a node which has no children.
+     */
+    void expand(int index) {
+        if (childCount[index] > 0) throw new RuntimeException("node has already been expanded: " + index);
+        State<G> state = state(index);
+        List<Move<G>> moves = moves(state);
+        if (moves.size() > Short.MAX_VALUE) throw new RuntimeException("too many moves: " + moves.size());
+        int first = allocate(moves.size());
+        for (int i = 0; i < moves.size(); i++) initialize(first + i, index, i, state.next(moves.get(i)));
+        firstChild[index] = first;
+        childCount[index] = (short) moves.size();
+    }
+
+    /**
+     * Method to add one child to the given node.
+     * When the first child is added, a block is reserved for all of the node's possible children:
+     * each subsequent child is appended to that block.
+     *
+     * @param index the index of a node which has not been expanded (by expand).
+     * @param state the State of the new child.
+     * @return the index of the new child.
+     * @throws IllegalArgumentException if state cannot be reached from the State of the node in one move.
+     */
+    int addChild(int index, State<G> state) {
+        State<G> current = state(index);
+        List<Move<G>> moves = moves(current);
+        int m = 0;
+        while (m < moves.size() && !current.next(moves.get(m)).equals(state)) m++;
+        if (m == moves.size()) throw new IllegalArgumentException("state cannot be reached from node " + index + " in one move");
+        int count = childCount[index];
+        if (count == 0) {
+            if (moves.size() > Short.MAX_VALUE) throw new RuntimeException("too many moves: " + moves.size());
+            // NOTE allocate may replace the arrays, so its result must not be assigned to firstChild[index] directly.
+            int first = allocate(moves.size());
+            firstChild[index] = first;
+        } else if (count == moves.size()) throw new RuntimeException("node has already been expanded: " + index);
+        int child = firstChild[index] + count;
+        initialize(child, index, m, state);
+        childCount[index] = (short) (count + 1);
+        return child;
+    }
+
+    private List<Move<G>> moves(State<G> state) {
+        return new ArrayList<>(state.moves(state.player()));
+    }
+
+    /**
+     * Method to initialize a node.
+     * As with TicTacToeNode and ConnectFourNode, a terminal node starts with one playout which is worth 2 (a win) or 1 (a draw).
+     */
+    private void initialize(int index, int parentIndex, int moveIndex, State<G> state) {
+        parent[index] = parentIndex;
+        move[index] = moveIndex;
+        firstChild[index] = -1;
+        childCount[index] = 0;
+        boolean terminal = state.isTerminal();
+        flags[index] = (byte) ((terminal ? TERMINAL : 0) | (state.player() == state.game().opener() ? WHITE : 0));
+        if (terminal) {
+            wins[index] = state.winner().isPresent() ? 2 : 1;
+            playouts[index] = 1;
+        }
+    }
+
+    /**
+     * @param n the number of consecutive nodes required.
+     * @return the index of the first of them.
+     */
+    private int allocate(int n) {
+        if (size + n > capacity()) {
+            int newCapacity = Math.max(capacity() * 2, size + n);
+            wins = Arrays.copyOf(wins, newCapacity);
+            playouts = Arrays.copyOf(playouts, newCapacity);
+            parent = Arrays.copyOf(parent, newCapacity);
+            firstChild = Arrays.copyOf(firstChild, newCapacity);
+            childCount = Arrays.copyOf(childCount, newCapacity);
+            move = Arrays.copyOf(move, newCapacity);
+            flags = Arrays.copyOf(flags, newCapacity);
+        }
+        int result = size;
+        size += n;
+        return result;
+    }
+
+    private int capacity() {
+        return wins.length;
+    }
+
+    /**
+     * Inner class which presents one node of this pool as a Node.
+     * Two PooledNodes are equal if they refer to the same node of the same pool.
+     */
+    class PooledNode implements Node<G> {
+
+        public boolean isLeaf() {
+            return (flags[index] & TERMINAL) != 0;
+        }
+
+        /**
+         * NOTE the State is reconstructed (unless it was the most recently reconstructed State of the pool):
+         * this is not thread-safe.
+         *
+         * @return the State of the Game G that this Node represents.
+         */
+        public State<G> state() {
+            return NodePool.this.state(index);
+        }
+
+        public boolean white() {
+            return (flags[index] & WHITE) != 0;
+        }
+
+        public Collection<Node<G>> children() {
+            int first = firstChild[index];
+            int count = childCount[index];
+            if (count == 0) return Collections.emptyList();
+            return new AbstractList<>() {
+                public Node<G> get(int i) {
+                    if (i < 0 || i >= count) throw new IndexOutOfBoundsException(i);
+                    return new PooledNode(first + i);
+                }
+
+                public int size() {
+                    return count;
+                }
+            };
+        }
+
+        @Override
+        public void expand() {
+            NodePool.this.expand(index);
+        }
+
+        public void backPropagate() {
+            int w = 0;
+            int p = 0;
+            for (int i = firstChild[index]; i < firstChild[index] + childCount[index]; i++) {
+                w += wins[i];
+                p += playouts[i];
+            }
+            wins[index] = w;
+            playouts[index] = p;
+        }
+
+        /**
+         * Method to add a child to this Node (which must not have been expanded).
+         * NOTE the move which yields state is found by comparing state with the result of each move in turn.
+         *
+         * @param state the State for the new child (which must be reachable from the State of this Node in one move).
+         */
+        public Node<G> addChild(State<G> state) {
+            return new PooledNode(NodePool.this.addChild(index, state));
+        }
+
+        public int wins() {
+            return wins[index];
+        }
+
+        public void setWins(int w) {
+            wins[index] = w;
+        }
+
+        public int playouts() {
+            return playouts[index];
+        }
+
+        public void setPlayouts(int p) {
+            playouts[index] = p;
+        }
+
+        @Override
+        public void addStatistics(int w, int p) {
+            wins[index] += w;
+            playouts[index] += p;
+        }
+
+        public Node<G> getParent() {
+            return parent[index] < 0 ? null : new PooledNode(parent[index]);
+        }
+
+        /**
+         * Method to set the parent of this Node.
+         * Only setParent(null) is supported: it detaches this node (which then behaves as a root).
+         *
+         * @param node null.
+         */
+        public void setParent(Node<G> node) {
+            if (node != null) throw new UnsupportedOperationException("NodePool does not support moving a node");
+            if (parent[index] < 0) return;
+            anchors.put(index, state());
+            parent[index] = -1;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof NodePool.PooledNode)) return false;
+            NodePool<?>.PooledNode that = (NodePool<?>.PooledNode) o;
+            return index == that.index && pool() == that.pool();
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            return "PooledNode{index=" + index + ", wins=" + wins[index] + ", playouts=" + playouts[index] + '}';
+        }
+
+        private NodePool<G> pool() {
+            return NodePool.this;
+        }
+
+        PooledNode(int index) {
+            this.index = index;
+        }
+
+        private final int index;
+    }
+
+    private static final byte TERMINAL = 1;
+    private static final byte WHITE = 2;
+
+    // wins, playouts, parent, firstChild, move: 4 bytes each; childCount: 2 bytes; flags: 1 byte.
+    private static final int bytesPerNode = 5 * 4 + 2 + 1;
+
+    // The States of those nodes which have no parent.
+    private final Map<Integer, State<G>> anchors = new HashMap<>();
+
+    // The most recently reconstructed State (and the index of its node).
+    private int cachedIndex;
+    private State<G> cachedState;
+
+    private int[] wins;
+    private int[] playouts;
+    private int[] parent;
+    private int[] firstChild;
+    private short[] childCount;
+    private int[] move;
+    private byte[] flags;
+    private int size;
+}
@@ -0,0 +1,160 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Class to represent an opening book (a persistent search cache) for a game (G): the wins and playouts of the Nodes
+ * of a search tree, keyed by the hash of their positions (typically the canonical Zobrist hash), saved in a compact binary file.
+ * <p>
+ * The file consists of a header (the magic number, the version and the number of entries, all ints)
+ * followed by the entries in ascending order of key, each of which is a long (the key) and two ints (wins and playouts).
+ * On load, the file is memory-mapped (so that only the pages which are actually consulted are read)
+ * and entries are found by binary search.
+ * An OpeningBook is immutable and may be shared between threads.
+ *
+ * @param <G> the type of the Game.
+ */
+public class OpeningBook<G extends Game> {
+
+    /**
+     * Method to save the statistics of every Node of a tree which has at least minPlayouts playouts.
+     * If two Nodes have the same key (a transposition), the one with more playouts is saved.
+     *
+     * @param path        the file to be written.
+     * @param root        the root of the tree.
+     * @param hasher      the function which yields the key of a State.
+     * @param minPlayouts the least number of playouts for a Node to be saved.
+     * @return the number of entries written.
+     * @throws IOException if the file cannot be written.
+     */
+    public static <G extends Game> int save(Path path, Node<G> root, ToLongFunction<State<G>> hasher, int minPlayouts) throws IOException {
+        TreeMap<Long, Long> entries = new TreeMap<>();
+        collect(root, hasher, minPlayouts, entries);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<Long, Long> entry : entries.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(PackedStatistics.wins(entry.getValue()));
+                out.writeInt(PackedStatistics.playouts(entry.getValue()));
+            }
+        }
+        return entries.size();
+    }
+
+    /**
+     * Method to load (memory-map) an opening book.
+     *
+     * @param path   the file which was written by save.
+     * @param hasher the function which yields the key of a State (the same as was used by save).
+     * @return an OpeningBook.
+     * @throws IOException if the file cannot be read or is not an opening book.
+     */
+    public static <G extends Game> OpeningBook<G> load(Path path, ToLongFunction<State<G>> hasher) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (channel.size() < HEADER || buffer.getInt(0) != MAGIC)
+                throw new IOException("not an opening book: " + path);
+            if (buffer.getInt(4) != VERSION)
+                throw new IOException("unsupported opening book version " + buffer.getInt(4) + ": " + path);
+            int size = buffer.getInt(8);
+            if (channel.size() != HEADER + (long) size * ENTRY)
+                throw new IOException("opening book is truncated: " + path);
+            return new OpeningBook<>(buffer, size, hasher);
+        }
+    }
+
+    /**
+     * Method to look up the statistics of a State.
+     *
+     * @param state a State.
+     * @return the (saved) wins and playouts of state or empty if state is not in this book.
+     */
+    public Optional<PackedStatistics> statistics(State<G> state) {
+        int index = find(hasher.applyAsLong(state));
+        if (index < 0) return Optional.empty();
+        int offset = HEADER + index * ENTRY;
+        return Optional.of(new PackedStatistics(buffer.getInt(offset + 8), buffer.getInt(offset + 12)));
+    }
+
+    /**
+     * Method to choose a move from the book: the successor of state with the most playouts.
+     *
+     * @param state       a non-terminal State.
+     * @param minPlayouts the least number of playouts for a successor to be chosen.
+     * @return the chosen successor or empty if no successor of state has at least minPlayouts playouts in this book.
+     */
+    public Optional<State<G>> bestMove(State<G> state, int minPlayouts) {
+        State<G> result = null;
+        int best = minPlayouts - 1;
+        for (Move<G> move : state.moves(state.player())) {
+            State<G> next = state.next(move);
+            Optional<PackedStatistics> statistics = statistics(next);
+            if (statistics.isPresent() && statistics.get().playouts() > best) {
+                result = next;
+                best = statistics.get().playouts();
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * @return the number of entries in this book.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Binary search for the given key.
+     *
+     * @param key a key.
+     * @return the index of the entry, or -1 if there is no such entry.
+     */
+    private int find(long key) {
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long k = buffer.getLong(HEADER + mid * ENTRY);
+            if (k < key) lo = mid + 1;
+            else if (k > key) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    private static <G extends Game> void collect(Node<G> node, ToLongFunction<State<G>> hasher, int minPlayouts, TreeMap<Long, Long> entries) {
+        if (node.playouts() < minPlayouts) return;
+        entries.merge(hasher.applyAsLong(node.state()), PackedStatistics.pack(node.wins(), node.playouts()),
+                (a, b) -> PackedStatistics.playouts(a) >= PackedStatistics.playouts(b) ? a : b);
+        for (Node<G> child : node.children()) collect(child, hasher, minPlayouts, entries);
+    }
+
+    private OpeningBook(MappedByteBuffer buffer, int size, ToLongFunction<State<G>> hasher) {
+        this.buffer = buffer;
+        this.size = size;
+        this.hasher = hasher;
+    }
+
+    private static final int MAGIC = 0x4D435442; // "MCTB"
+    private static final int VERSION = 1;
+    private static final int HEADER = 12;
+    private static final int ENTRY = 16;
+
+    private final MappedByteBuffer buffer;
+    private final int size;
+    private final ToLongFunction<State<G>> hasher;
+}
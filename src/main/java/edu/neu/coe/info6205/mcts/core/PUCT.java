@@ -0,0 +1,47 @@
+package edu.neu.coe.info6205.mcts.core;
+
+/**
+ * The PUCT selection policy (as used by AlphaZero): <code>mean + c * P * sqrt(N) / (1 + n)</code>.
+ * <p>
+ * There is no prior policy in this package, so the prior P of each child is uniform (one over the number of children).
+ * Unlike UCB1, an unvisited child is not automatically preferred: its value is its exploration term alone.
+ */
+public class PUCT implements SelectionPolicy {
+
+    /**
+     * Constructor.
+     *
+     * @param c         the exploration constant.
+     * @param maxReward the greatest reward of a single playout (wins are divided by this to yield a mean in [0, 1]).
+     */
+    public PUCT(double c, int maxReward) {
+        if (c < 0) throw new IllegalArgumentException("exploration constant must not be negative: " + c);
+        if (maxReward < 1) throw new IllegalArgumentException("maxReward must be positive: " + maxReward);
+        this.c = c;
+        this.maxReward = maxReward;
+    }
+
+    /**
+     * @return c times the (uniform) prior times the square root of the parent's playouts.
+     */
+    public double parentTerm(int parentPlayouts, int children) {
+        return c * Math.sqrt(parentPlayouts) / children;
+    }
+
+    public double value(int wins, int playouts, double parentTerm) {
+        return (double) wins / playouts / maxReward + parentTerm / (1 + playouts);
+    }
+
+    @Override
+    public double unvisited(double parentTerm) {
+        return parentTerm;
+    }
+
+    @Override
+    public String toString() {
+        return "PUCT{c=" + c + ", maxReward=" + maxReward + '}';
+    }
+
+    private final double c;
+    private final int maxReward;
+}
@@ -0,0 +1,94 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class to hold the wins and playouts of a Node such that they can be updated atomically (and without locking)
+ * by several threads at once.
+ * <p>
+ * Both values are packed into one long: the wins occupy the high 32 bits and the playouts the low 32 bits.
+ * Because the packed value is simply wins * 2^32 + playouts, a (signed) delta for both can be added in a single
+ * atomic operation provided that the playouts never go negative.
+ */
+public class PackedStatistics {
+
+    /**
+     * @return the wins.
+     */
+    public int wins() {
+        return wins(packed.get());
+    }
+
+    /**
+     * @return the playouts.
+     */
+    public int playouts() {
+        return playouts(packed.get());
+    }
+
+    /**
+     * Method to atomically add to the wins and the playouts.
+     *
+     * @param wins     the number of wins to be added (may be negative).
+     * @param playouts the number of playouts to be added (may be negative, so long as the total is not).
+     */
+    public void add(int wins, int playouts) {
+        packed.getAndAdd(pack(wins, playouts));
+    }
+
+    /**
+     * Method to atomically set both the wins and the playouts.
+     *
+     * @param wins     the new wins.
+     * @param playouts the new playouts.
+     */
+    public void set(int wins, int playouts) {
+        packed.set(pack(wins, playouts));
+    }
+
+    /**
+     * Method to atomically set the wins, leaving the playouts unchanged.
+     *
+     * @param wins the new wins.
+     */
+    public void setWins(int wins) {
+        packed.updateAndGet(x -> pack(wins, playouts(x)));
+    }
+
+    /**
+     * Method to atomically set the playouts, leaving the wins unchanged.
+     *
+     * @param playouts the new playouts.
+     */
+    public void setPlayouts(int playouts) {
+        packed.updateAndGet(x -> pack(wins(x), playouts));
+    }
+
+    @Override
+    public String toString() {
+        long x = packed.get();
+        return "PackedStatistics{wins=" + wins(x) + ", playouts=" + playouts(x) + '}';
+    }
+
+    public PackedStatistics(int wins, int playouts) {
+        packed = new AtomicLong(pack(wins, playouts));
+    }
+
+    public PackedStatistics() {
+        this(0, 0);
+    }
+
+    static long pack(int wins, int playouts) {
+        return ((long) wins << 32) + playouts;
+    }
+
+    static int wins(long x) {
+        return (int) (x >> 32);
+    }
+
+    static int playouts(long x) {
+        return (int) x;
+    }
+
+    private final AtomicLong packed;
+}
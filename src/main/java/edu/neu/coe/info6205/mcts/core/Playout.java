@@ -0,0 +1,78 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.Random;
+
+/**
+ * This interface defines the behavior of a mutable copy of a State which is used to play out a game (typically at random)
+ * without allocating a new State (or a Collection of Moves) at every ply.
+ * <p>
+ * Moves are represented by non-negative ints whose meaning is private to the game (for example, a column number).
+ * A Playout is not thread-safe: each thread should obtain its own copy by calling State.playout().
+ */
+public interface Playout {
+
+    /**
+     * @return the player who is next to play.
+     */
+    int player();
+
+    /**
+     * @return true if the game is over.
+     */
+    boolean isTerminal();
+
+    /**
+     * @return the winner, if the game is over and is not a draw; otherwise -1.
+     */
+    int winner();
+
+    /**
+     * @return the greatest number of moves that can be yielded by moves(int[]), i.e. the size of buffer required.
+     */
+    int maxMoves();
+
+    /**
+     * Method to write the legal moves into the given buffer.
+     *
+     * @param buffer an array of at least maxMoves() elements.
+     * @return the number of legal moves written into buffer.
+     */
+    int moves(int[] buffer);
+
+    /**
+     * Method to play the given move (for the player who is next to play), in place.
+     *
+     * @param move one of the moves yielded by moves(int[]).
+     */
+    void play(int move);
+
+    /**
+     * Method to take back the most recently played move, in place.
+     */
+    void undo();
+
+    /**
+     * Method to play out the game at random (the only allocation is the move buffer, which is reused for every ply).
+     *
+     * @param random the random source.
+     * @return the winner or -1 if the game is drawn.
+     */
+    default int playOut(Random random) {
+        int[] buffer = new int[maxMoves()];
+        while (!isTerminal()) play(buffer[random.nextInt(moves(buffer))]);
+        return winner();
+    }
+
+    /**
+     * Method to play out the game, choosing each move by the given policy.
+     *
+     * @param random the random source.
+     * @param policy the PlayoutPolicy.
+     * @return the winner or -1 if the game is drawn.
+     */
+    default int playOut(Random random, PlayoutPolicy policy) {
+        int[] buffer = new int[maxMoves()];
+        while (!isTerminal()) play(policy.choose(this, buffer, moves(buffer), random));
+        return winner();
+    }
+}
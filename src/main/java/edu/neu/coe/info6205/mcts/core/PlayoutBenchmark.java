@@ -0,0 +1,95 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Benchmark which measures both the rate and the heap allocation of random playouts from a given State,
+ * either by following State.next (one new State and one new Collection of Moves per ply)
+ * or by using the in-place Playout yielded by State.playout().
+ * <p>
+ * Allocation is measured with the (HotSpot-specific) per-thread allocation counter.
+ *
+ * @param <G> the type of the Game.
+ */
+public class PlayoutBenchmark<G extends Game> {
+
+    /**
+     * Play out the game the old-fashioned way, by following State.next.
+     *
+     * @param state  the starting State.
+     * @param random the random source.
+     * @return the winner or -1 for a draw.
+     */
+    public static <G extends Game> int playOutByNext(State<G> state, Random random) {
+        while (!state.isTerminal()) {
+            List<Move<G>> moves = new ArrayList<>(state.moves(state.player()));
+            state = state.next(moves.get(random.nextInt(moves.size())));
+        }
+        return state.winner().orElse(-1);
+    }
+
+    /**
+     * Play out the game using the Playout of state (if available), otherwise by following State.next.
+     *
+     * @param state  the starting State.
+     * @param random the random source.
+     * @return the winner or -1 for a draw.
+     */
+    public static <G extends Game> int playOut(State<G> state, Random random) {
+        return state.playout().map(p -> p.playOut(random)).orElseGet(() -> playOutByNext(state, random));
+    }
+
+    /**
+     * Run the benchmark (after a warmup of one tenth as many playouts).
+     *
+     * @param inPlace true to use State.playout(), false to use State.next.
+     * @return an array of two doubles: the playouts per second and the bytes allocated per playout.
+     */
+    public double[] run(boolean inPlace) {
+        Random random = ThreadLocalRandom.current();
+        for (int i = 0; i < playouts / 10; i++) sink += inPlace ? playOut(state, random) : playOutByNext(state, random);
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < playouts; i++) sink += inPlace ? playOut(state, random) : playOutByNext(state, random);
+        long nanos = System.nanoTime() - start;
+        bytes = allocatedBytes() - bytes;
+        return new double[]{playouts * 1E9 / nanos, (double) bytes / playouts};
+    }
+
+    /**
+     * Run the benchmark both ways and print the results.
+     *
+     * @param description the description of state.
+     */
+    public void report(String description) {
+        double[] byNext = run(false);
+        double[] inPlace = run(true);
+        System.out.printf("%s (State.next):\t%.0f playouts/sec\t%.0f bytes/playout%n", description, byNext[0], byNext[1]);
+        System.out.printf("%s (Playout):\t%.0f playouts/sec\t%.0f bytes/playout%n", description, inPlace[0], inPlace[1]);
+    }
+
+    public PlayoutBenchmark(State<G> state, int playouts) {
+        this.state = state;
+        this.playouts = playouts;
+    }
+
+    /**
+     * @return the number of bytes allocated so far by the current thread (or 0 if this cannot be measured).
+     */
+    static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean)
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        return 0;
+    }
+
+    private final State<G> state;
+    private final int playouts;
+
+    // NOTE this prevents the JIT compiler from eliminating the playouts as dead code.
+    private static long sink;
+}
@@ -0,0 +1,63 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.Random;
+
+/**
+ * This interface defines the choice of move at each ply of a Playout.
+ * The default (random()) is the uniformly random choice of "pure" MCTS;
+ * a little knowledge (for example, always taking an immediate win) makes the playouts far more realistic
+ * at the cost of fewer playouts per second.
+ * <p>
+ * Implementations must be thread-safe (they are typically stateless): one policy is shared by all the playouts of a search.
+ */
+@FunctionalInterface
+public interface PlayoutPolicy {
+
+    /**
+     * Method to choose the next move to be played.
+     *
+     * @param playout the Playout (which may be played and undone but must be restored before returning).
+     * @param moves   the legal moves (written by Playout.moves).
+     * @param n       the number of legal moves (at least one).
+     * @param random  the random source.
+     * @return one of the first n elements of moves.
+     */
+    int choose(Playout playout, int[] moves, int n, Random random);
+
+    /**
+     * @return a PlayoutPolicy which chooses a move uniformly at random.
+     */
+    static PlayoutPolicy random() {
+        return (playout, moves, n, random) -> moves[random.nextInt(n)];
+    }
+
+    /**
+     * Method to yield a PlayoutPolicy which plays a winning move if there is one, otherwise a random move.
+     * This works for any game since each candidate is simply played and undone.
+     *
+     * @return a PlayoutPolicy.
+     */
+    static PlayoutPolicy immediateWin() {
+        return (playout, moves, n, random) -> {
+            int win = winningMove(playout, moves, n);
+            return win >= 0 ? win : moves[random.nextInt(n)];
+        };
+    }
+
+    /**
+     * @param playout the Playout.
+     * @param moves   the legal moves.
+     * @param n       the number of legal moves.
+     * @return a move which wins immediately for the player to move, or -1 if there is none.
+     */
+    static int winningMove(Playout playout, int[] moves, int n) {
+        int player = playout.player();
+        for (int i = 0; i < n; i++) {
+            playout.play(moves[i]);
+            boolean won = playout.winner() == player;
+            playout.undo();
+            if (won) return moves[i];
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,82 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.WeakHashMap;
+
+/**
+ * Class to represent progressive widening: rather than adding all of its children when it is first expanded,
+ * a Node with <code>n</code> playouts may have at most <code>ceil(c * n^alpha)</code> children (and at least one).
+ * The children are added one at a time, in an order which is a (fixed) random permutation of the moves of the Node's State.
+ * <p>
+ * This saves memory (and focuses the search) in games with a large branching factor.
+ * The Nodes must support Node.addChild.
+ * A ProgressiveWidening may be shared by searches running in different threads.
+ */
+public class ProgressiveWidening {
+
+    /**
+     * @param playouts the playouts of a Node.
+     * @return the number of children which the Node may have.
+     */
+    public int limit(int playouts) {
+        return Math.max(1, (int) Math.ceil(c * Math.pow(playouts, alpha)));
+    }
+
+    /**
+     * Method to add the next child of node, if node is allowed another child and there is another move to be tried.
+     *
+     * @param node a Node which is not a leaf.
+     * @return the new child, or null if node was not widened.
+     */
+    public <G extends Game> Node<G> widen(Node<G> node) {
+        int n = node.children().size();
+        if (n >= limit(node.playouts())) return null;
+        List<Move<G>> moves = permutation(node);
+        if (n >= moves.size()) return null;
+        return node.addChild(node.state().next(moves.get(n)));
+    }
+
+    /**
+     * Method to yield the moves of node's State in the order in which they are to be added as children.
+     * The permutation is computed when node is first widened and is then cached (until node is garbage-collected)
+     * so that each subsequent widening takes constant time.
+     * NOTE the permutation depends only on the State, so it is the same for every Node with that State.
+     */
+    @SuppressWarnings("unchecked")
+    private <G extends Game> List<Move<G>> permutation(Node<G> node) {
+        return (List<Move<G>>) permutations.computeIfAbsent(node, k -> {
+            State<G> state = node.state();
+            List<Move<G>> result = new ArrayList<>(state.moves(state.player()));
+            Collections.shuffle(result, new Random(state.hashCode()));
+            return result;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "ProgressiveWidening{c=" + c + ", alpha=" + alpha + '}';
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param c     the coefficient (positive).
+     * @param alpha the exponent (between 0 and 1: typically between 0.25 and 0.5).
+     */
+    public ProgressiveWidening(double c, double alpha) {
+        if (c <= 0) throw new IllegalArgumentException("c must be positive: " + c);
+        if (alpha < 0 || alpha > 1) throw new IllegalArgumentException("alpha must be between 0 and 1: " + alpha);
+        this.c = c;
+        this.alpha = alpha;
+    }
+
+    private final double c;
+    private final double alpha;
+
+    // NOTE the keys are weak so that the Nodes of discarded subtrees (e.g. after re-rooting) are not retained.
+    private final Map<Node<?>, List<?>> permutations = Collections.synchronizedMap(new WeakHashMap<>());
+}
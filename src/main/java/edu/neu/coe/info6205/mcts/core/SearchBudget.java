@@ -0,0 +1,94 @@
+package edu.neu.coe.info6205.mcts.core;
+
+/**
+ * Class to represent the budget for a Monte Carlo Tree Search: a wall-clock time limit, a limit on the number of
+ * iterations, a limit on the number of nodes in the tree, or any combination of these (whichever is reached first).
+ * <p>
+ * Instances are immutable: the <code>and...</code> methods yield a new SearchBudget.
+ */
+public class SearchBudget {
+
+    /**
+     * @param iterations the maximum number of iterations.
+     * @return a SearchBudget which is exhausted after the given number of iterations.
+     */
+    public static SearchBudget iterations(long iterations) {
+        return unlimited.andIterations(iterations);
+    }
+
+    /**
+     * @param millis the maximum wall-clock time (in milliseconds).
+     * @return a SearchBudget which is exhausted after the given time.
+     */
+    public static SearchBudget millis(long millis) {
+        return unlimited.andMillis(millis);
+    }
+
+    /**
+     * @param nodes the maximum number of nodes in the tree.
+     * @return a SearchBudget which is exhausted when the tree has grown to the given size.
+     */
+    public static SearchBudget nodes(long nodes) {
+        return unlimited.andNodes(nodes);
+    }
+
+    /**
+     * @param iterations the maximum number of iterations.
+     * @return a copy of this SearchBudget with the given iteration limit.
+     */
+    public SearchBudget andIterations(long iterations) {
+        if (iterations < 0) throw new IllegalArgumentException("negative iterations: " + iterations);
+        return new SearchBudget(iterations, nanos, nodes);
+    }
+
+    /**
+     * @param millis the maximum wall-clock time (in milliseconds).
+     * @return a copy of this SearchBudget with the given time limit.
+     */
+    public SearchBudget andMillis(long millis) {
+        if (millis < 0) throw new IllegalArgumentException("negative time: " + millis);
+        return new SearchBudget(iterations, millis * 1_000_000L, nodes);
+    }
+
+    /**
+     * @param nodes the maximum number of nodes in the tree.
+     * @return a copy of this SearchBudget with the given node limit.
+     */
+    public SearchBudget andNodes(long nodes) {
+        if (nodes < 0) throw new IllegalArgumentException("negative nodes: " + nodes);
+        return new SearchBudget(iterations, this.nanos, nodes);
+    }
+
+    /**
+     * Method to determine if this budget has been used up.
+     *
+     * @param iterations   the number of iterations performed so far.
+     * @param elapsedNanos the time elapsed so far (in nanoseconds).
+     * @param nodes        the number of nodes in the tree.
+     * @return true if any of the limits has been reached.
+     */
+    public boolean exhausted(long iterations, long elapsedNanos, long nodes) {
+        return iterations >= this.iterations || elapsedNanos >= this.nanos || nodes >= this.nodes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("SearchBudget{");
+        if (iterations < Long.MAX_VALUE) sb.append("iterations=").append(iterations).append(' ');
+        if (nanos < Long.MAX_VALUE) sb.append("millis=").append(nanos / 1_000_000L).append(' ');
+        if (nodes < Long.MAX_VALUE) sb.append("nodes=").append(nodes).append(' ');
+        return sb.toString().trim() + '}';
+    }
+
+    private SearchBudget(long iterations, long nanos, long nodes) {
+        this.iterations = iterations;
+        this.nanos = nanos;
+        this.nodes = nodes;
+    }
+
+    private static final SearchBudget unlimited = new SearchBudget(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final long iterations;
+    private final long nanos;
+    private final long nodes;
+}
@@ -0,0 +1,130 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.util.StatPack;
+
+/**
+ * Class to record where the time of an AnytimeSearch goes, in the spirit of InstrumentedHelper for sorting.
+ * <p>
+ * During a run, the time spent in each phase of an iteration (select, expand, simulate, back-propagate),
+ * the number of nodes allocated, the number of nodes expanded and the greatest depth are accumulated in primitive counters.
+ * At the end of each run, one value for each of the following is added to the StatPack:
+ * <dl>
+ *     <dt>SELECT, EXPAND, SIMULATE, BACKPROPAGATE</dt><dd>the mean nanoseconds per iteration spent in that phase;</dd>
+ *     <dt>NODES</dt><dd>the number of nodes allocated;</dd>
+ *     <dt>DEPTH</dt><dd>the greatest depth reached by selection;</dd>
+ *     <dt>BRANCHING</dt><dd>the mean number of children allocated per node expanded;</dd>
+ *     <dt>PLAYOUTS_PER_SECOND</dt><dd>the rate of iterations (each iteration performs one playout).</dd>
+ * </dl>
+ * Thus, the StatPack summarizes a series of searches (for example, one per move of a game).
+ * <p>
+ * When an AnytimeSearch is not given a SearchInstrumentation, it does not even read the clock
+ * so the overhead is one (well-predicted) branch per phase.
+ * A SearchInstrumentation is not thread-safe.
+ */
+public class SearchInstrumentation {
+
+    public static final String SELECT = "select";
+    public static final String EXPAND = "expand";
+    public static final String SIMULATE = "simulate";
+    public static final String BACKPROPAGATE = "backpropagate";
+    public static final String NODES = "nodes";
+    public static final String DEPTH = "depth";
+    public static final String BRANCHING = "branching";
+    public static final String PLAYOUTS_PER_SECOND = "playouts/sec";
+
+    /**
+     * @return the StatPack (with one value per key for each completed run).
+     */
+    public StatPack getStatPack() {
+        return statPack;
+    }
+
+    /**
+     * @return the number of runs which have been recorded.
+     */
+    public int runs() {
+        return statPack.getCount(PLAYOUTS_PER_SECOND);
+    }
+
+    @Override
+    public String toString() {
+        return "SearchInstrumentation: " + statPack;
+    }
+
+    /**
+     * Constructor.
+     */
+    public SearchInstrumentation() {
+        // NOTE the values are not normalized with respect to any problem size.
+        statPack = new StatPack(x -> 1.0, 16, SELECT, EXPAND, SIMULATE, BACKPROPAGATE, NODES, DEPTH, BRANCHING, PLAYOUTS_PER_SECOND);
+    }
+
+    /**
+     * Method to reset the counters at the start of a run.
+     */
+    void start() {
+        select = 0;
+        expand = 0;
+        simulate = 0;
+        backPropagate = 0;
+        allocated = 0;
+        expanded = 0;
+        depth = 0;
+    }
+
+    /**
+     * Method to record one expansion.
+     *
+     * @param nanos    the time taken.
+     * @param children the number of nodes allocated.
+     * @param first    true if the expanded node had no children beforehand.
+     */
+    void expand(long nanos, int children, boolean first) {
+        expand += nanos;
+        allocated += children;
+        if (first) expanded++;
+    }
+
+    /**
+     * Method to record the other phases of one iteration.
+     *
+     * @param select        the time spent in selection (excluding any expansion).
+     * @param simulate      the time spent in simulation.
+     * @param backPropagate the time spent in back-propagation.
+     * @param depth         the depth of the simulated node.
+     */
+    void iteration(long select, long simulate, long backPropagate, int depth) {
+        this.select += select;
+        this.simulate += simulate;
+        this.backPropagate += backPropagate;
+        if (depth > this.depth) this.depth = depth;
+    }
+
+    /**
+     * Method to add the results of a run to the StatPack.
+     *
+     * @param iterations the number of iterations performed.
+     * @param nanos      the elapsed time of the run.
+     */
+    void finish(long iterations, long nanos) {
+        if (iterations == 0) return;
+        statPack.add(SELECT, (double) select / iterations);
+        statPack.add(EXPAND, (double) expand / iterations);
+        statPack.add(SIMULATE, (double) simulate / iterations);
+        statPack.add(BACKPROPAGATE, (double) backPropagate / iterations);
+        statPack.add(NODES, allocated);
+        statPack.add(DEPTH, depth);
+        statPack.add(BRANCHING, expanded == 0 ? 0 : (double) allocated / expanded);
+        statPack.add(PLAYOUTS_PER_SECOND, iterations * 1E9 / nanos);
+    }
+
+    private final StatPack statPack;
+
+    private long select;
+    private long expand;
+    private long simulate;
+    private long backPropagate;
+    private long allocated;
+    private long expanded;
+    private int depth;
+}
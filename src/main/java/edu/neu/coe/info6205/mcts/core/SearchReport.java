@@ -0,0 +1,79 @@
+package edu.neu.coe.info6205.mcts.core;
+
+/**
+ * Class to represent the outcome of a budgeted search (see AnytimeSearch).
+ *
+ * @param <G> the type of the Game.
+ */
+public class SearchReport<G extends Game> {
+
+    /**
+     * @return the best child of the root (the one with the most playouts), or null if the root has no children.
+     */
+    public Node<G> bestMove() {
+        return bestMove;
+    }
+
+    /**
+     * @return the number of iterations performed by the search.
+     */
+    public long iterations() {
+        return iterations;
+    }
+
+    /**
+     * @return the wall-clock time taken by the search (in nanoseconds).
+     */
+    public long nanos() {
+        return nanos;
+    }
+
+    /**
+     * @return the number of iterations per second.
+     */
+    public double iterationsPerSecond() {
+        return nanos == 0 ? 0 : iterations * 1E9 / nanos;
+    }
+
+    /**
+     * @return the number of nodes in the tree at the end of the search.
+     */
+    public long nodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the greatest depth (the root is at depth 0) reached by selection during the search.
+     */
+    public int depth() {
+        return depth;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SearchReport{iterations=%d, millis=%.1f, iterations/sec=%.0f, nodes=%d, depth=%d}", iterations, nanos / 1E6, iterationsPerSecond(), nodes, depth);
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param bestMove   the best child of the root.
+     * @param iterations the number of iterations performed.
+     * @param nanos      the time taken (in nanoseconds).
+     * @param nodes      the number of nodes in the tree.
+     * @param depth      the greatest depth reached.
+     */
+    public SearchReport(Node<G> bestMove, long iterations, long nanos, long nodes, int depth) {
+        this.bestMove = bestMove;
+        this.iterations = iterations;
+        this.nanos = nanos;
+        this.nodes = nodes;
+        this.depth = depth;
+    }
+
+    private final Node<G> bestMove;
+    private final long iterations;
+    private final long nanos;
+    private final long nodes;
+    private final int depth;
+}
@@ -0,0 +1,86 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * This interface defines the tree policy of a Monte Carlo Tree Search, i.e. how to choose which child to follow
+ * during selection (for example, UCB1, UCB1Tuned or PUCT).
+ * <p>
+ * The value of each child is split into a term which depends only on the parent (computed once per selection step,
+ * so that, for example, the logarithm of the parent's playouts is not recomputed for every child)
+ * and a term which depends on the child's own statistics.
+ * The default implementation of select is a plain (allocation-free for random-access children) loop.
+ */
+public interface SelectionPolicy {
+
+    /**
+     * Method to compute the part of the value of a child which depends only on its parent.
+     *
+     * @param parentPlayouts the playouts of the parent.
+     * @param children       the number of children of the parent.
+     * @return a value to be passed to value.
+     */
+    double parentTerm(int parentPlayouts, int children);
+
+    /**
+     * Method to compute the value of a child with at least one playout.
+     *
+     * @param wins       the wins of the child.
+     * @param playouts   the playouts of the child (positive).
+     * @param parentTerm the result of parentTerm for the parent.
+     * @return the value of the child (the child with the greatest value will be selected).
+     */
+    double value(int wins, int playouts, double parentTerm);
+
+    /**
+     * Method to compute the value of a child which has no playouts yet.
+     * By default, such children are always selected first.
+     *
+     * @param parentTerm the result of parentTerm for the parent.
+     * @return the value of an unvisited child.
+     */
+    default double unvisited(double parentTerm) {
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Method to choose the child of node with the greatest value (the first such, in the case of a tie).
+     *
+     * @param node a Node.
+     * @return the best child of node, or null if node has no children.
+     */
+    default <G extends Game> Node<G> select(Node<G> node) {
+        Collection<Node<G>> children = node.children();
+        int n = children.size();
+        if (n == 0) return null;
+        double parentTerm = parentTerm(node.playouts(), n);
+        Node<G> result = null;
+        double best = Double.NEGATIVE_INFINITY;
+        if (children instanceof RandomAccess) {
+            List<Node<G>> list = (List<Node<G>>) children;
+            for (int i = 0; i < n; i++) {
+                Node<G> child = list.get(i);
+                double value = value(child, parentTerm);
+                if (result == null || value > best) {
+                    result = child;
+                    best = value;
+                }
+            }
+        } else
+            for (Node<G> child : children) {
+                double value = value(child, parentTerm);
+                if (result == null || value > best) {
+                    result = child;
+                    best = value;
+                }
+            }
+        return result;
+    }
+
+    private <G extends Game> double value(Node<G> child, double parentTerm) {
+        int playouts = child.playouts();
+        return playouts == 0 ? unvisited(parentTerm) : value(child.wins(), playouts, parentTerm);
+    }
+}
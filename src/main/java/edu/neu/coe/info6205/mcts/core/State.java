@@ -67,6 +67,16 @@ public interface State<G extends Game> {
      */
     State<G> next(Move<G> move);
 
+    /**
+     * Method to yield a mutable copy of this State which can be played out without allocating at every ply.
+     * States which do not support this return empty, in which case the game must be played out using next.
+     *
+     * @return an optional Playout.
+     */
+    default Optional<Playout> playout() {
+        return Optional.empty();
+    }
+
     /**
      * Method to yield a (random) iterator of moves for the given player.
      *
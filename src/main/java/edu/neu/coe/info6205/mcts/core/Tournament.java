@@ -0,0 +1,258 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+/**
+ * Class to play a match of many games between two Engines (A and B), several games at a time.
+ * <p>
+ * A plays first in the even-numbered games and B in the odd-numbered games.
+ * Game <code>i</code> uses a random source seeded with <code>seed + i</code> and starts from the State yielded by the start function
+ * for that seed (whose Game should be seeded with it, since the Nodes of a search are expanded in an order chosen by
+ * the random source of the Game).
+ * A game can therefore be replayed from the seed recorded for it, provided that the Engines are themselves deterministic
+ * given the random source (see Engine.mcts).
+ * As each game finishes, one line is written to the CSV output (if any):
+ * <code>game,seed,first,second,winner,plies,cpuMillisA,cpuMillisB</code>, where winner is the name of the winning Engine
+ * or "draw".
+ * The CPU time of each Engine is measured by the (per-thread) CPU time of its moves,
+ * so that strength may be compared per CPU-second.
+ *
+ * @param <G> the type of the Game.
+ */
+public class Tournament<G extends Game> {
+
+    /**
+     * Play the match.
+     *
+     * @param csv a Writer for the results of each game (or null).
+     * @return the Result.
+     */
+    public Result run(Writer csv) {
+        PrintWriter out = csv != null ? new PrintWriter(csv, true) : null;
+        if (out != null) out.println("game,seed,first,second,winner,plies,cpuMillisA,cpuMillisB");
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(games);
+            for (int i = 0; i < games; i++) {
+                int game = i;
+                futures.add(executor.submit(() -> play(game, out)));
+            }
+            int winsA = 0, winsB = 0, draws = 0;
+            long nanosA = 0, nanosB = 0;
+            for (Future<long[]> future : futures) {
+                long[] outcome = get(future);
+                if (outcome[0] > 0) winsA++;
+                else if (outcome[0] < 0) winsB++;
+                else draws++;
+                nanosA += outcome[1];
+                nanosB += outcome[2];
+            }
+            return new Result(a.name(), b.name(), winsA, winsB, draws, nanosA, nanosB);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Play one game.
+     *
+     * @param game the number of the game.
+     * @param out  the CSV output (or null).
+     * @return an array of: the outcome (1 if A won, -1 if B won, 0 for a draw), A's CPU nanoseconds and B's CPU nanoseconds.
+     */
+    long[] play(int game, PrintWriter out) {
+        long gameSeed = seed + game;
+        Random random = new Random(gameSeed);
+        Engine<G> first = game % 2 == 0 ? a : b;
+        Engine<G> second = game % 2 == 0 ? b : a;
+        State<G> state = start.apply(gameSeed);
+        int opener = state.game().opener();
+        long[] nanos = new long[2];
+        int plies = 0;
+        while (!state.isTerminal()) {
+            boolean firstToPlay = state.player() == opener;
+            long begin = cpuNanos();
+            state = (firstToPlay ? first : second).move(state, random);
+            nanos[firstToPlay == (first == a) ? 0 : 1] += cpuNanos() - begin;
+            plies++;
+        }
+        Optional<Integer> winner = state.winner();
+        Engine<G> victor = winner.isEmpty() ? null : winner.get() == opener ? first : second;
+        if (out != null) synchronized (out) {
+            out.printf("%d,%d,%s,%s,%s,%d,%d,%d%n", game, gameSeed, first.name(), second.name(), victor == null ? "draw" : victor.name(), plies, nanos[0] / 1_000_000, nanos[1] / 1_000_000);
+        }
+        return new long[]{victor == null ? 0 : victor == a ? 1 : -1, nanos[0], nanos[1]};
+    }
+
+    /**
+     * Class to represent the result of a match, from the point of view of engine A.
+     */
+    public static class Result {
+
+        /**
+         * @return the score of A: (wins + draws / 2) / games.
+         */
+        public double score() {
+            return (winsA + 0.5 * draws) / games();
+        }
+
+        /**
+         * @return the number of games played.
+         */
+        public int games() {
+            return winsA + winsB + draws;
+        }
+
+        /**
+         * @return the estimated Elo rating difference (A minus B).
+         */
+        public double elo() {
+            return elo(score());
+        }
+
+        /**
+         * Method to yield a confidence interval for the Elo difference, using the normal approximation
+         * to the distribution of the score (with the variance of the observed win/draw/loss frequencies).
+         *
+         * @param z the number of standard errors (for example, 1.96 for a 95% interval).
+         * @return an array of the lower and upper bounds.
+         */
+        public double[] eloInterval(double z) {
+            double s = score();
+            double n = games();
+            double variance = (winsA * (1 - s) * (1 - s) + draws * (0.5 - s) * (0.5 - s) + winsB * s * s) / n;
+            double error = z * Math.sqrt(variance / n);
+            return new double[]{elo(s - error), elo(s + error)};
+        }
+
+        /**
+         * @param score a score between 0 and 1.
+         * @return the corresponding Elo difference (infinite for a score of 0 or 1).
+         */
+        public static double elo(double score) {
+            if (score <= 0) return Double.NEGATIVE_INFINITY;
+            if (score >= 1) return Double.POSITIVE_INFINITY;
+            return -400 * Math.log10(1 / score - 1);
+        }
+
+        public int winsA() {
+            return winsA;
+        }
+
+        public int winsB() {
+            return winsB;
+        }
+
+        public int draws() {
+            return draws;
+        }
+
+        /**
+         * @return the total CPU time of engine A (in seconds).
+         */
+        public double cpuSecondsA() {
+            return nanosA / 1E9;
+        }
+
+        /**
+         * @return the total CPU time of engine B (in seconds).
+         */
+        public double cpuSecondsB() {
+            return nanosB / 1E9;
+        }
+
+        @Override
+        public String toString() {
+            double[] interval = eloInterval(1.96);
+            return String.format("%s vs %s: games=%d, wins=%d, losses=%d, draws=%d, score=%.3f, Elo=%.0f (95%% CI %.0f to %.0f), CPU secs=%.1f vs %.1f",
+                    nameA, nameB, games(), winsA, winsB, draws, score(), elo(), interval[0], interval[1], cpuSecondsA(), cpuSecondsB());
+        }
+
+        Result(String nameA, String nameB, int winsA, int winsB, int draws, long nanosA, long nanosB) {
+            this.nameA = nameA;
+            this.nameB = nameB;
+            this.winsA = winsA;
+            this.winsB = winsB;
+            this.draws = draws;
+            this.nanosA = nanosA;
+            this.nanosB = nanosB;
+        }
+
+        private final String nameA;
+        private final String nameB;
+        private final int winsA;
+        private final int winsB;
+        private final int draws;
+        private final long nanosA;
+        private final long nanosB;
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param start       a function which yields the starting State of a game, given the seed of that game.
+     * @param a           engine A.
+     * @param b           engine B.
+     * @param games       the number of games.
+     * @param seed        the seed of the first game.
+     * @param parallelism the number of games to be played concurrently.
+     */
+    public Tournament(LongFunction<State<G>> start, Engine<G> a, Engine<G> b, int games, long seed, int parallelism) {
+        if (games < 1) throw new IllegalArgumentException("games must be positive: " + games);
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        this.start = start;
+        this.a = a;
+        this.b = b;
+        this.games = games;
+        this.seed = seed;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Secondary constructor which plays as many games concurrently as there are processors.
+     *
+     * @param start a function which yields the starting State of a game, given the seed of that game.
+     * @param a     engine A.
+     * @param b     engine B.
+     * @param games the number of games.
+     * @param seed  the seed of the first game.
+     */
+    public Tournament(LongFunction<State<G>> start, Engine<G> a, Engine<G> b, int games, long seed) {
+        this(start, a, b, games, seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static long cpuNanos() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean.isCurrentThreadCpuTimeSupported() ? bean.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private static long[] get(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("tournament interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("tournament game failed", e.getCause());
+        }
+    }
+
+    private final LongFunction<State<G>> start;
+    private final Engine<G> a;
+    private final Engine<G> b;
+    private final int games;
+    private final long seed;
+    private final int parallelism;
+}
@@ -0,0 +1,107 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Class to represent a transposition table for a Monte Carlo Tree Search of a game (G).
+ * <p>
+ * Nodes whose States hash to the same key (typically a Zobrist hash of the position, canonicalized over the symmetries
+ * of the board) share one PackedStatistics, so that the playouts through one move order count for all the others.
+ * <p>
+ * The table holds at most <code>capacity</code> entries: when it is full, the least-recently used entry is evicted.
+ * Nodes which already hold an evicted PackedStatistics simply keep it (it is no longer shared with new Nodes).
+ * All methods are thread-safe.
+ *
+ * @param <G> the type of the Game.
+ */
+public class TranspositionTable<G extends Game> {
+
+    /**
+     * Method to get the statistics to be used by a Node for the given State, creating (and recording) them if necessary.
+     *
+     * @param state the State of a Node.
+     * @return the (possibly shared) PackedStatistics for state.
+     */
+    public synchronized PackedStatistics statistics(State<G> state) {
+        long key = hasher.applyAsLong(state);
+        PackedStatistics result = map.get(key);
+        if (result != null) {
+            hits++;
+            return result;
+        }
+        misses++;
+        result = new PackedStatistics();
+        map.put(key, result);
+        return result;
+    }
+
+    /**
+     * @param state a State.
+     * @return the key for state.
+     */
+    public long key(State<G> state) {
+        return hasher.applyAsLong(state);
+    }
+
+    /**
+     * @return the number of entries in this table.
+     */
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * @return the number of lookups which found an existing entry.
+     */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups which created a new entry.
+     */
+    public synchronized long misses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of entries which have been evicted.
+     */
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TranspositionTable{size=" + map.size() + ", capacity=" + capacity + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + '}';
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the maximum number of entries.
+     * @param hasher   the function which yields the key of a State.
+     */
+    public TranspositionTable(int capacity, ToLongFunction<State<G>> hasher) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.hasher = hasher;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, PackedStatistics> eldest) {
+                if (size() <= TranspositionTable.this.capacity) return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    private final int capacity;
+    private final ToLongFunction<State<G>> hasher;
+    private final LinkedHashMap<Long, PackedStatistics> map;
+    private long hits;
+    private long misses;
+    private long evictions;
+}
@@ -0,0 +1,124 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class to represent a tree-parallel Monte Carlo Tree Search: several threads share (and grow) the one tree of a TreeSearch.
+ * <p>
+ * The wins and playouts of each Node are updated atomically (see PackedStatistics) so that no locks are required
+ * during selection or back-propagation: the only lock is taken (on the Node itself) when a Node is expanded.
+ * <p>
+ * To discourage concurrent selectors from all following the same path,
+ * each Node visited during selection is immediately charged with a "virtual loss," that's to say
+ * <code>virtualLoss</code> playouts without any wins.
+ * When the result of the playout is back-propagated, the virtual loss is reversed.
+ *
+ * @param <G> the type of the Game.
+ */
+public class TreeParallelMCTS<G extends Game> {
+
+    /**
+     * Run the given number of iterations (in total) shared between the given number of threads.
+     *
+     * @param iterations the total number of iterations.
+     * @param threads    the number of concurrent tasks to be submitted to the executor.
+     */
+    public void run(int iterations, int threads) {
+        AtomicInteger remaining = new AtomicInteger(iterations);
+        List<Future<?>> futures = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++)
+            futures.add(executor.submit(() -> {
+                while (remaining.getAndDecrement() > 0) iterate();
+            }));
+        for (Future<?> future : futures) join(future);
+    }
+
+    /**
+     * Perform one iteration (select, expand, simulate, back-propagate) of the search.
+     * This method may be invoked concurrently by any number of threads.
+     */
+    public void iterate() {
+        Node<G> node = select(search.root());
+        int result = search.simulate(node);
+        while (node != null) {
+            node.addStatistics(search.reward(node, result), 1 - virtualLoss);
+            node = node.getParent();
+        }
+    }
+
+    /**
+     * Method to select the Node to be simulated, charging each Node on the way with a virtual loss.
+     *
+     * @param node the root.
+     * @return the Node to be simulated.
+     */
+    Node<G> select(Node<G> node) {
+        node.addStatistics(0, virtualLoss);
+        while (!node.isLeaf()) {
+            if (node.children().isEmpty() && expand(node)) return node;
+            Node<G> child = search.bestChild(node);
+            if (child == null) return node;
+            node = child;
+            node.addStatistics(0, virtualLoss);
+        }
+        return node;
+    }
+
+    /**
+     * Method to expand node unless some other thread got there first.
+     *
+     * @param node the Node to be expanded.
+     * @return true if this thread expanded node.
+     */
+    private boolean expand(Node<G> node) {
+        synchronized (node) {
+            if (!node.children().isEmpty()) return false;
+            node.expand();
+            return true;
+        }
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param search      the (game-specific) TreeSearch whose tree is to be shared.
+     * @param executor    the executor on which the threads will run.
+     * @param virtualLoss the number of playouts (without wins) charged to each selected Node (may be 0).
+     */
+    public TreeParallelMCTS(TreeSearch<G> search, ExecutorService executor, int virtualLoss) {
+        if (virtualLoss < 0) throw new IllegalArgumentException("virtualLoss must not be negative: " + virtualLoss);
+        this.search = search;
+        this.executor = executor;
+        this.virtualLoss = virtualLoss;
+    }
+
+    /**
+     * Secondary constructor with a virtual loss of one playout.
+     *
+     * @param search   the (game-specific) TreeSearch whose tree is to be shared.
+     * @param executor the executor on which the threads will run.
+     */
+    public TreeParallelMCTS(TreeSearch<G> search, ExecutorService executor) {
+        this(search, executor, 1);
+    }
+
+    private static void join(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("tree-parallel search interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("tree-parallel search failed", e.getCause());
+        }
+    }
+
+    private final TreeSearch<G> search;
+    private final ExecutorService executor;
+    private final int virtualLoss;
+}
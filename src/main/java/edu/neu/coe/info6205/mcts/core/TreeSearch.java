@@ -0,0 +1,85 @@
+package edu.neu.coe.info6205.mcts.core;
+
+/**
+ * This interface defines the game-specific behavior of a Monte Carlo Tree Search for a game (G)
+ * so that game-independent search strategies (for example, TreeParallelMCTS) can drive it.
+ *
+ * @param <G> the type of the Game.
+ */
+public interface TreeSearch<G extends Game> {
+
+    /**
+     * @return the root Node of the search tree.
+     */
+    Node<G> root();
+
+    /**
+     * Method to choose the child of node which should be followed during selection.
+     *
+     * @param node a Node which has children.
+     * @return one of the children of node (or null if there are none).
+     */
+    Node<G> bestChild(Node<G> node);
+
+    /**
+     * Method to play out (randomly) the game from the given State.
+     *
+     * @param state the State from which to play out the game.
+     * @return the result of the playout (as understood by reward).
+     */
+    int simulate(State<G> state);
+
+    /**
+     * Method to play out (randomly) the game from the State of node.
+     *
+     * @param node the Node from which to play out the game.
+     * @return the result of the playout (as understood by reward).
+     */
+    default int simulate(Node<G> node) {
+        return simulate(node.state());
+    }
+
+    /**
+     * Method to determine the number of wins which a playout result is worth to node.
+     *
+     * @param node   a Node on the path from the simulated node to the root.
+     * @param result the result yielded by simulate.
+     * @return the wins to be added to node.
+     */
+    int reward(Node<G> node, int result);
+
+    /**
+     * Method to add the result of a playout to node and each of its ancestors.
+     *
+     * @param node   the Node from which the playout was simulated.
+     * @param result the result yielded by simulate.
+     */
+    default void backPropagate(Node<G> node, int result) {
+        while (node != null) {
+            node.addStatistics(reward(node, result), 1);
+            node = node.getParent();
+        }
+    }
+
+    /**
+     * Method to find the child of node which represents the given State (expanding node if it has not yet been expanded),
+     * and to detach it from node so that it can become the root of a new search tree
+     * (the rest of the old tree is thereby pruned and may be garbage-collected).
+     * If state is the State of node itself, node is returned.
+     *
+     * @param node  the current root.
+     * @param state the State reached by the move which has been played.
+     * @return the new root, complete with the statistics and descendants accumulated so far.
+     * @throws IllegalArgumentException if state cannot be reached from node in one move.
+     */
+    static <G extends Game> Node<G> reRoot(Node<G> node, State<G> state) {
+        if (node.state().equals(state)) return node;
+        if (node.children().isEmpty() && !node.isLeaf()) node.expand();
+        for (Node<G> child : node.children())
+            if (child.state().equals(state)) {
+                child.setParent(null);
+                return child;
+            }
+        throw new IllegalArgumentException("state is not reachable from the root: " + state);
+    }
+}
@@ -0,0 +1,37 @@
+package edu.neu.coe.info6205.mcts.core;
+
+/**
+ * The UCB1 selection policy: <code>wins / playouts + c * sqrt(ln(parentPlayouts) / playouts)</code>.
+ * <p>
+ * The mean reward is taken as is (it is not normalized), which is how the engines in this package have always computed it.
+ */
+public class UCB1 implements SelectionPolicy {
+
+    /**
+     * Constructor.
+     *
+     * @param c the exploration constant (for example, sqrt(2)).
+     */
+    public UCB1(double c) {
+        if (c < 0) throw new IllegalArgumentException("exploration constant must not be negative: " + c);
+        this.c = c;
+    }
+
+    /**
+     * @return c squared times the log of the parent's playouts.
+     */
+    public double parentTerm(int parentPlayouts, int children) {
+        return c * c * LogTable.log(parentPlayouts);
+    }
+
+    public double value(int wins, int playouts, double parentTerm) {
+        return (wins + Math.sqrt(parentTerm * playouts)) / playouts;
+    }
+
+    @Override
+    public String toString() {
+        return "UCB1{c=" + c + '}';
+    }
+
+    private final double c;
+}
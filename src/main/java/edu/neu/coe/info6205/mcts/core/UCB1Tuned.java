@@ -0,0 +1,43 @@
+package edu.neu.coe.info6205.mcts.core;
+
+/**
+ * The UCB1-Tuned selection policy (Auer et al.), which replaces the exploration constant of UCB1 by an upper bound
+ * on the variance of the child's reward: <code>mean + sqrt(ln(N) / n * min(1/4, V))</code>,
+ * where <code>V = variance + sqrt(2 * ln(N) / n)</code>.
+ * <p>
+ * Nodes do not record the sum of squared rewards, so the variance of a reward in [0, 1] with the given mean
+ * is bounded by <code>mean * (1 - mean)</code>, which is used instead.
+ */
+public class UCB1Tuned implements SelectionPolicy {
+
+    /**
+     * Constructor.
+     *
+     * @param maxReward the greatest reward of a single playout (wins are divided by this to yield a mean in [0, 1]).
+     */
+    public UCB1Tuned(int maxReward) {
+        if (maxReward < 1) throw new IllegalArgumentException("maxReward must be positive: " + maxReward);
+        this.maxReward = maxReward;
+    }
+
+    /**
+     * @return the log of the parent's playouts.
+     */
+    public double parentTerm(int parentPlayouts, int children) {
+        return LogTable.log(parentPlayouts);
+    }
+
+    public double value(int wins, int playouts, double parentTerm) {
+        double mean = (double) wins / playouts / maxReward;
+        double ratio = parentTerm / playouts;
+        double v = mean * (1 - mean) + Math.sqrt(2 * ratio);
+        return mean + Math.sqrt(ratio * Math.min(0.25, v));
+    }
+
+    @Override
+    public String toString() {
+        return "UCB1Tuned{maxReward=" + maxReward + '}';
+    }
+
+    private final int maxReward;
+}
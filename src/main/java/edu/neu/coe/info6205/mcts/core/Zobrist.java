@@ -0,0 +1,41 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import java.util.Random;
+
+/**
+ * Class to support Zobrist hashing of game positions.
+ * <p>
+ * Each (cell, player) combination is assigned a random long and the hash of a position is the exclusive-or
+ * of the keys of all of its occupied cells.
+ * Since exclusive-or is its own inverse, the hash can be maintained incrementally as pieces are placed or removed.
+ */
+public class Zobrist {
+
+    /**
+     * Get the key for the given player occupying the given cell.
+     *
+     * @param cell   the cell index (0 .. cells - 1).
+     * @param player the player (0 .. players - 1).
+     * @return a random (but fixed) long.
+     */
+    public long key(int cell, int player) {
+        return keys[cell * players + player];
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param cells   the number of cells on the board.
+     * @param players the number of players.
+     * @param seed    the seed for the keys (so that hashes are reproducible between runs).
+     */
+    public Zobrist(int cells, int players, long seed) {
+        this.players = players;
+        this.keys = new long[cells * players];
+        Random random = new Random(seed);
+        for (int i = 0; i < keys.length; i++) keys[i] = random.nextLong();
+    }
+
+    private final int players;
+    private final long[] keys;
+}
@@ -0,0 +1,61 @@
+package edu.neu.coe.info6205.mcts.mnk;
+
+import edu.neu.coe.info6205.mcts.core.BaseMCTS;
+import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.PlayoutPolicy;
+import edu.neu.coe.info6205.mcts.core.ProgressiveWidening;
+import edu.neu.coe.info6205.mcts.core.SelectionPolicy;
+import edu.neu.coe.info6205.mcts.core.UCB1;
+
+import java.util.Random;
+
+/**
+ * Class to represent a Monte Carlo Tree Search for an m,n,k-game.
+ * The Nodes may be of any type: for large boards, the compact NodePool is recommended.
+ */
+public class MCTS extends BaseMCTS<MNKGame> {
+
+    /**
+     * Primary constructor.
+     *
+     * @param root          the root Node.
+     * @param policy        the SelectionPolicy.
+     * @param playoutPolicy the PlayoutPolicy (used when the State of a node yields a Playout).
+     * @param widening      the ProgressiveWidening (or null to expand all the children of a node at once).
+     * @param random        the random source for the playouts (or null to use ThreadLocalRandom).
+     */
+    public MCTS(Node<MNKGame> root, SelectionPolicy policy, PlayoutPolicy playoutPolicy, ProgressiveWidening widening, Random random) {
+        super(root, policy, playoutPolicy, widening, random);
+    }
+
+    /**
+     * Secondary constructor whose playouts use ThreadLocalRandom.
+     *
+     * @param root          the root Node.
+     * @param policy        the SelectionPolicy.
+     * @param playoutPolicy the PlayoutPolicy (used when the State of a node yields a Playout).
+     * @param widening      the ProgressiveWidening (or null to expand all the children of a node at once).
+     */
+    public MCTS(Node<MNKGame> root, SelectionPolicy policy, PlayoutPolicy playoutPolicy, ProgressiveWidening widening) {
+        this(root, policy, playoutPolicy, widening, null);
+    }
+
+    /**
+     * Secondary constructor which uses random playouts and no progressive widening.
+     *
+     * @param root   the root Node.
+     * @param policy the SelectionPolicy.
+     */
+    public MCTS(Node<MNKGame> root, SelectionPolicy policy) {
+        this(root, policy, PlayoutPolicy.random(), null);
+    }
+
+    /**
+     * Secondary constructor which uses UCB1 with an exploration constant of sqrt(2).
+     *
+     * @param root the root Node.
+     */
+    public MCTS(Node<MNKGame> root) {
+        this(root, new UCB1(Math.sqrt(2)));
+    }
+}
@@ -0,0 +1,33 @@
+package edu.neu.coe.info6205.mcts.mnk;
+
+import edu.neu.coe.info6205.mcts.core.NodePool;
+import edu.neu.coe.info6205.mcts.core.PlayoutBenchmark;
+import edu.neu.coe.info6205.mcts.core.SearchBudget;
+import edu.neu.coe.info6205.mcts.core.SearchInstrumentation;
+import edu.neu.coe.info6205.mcts.core.SearchReport;
+import edu.neu.coe.info6205.mcts.core.State;
+
+/**
+ * Load test of the MCTS engine on an m,n,k-game with a large branching factor (by default, Gomoku on 15 by 15).
+ * <p>
+ * Usage: MNKBenchmark [m n k [millis]].
+ */
+public class MNKBenchmark {
+
+    public static void main(String[] args) {
+        int m = args.length > 2 ? Integer.parseInt(args[0]) : 15;
+        int n = args.length > 2 ? Integer.parseInt(args[1]) : 15;
+        int k = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        long millis = args.length > 3 ? Long.parseLong(args[3]) : 2000;
+        MNKGame game = new MNKGame(m, n, k, 0L);
+        State<MNKGame> start = game.start();
+        System.out.println("MNKBenchmark: " + game + ", millis=" + millis);
+        new PlayoutBenchmark<>(start, 10000).report(game.toString());
+        NodePool<MNKGame> pool = new NodePool<>(start);
+        SearchInstrumentation instrumentation = new SearchInstrumentation();
+        SearchReport<MNKGame> report = new MCTS(pool.root()).run(SearchBudget.millis(millis), instrumentation);
+        System.out.println("NodePool: " + report + ", pool bytes=" + pool.bytes());
+        System.out.println(instrumentation);
+        System.out.println("Best move: " + report.bestMove().state().toString().replace('\n', '/'));
+    }
+}
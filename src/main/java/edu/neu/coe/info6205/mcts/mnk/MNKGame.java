@@ -0,0 +1,167 @@
+package edu.neu.coe.info6205.mcts.mnk;
+
+import edu.neu.coe.info6205.mcts.core.Game;
+import edu.neu.coe.info6205.mcts.core.Move;
+import edu.neu.coe.info6205.mcts.core.Playout;
+import edu.neu.coe.info6205.mcts.core.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Class which models an m,n,k-game: the first player to get k in a row on an m by n board wins.
+ * For example, gomoku() is the 15,15,5-game, which has 225 moves from the starting position
+ * (a much larger branching factor than TicTacToe or ConnectFour).
+ */
+public class MNKGame implements Game<MNKGame> {
+
+    public static final int X = 1;
+    public static final int O = 0;
+    public static final int BLANK = -1;
+
+    /**
+     * @param seed a seed for the random source.
+     * @return the game of Gomoku (free-style: k or more in a row wins) on a 15 by 15 board.
+     */
+    public static MNKGame gomoku(long seed) {
+        return new MNKGame(15, 15, 5, seed);
+    }
+
+    /**
+     * @return the starting State (an empty board, X to play).
+     */
+    public State<MNKGame> start() {
+        return new MNKState(MNKPosition.start(m, n, k));
+    }
+
+    /**
+     * @return X.
+     */
+    public int opener() {
+        return X;
+    }
+
+    public int m() {
+        return m;
+    }
+
+    public int n() {
+        return n;
+    }
+
+    public int k() {
+        return k;
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param m      the number of rows.
+     * @param n      the number of columns.
+     * @param k      the number in a row required to win.
+     * @param random a random source.
+     */
+    public MNKGame(int m, int n, int k, Random random) {
+        MNKPosition.start(m, n, k); // NOTE this validates m, n and k.
+        this.m = m;
+        this.n = n;
+        this.k = k;
+        this.random = random;
+    }
+
+    /**
+     * Secondary constructor.
+     *
+     * @param m    the number of rows.
+     * @param n    the number of columns.
+     * @param k    the number in a row required to win.
+     * @param seed a seed for the random source.
+     */
+    public MNKGame(int m, int n, int k, long seed) {
+        this(m, n, k, new Random(seed));
+    }
+
+    @Override
+    public String toString() {
+        return "MNKGame{" + m + "," + n + "," + k + '}';
+    }
+
+    private final int m;
+    private final int n;
+    private final int k;
+    private final Random random;
+
+    /**
+     * Inner class to define a State of an m,n,k-game.
+     */
+    public class MNKState implements State<MNKGame> {
+
+        public MNKState(MNKPosition position) {
+            if (position.m != m || position.n != n || position.k != k)
+                throw new IllegalArgumentException("position does not belong to " + MNKGame.this);
+            this.position = position;
+        }
+
+        public MNKPosition position() {
+            return position;
+        }
+
+        public MNKGame game() {
+            return MNKGame.this;
+        }
+
+        public boolean isTerminal() {
+            return position.isTerminal();
+        }
+
+        public int player() {
+            return position.last == X ? O : X;
+        }
+
+        public Optional<Integer> winner() {
+            return position.winner();
+        }
+
+        public Random random() {
+            return random;
+        }
+
+        public Collection<Move<MNKGame>> moves(int player) {
+            List<Integer> cells = position.moves(player);
+            List<Move<MNKGame>> result = new ArrayList<>(cells.size());
+            for (int cell : cells) result.add(new MNKMove(player, cell));
+            return result;
+        }
+
+        public State<MNKGame> next(Move<MNKGame> move) {
+            return new MNKState(position.move(move.player(), ((MNKMove) move).cell()));
+        }
+
+        @Override
+        public Optional<Playout> playout() {
+            return Optional.of(new MNKPlayout(position));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MNKState)) return false;
+            return position.equals(((MNKState) o).position);
+        }
+
+        @Override
+        public int hashCode() {
+            return position.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return position.toString();
+        }
+
+        private final MNKPosition position;
+    }
+}
@@ -0,0 +1,31 @@
+package edu.neu.coe.info6205.mcts.mnk;
+
+import edu.neu.coe.info6205.mcts.core.Move;
+
+/**
+ * Class to define a Move of an m,n,k-game: the player and the cell (row * n + column) in which it places a piece.
+ */
+public class MNKMove implements Move<MNKGame> {
+
+    public MNKMove(int player, int cell) {
+        this.player = player;
+        this.cell = cell;
+    }
+
+    @Override
+    public int player() {
+        return player;
+    }
+
+    public int cell() {
+        return cell;
+    }
+
+    @Override
+    public String toString() {
+        return "MNKMove{player=" + player + ", cell=" + cell + '}';
+    }
+
+    private final int player;
+    private final int cell;
+}
@@ -0,0 +1,120 @@
+package edu.neu.coe.info6205.mcts.mnk;
+
+import edu.neu.coe.info6205.mcts.core.Playout;
+
+import java.util.Arrays;
+
+import static edu.neu.coe.info6205.mcts.mnk.MNKPosition.clear;
+import static edu.neu.coe.info6205.mcts.mnk.MNKPosition.get;
+import static edu.neu.coe.info6205.mcts.mnk.MNKPosition.line;
+import static edu.neu.coe.info6205.mcts.mnk.MNKPosition.set;
+
+/**
+ * MNKPlayout class is a mutable version of MNKPosition which plays (and undoes) moves in place.
+ * A move is simply the cell number.
+ * <p>
+ * The empty cells are kept in an array (with the index of each cell in that array) so that moves(int[]) is a copy
+ * and play/undo are O(1) apart from the incremental win check.
+ */
+public class MNKPlayout implements Playout {
+
+    /**
+     * Constructor to create an MNKPlayout which starts from the given position.
+     *
+     * @param position the starting position (which is not changed).
+     */
+    public MNKPlayout(MNKPosition position) {
+        this.m = position.m;
+        this.n = position.n;
+        this.k = position.k;
+        this.x = Arrays.copyOf(position.x, position.x.length);
+        this.o = Arrays.copyOf(position.o, position.o.length);
+        this.last = position.last;
+        this.initialLast = position.last;
+        this.won = position.winner().isPresent();
+        this.history = new int[m * n];
+        this.empty = new int[m * n];
+        this.index = new int[m * n];
+        for (int cell = 0; cell < m * n; cell++)
+            if (position.isEmpty(cell)) {
+                index[cell] = empties;
+                empty[empties++] = cell;
+            }
+    }
+
+    public int player() {
+        return last == MNKGame.X ? MNKGame.O : MNKGame.X;
+    }
+
+    public boolean isTerminal() {
+        return won || empties == 0;
+    }
+
+    public int winner() {
+        return won ? last : MNKGame.BLANK;
+    }
+
+    public int maxMoves() {
+        return m * n;
+    }
+
+    public int moves(int[] buffer) {
+        System.arraycopy(empty, 0, buffer, 0, empties);
+        return empties;
+    }
+
+    public void play(int cell) {
+        int player = player();
+        long[] board = player == MNKGame.X ? x : o;
+        set(board, cell);
+        won = line(board, m, n, k, cell);
+        // NOTE swap cell with the last empty cell and shrink.
+        int i = index[cell];
+        int moved = empty[--empties];
+        empty[i] = moved;
+        index[moved] = i;
+        empty[empties] = cell;
+        index[cell] = empties;
+        history[played++] = cell;
+        last = player;
+    }
+
+    public void undo() {
+        if (played == 0) throw new RuntimeException("no move to undo");
+        int cell = history[--played];
+        clear(last == MNKGame.X ? x : o, cell);
+        // NOTE cell is still at position empties of the empty array (it was put there by play).
+        empties++;
+        last = played == 0 ? initialLast : 1 - last;
+        won = false;
+    }
+
+    /**
+     * @return the position which has been reached.
+     */
+    public MNKPosition position() {
+        return new MNKPosition(m, n, k, Arrays.copyOf(x, x.length), Arrays.copyOf(o, o.length), m * n - empties, last, won);
+    }
+
+    /**
+     * @param cell a cell.
+     * @return true if cell is empty.
+     */
+    boolean isEmpty(int cell) {
+        return !get(x, cell) && !get(o, cell);
+    }
+
+    private final int m;
+    private final int n;
+    private final int k;
+    private final long[] x;
+    private final long[] o;
+    private final int[] history;
+    private final int[] empty;
+    private final int[] index;
+    private final int initialLast;
+    private int empties;
+    private int played;
+    private int last;
+    private boolean won;
+}
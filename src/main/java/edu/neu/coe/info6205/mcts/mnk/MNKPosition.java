@@ -0,0 +1,243 @@
+package edu.neu.coe.info6205.mcts.mnk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MNKPosition class represents a position of an m,n,k-game (for example, Gomoku is the 15,15,5-game
+ * and TicTacToe is the 3,3,3-game): two players take turns to place a piece on an empty cell of an m by n board
+ * and the first to get k in a row (horizontally, vertically or diagonally) wins.
+ * <p>
+ * Each player's pieces are held in a bitboard of <code>ceil(m * n / 64)</code> longs: cell <code>row * n + column</code>
+ * is bit <code>cell % 64</code> of word <code>cell / 64</code>.
+ * Only the player who made the last move can have won, and only with a line through the cell just played,
+ * so the win check after a move is incremental: it probes at most <code>4 * 2 * (k - 1)</code> cells.
+ */
+public class MNKPosition {
+
+    /**
+     * Method to create an empty position.
+     *
+     * @param m the number of rows.
+     * @param n the number of columns.
+     * @param k the number in a row required to win.
+     * @return the starting position (X to play).
+     */
+    public static MNKPosition start(int m, int n, int k) {
+        if (m < 1 || n < 1 || k < 1) throw new IllegalArgumentException("invalid game: " + m + "," + n + "," + k);
+        if (k > m && k > n) throw new IllegalArgumentException("k is too large for the board: " + k);
+        int words = words(m * n);
+        return new MNKPosition(m, n, k, new long[words], new long[words], 0, MNKGame.BLANK, false);
+    }
+
+    /**
+     * Method to parse a position: one line per row, cells separated by spaces, "X" or "1" for X, "O" or "0" for O
+     * and anything else for an empty cell.
+     *
+     * @param grid the rows of the board.
+     * @param k    the number in a row required to win.
+     * @param last the last player to have moved.
+     * @return an MNKPosition.
+     */
+    public static MNKPosition parsePosition(String grid, int k, int last) {
+        String[] rows = grid.split("\\n");
+        int m = rows.length;
+        int n = rows[0].trim().split(" +").length;
+        int words = words(m * n);
+        long[] x = new long[words];
+        long[] o = new long[words];
+        int count = 0;
+        for (int i = 0; i < m; i++) {
+            String[] cells = rows[i].trim().split(" +");
+            if (cells.length != n) throw new IllegalArgumentException("row " + i + " does not have " + n + " cells");
+            for (int j = 0; j < n; j++) {
+                switch (cells[j].toUpperCase()) {
+                    case "X", "1" -> set(x, i * n + j);
+                    case "O", "0" -> set(o, i * n + j);
+                    default -> {
+                        continue;
+                    }
+                }
+                count++;
+            }
+        }
+        boolean won = false;
+        if (last >= 0) {
+            long[] board = last == MNKGame.X ? x : o;
+            for (int cell = 0; cell < m * n && !won; cell++)
+                won = get(board, cell) && line(board, m, n, k, cell);
+        }
+        return new MNKPosition(m, n, k, x, o, count, last, won);
+    }
+
+    /**
+     * Make a move on the board.
+     *
+     * @param player the player making the move.
+     * @param cell   the cell (row * n + column) in which to play.
+     * @return a new MNKPosition.
+     * @throws RuntimeException         if the game is over, the cell is occupied or consecutive moves are made by the same player.
+     * @throws IllegalArgumentException if the cell is invalid.
+     */
+    public MNKPosition move(int player, int cell) {
+        if (isTerminal()) throw new RuntimeException("Game is over");
+        if (player == last) throw new RuntimeException("Consecutive moves by the same player: " + player);
+        if (cell < 0 || cell >= m * n) throw new IllegalArgumentException("Invalid cell: " + cell);
+        if (!isEmpty(cell)) throw new RuntimeException("Cell is occupied: " + cell);
+        long[] board = Arrays.copyOf(player == MNKGame.X ? x : o, x.length);
+        set(board, cell);
+        boolean win = line(board, m, n, k, cell);
+        if (player == MNKGame.X) return new MNKPosition(m, n, k, board, o, count + 1, player, win);
+        else return new MNKPosition(m, n, k, x, board, count + 1, player, win);
+    }
+
+    /**
+     * Get the list of possible moves for the given player.
+     *
+     * @param player the player for whom to get the possible moves.
+     * @return the empty cells (in ascending order).
+     * @throws RuntimeException if consecutive moves are made by the same player.
+     */
+    public List<Integer> moves(int player) {
+        if (player == last) throw new RuntimeException("Consecutive moves by the same player: " + player);
+        List<Integer> result = new ArrayList<>(m * n - count);
+        for (int cell = 0; cell < m * n; cell++) if (isEmpty(cell)) result.add(cell);
+        return result;
+    }
+
+    /**
+     * @param cell a cell.
+     * @return true if neither player has a piece in cell.
+     */
+    public boolean isEmpty(int cell) {
+        return !get(x, cell) && !get(o, cell);
+    }
+
+    /**
+     * @param row    the row.
+     * @param column the column.
+     * @return the player whose piece is in the given cell, or -1 if it is empty.
+     */
+    public int get(int row, int column) {
+        int cell = row * n + column;
+        if (get(x, cell)) return MNKGame.X;
+        if (get(o, cell)) return MNKGame.O;
+        return MNKGame.BLANK;
+    }
+
+    /**
+     * @return the winner (the last player), or empty if nobody has won.
+     */
+    public Optional<Integer> winner() {
+        return won ? Optional.of(last) : Optional.empty();
+    }
+
+    /**
+     * @return true if every cell is occupied.
+     */
+    public boolean full() {
+        return count == m * n;
+    }
+
+    /**
+     * @return true if the game is over.
+     */
+    public boolean isTerminal() {
+        return won || full();
+    }
+
+    /**
+     * Method to determine if the piece at cell is part of a line of at least k pieces.
+     * Only the lines through cell are examined.
+     *
+     * @param board a bitboard.
+     * @param m     the number of rows.
+     * @param n     the number of columns.
+     * @param k     the number in a row required to win.
+     * @param cell  the cell which has just been played.
+     * @return true if cell is part of k in a row.
+     */
+    static boolean line(long[] board, int m, int n, int k, int cell) {
+        int row = cell / n;
+        int column = cell % n;
+        for (int[] direction : directions) {
+            int dr = direction[0];
+            int dc = direction[1];
+            int length = 1;
+            for (int r = row + dr, c = column + dc; length < k && r >= 0 && r < m && c >= 0 && c < n && get(board, r * n + c); r += dr, c += dc)
+                length++;
+            for (int r = row - dr, c = column - dc; length < k && r >= 0 && r < m && c >= 0 && c < n && get(board, r * n + c); r -= dr, c -= dc)
+                length++;
+            if (length >= k) return true;
+        }
+        return false;
+    }
+
+    static boolean get(long[] board, int cell) {
+        return (board[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    static void set(long[] board, int cell) {
+        board[cell >>> 6] |= 1L << cell;
+    }
+
+    static void clear(long[] board, int cell) {
+        board[cell >>> 6] &= ~(1L << cell);
+    }
+
+    static int words(int cells) {
+        return (cells + 63) >>> 6;
+    }
+
+    @Override
+    public boolean equals(Object o1) {
+        if (this == o1) return true;
+        if (!(o1 instanceof MNKPosition)) return false;
+        MNKPosition that = (MNKPosition) o1;
+        return m == that.m && n == that.n && k == that.k && last == that.last && Arrays.equals(x, that.x) && Arrays.equals(o, that.o);
+    }
+
+    @Override
+    public int hashCode() {
+        return (Arrays.hashCode(x) * 31 + Arrays.hashCode(o)) * 31 + last;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                int cell = get(i, j);
+                sb.append(cell == MNKGame.BLANK ? "." : (cell == MNKGame.X ? "X" : "O"));
+                if (j < n - 1) sb.append(' ');
+            }
+            if (i < m - 1) sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    MNKPosition(int m, int n, int k, long[] x, long[] o, int count, int last, boolean won) {
+        this.m = m;
+        this.n = n;
+        this.k = k;
+        this.x = x;
+        this.o = o;
+        this.count = count;
+        this.last = last;
+        this.won = won;
+    }
+
+    // The four directions of a line: horizontal, vertical, diagonal and anti-diagonal.
+    private static final int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    final int m;
+    final int n;
+    final int k;
+    final long[] x;
+    final long[] o;
+    final int count;
+    final int last;
+    private final boolean won;
+}
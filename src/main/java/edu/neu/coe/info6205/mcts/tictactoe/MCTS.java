@@ -1,152 +1,88 @@
 package edu.neu.coe.info6205.mcts.tictactoe;
 
-import edu.neu.coe.info6205.mcts.core.Move;
+import edu.neu.coe.info6205.mcts.core.BaseMCTS;
 
 import edu.neu.coe.info6205.mcts.core.Node;
 
-import edu.neu.coe.info6205.mcts.core.State;
+import edu.neu.coe.info6205.mcts.core.PlayoutPolicy;
 
+import edu.neu.coe.info6205.mcts.core.SelectionPolicy;
 
+import edu.neu.coe.info6205.mcts.core.UCB1;
 
-import java.util.ArrayList;
 
-import java.util.Comparator;
-
-import java.util.List;
 
 import java.util.Random;
 
 
 
+
+
 /**
 
  * Class to represent a Monte Carlo Tree Search for TicTacToe.
 
  */
 
-public class MCTS {
-
-    public static TicTacToeNode root;
-
-    public void run(int iterations) {
-
-        for (int i = 0; i < iterations; i++) {
-
-            Node<TicTacToe> node = select(root);
-
-            int result = simulate(node);
-
-            backPropagate(node, result);
-
-        }
-
-    }
-
-
-
-    Node<TicTacToe> select(Node<TicTacToe> node) {
-
-        while (!node.isLeaf()) {
-
-            if (!node.children().isEmpty()) {
-
-                node = bestChild(node);
-
-            } else {
-
-                node.explore();
-
-                return node;
+public class MCTS extends BaseMCTS<TicTacToe> {
 
-            }
+    /**
 
-        }
-
-        return node;
-
-    }
+     * Primary constructor.
 
+     *
 
+     * @param root   the root Node.
 
-    Node<TicTacToe> bestChild(Node<TicTacToe> node) {
+     * @param policy the SelectionPolicy.
 
-        if (node.children().isEmpty()) {
+     * @param random the random source for the playouts (or null to use ThreadLocalRandom).
 
-            return null;
+     */
 
-        }
+    public MCTS(Node<TicTacToe> root, SelectionPolicy policy, Random random) {
 
-        return node.children().stream()
-
-                .max(Comparator.comparingDouble(this::ucb1))
-
-                .orElseThrow(() -> new IllegalStateException("No best child found, but children list is not empty"));
+        super(root, policy, PlayoutPolicy.random(), null, random);
 
     }
 
 
 
-    private double ucb1(Node<TicTacToe> node) {
-
-        double c = Math.sqrt(2);
-
-        return node.wins() / (double) node.playouts() +
-
-                c * Math.sqrt(Math.log(node.getParent().playouts()) / (double) node.playouts());
-
-    }
-
+    /**
 
+     * Secondary constructor whose playouts use ThreadLocalRandom.
 
-    int simulate(Node<TicTacToe> node) {
+     *
 
-        State<TicTacToe> state = node.state();
+     * @param root   the root Node.
 
-        Random random = new Random();
+     * @param policy the SelectionPolicy.
 
-        while (!state.isTerminal()) {
+     */
 
-            List<Move<TicTacToe>> moves = new ArrayList<>(state.moves(state.player()));
+    public MCTS(Node<TicTacToe> root, SelectionPolicy policy) {
 
-            Move<TicTacToe> move = moves.get(random.nextInt(moves.size()));
-
-            state = state.next(move);
-
-        }
-
-        return state.winner().orElse(-1);
+        this(root, policy, null);
 
     }
 
 
 
-    void backPropagate(Node<TicTacToe> node, int result) {
-
-        while (node != null) {
-
-            int playout = node.playouts();
 
-            node.setPlayouts(playout + 1);
 
-            int win = node.wins();
+    /**
 
-            if (result == 1) {
+     * Secondary constructor which uses UCB1 with an exploration constant of sqrt(2).
 
-                node.setWins(win + 1);
-
-            }
-
-            node = node.getParent();
-
-        }
-
-    }
+     *
 
+     * @param root the root Node.
 
+     */
 
-    public MCTS(TicTacToeNode root) {
+    public MCTS(Node<TicTacToe> root) {
 
-        MCTS.root = root;
+        this(root, new UCB1(Math.sqrt(2)));
 
     }
 
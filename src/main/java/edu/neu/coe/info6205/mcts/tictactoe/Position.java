@@ -1,5 +1,7 @@
 package edu.neu.coe.info6205.mcts.tictactoe;
 
+import edu.neu.coe.info6205.mcts.core.Zobrist;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -201,6 +203,27 @@ public class Position {
         return result;
     }
 
+    /**
+     * Method to yield the cells of the given player as a bit mask: bit i * 3 + j is set if cell [i][j] belongs to player.
+     *
+     * @param player the player (0: O, 1: X).
+     * @return a 9-bit mask.
+     */
+    int bits(int player) {
+        int result = 0;
+        for (int i = 0; i < gridSize; i++)
+            for (int j = 0; j < gridSize; j++)
+                if (grid[i][j] == player) result |= 1 << (i * gridSize + j);
+        return result;
+    }
+
+    /**
+     * @return the number of occupied cells.
+     */
+    int count() {
+        return count;
+    }
+
     /**
      * @return true if this Position has 9 elements.
      */
@@ -251,6 +274,35 @@ public class Position {
         return Arrays.deepHashCode(grid);
     }
 
+    /**
+     * Method to yield the Zobrist hash of this Position.
+     *
+     * @return the exclusive-or of the Zobrist keys of the occupied cells.
+     */
+    public long zobrist() {
+        long result = 0L;
+        for (int i = 0; i < gridSize; i++)
+            for (int j = 0; j < gridSize; j++)
+                if (grid[i][j] >= 0) result ^= zobrist.key(i * gridSize + j, grid[i][j]);
+        return result;
+    }
+
+    /**
+     * Method to yield a hash which is the same for all eight Positions which are equivalent under the symmetries
+     * of the board (the four rotations, each with or without reflection).
+     *
+     * @return the least of the Zobrist hashes of the eight equivalent Positions.
+     */
+    public long canonicalHash() {
+        long result = Long.MAX_VALUE;
+        Position position = this;
+        for (int i = 0; i < 4; i++) {
+            result = Math.min(result, Math.min(position.zobrist(), position.reflect(1).zobrist()));
+            position = position.rotate();
+        }
+        return result;
+    }
+
     Position(int[][] grid, int count, int last) {
         this.grid = grid;
         this.count = count;
@@ -293,4 +345,6 @@ public class Position {
     private final int count;
     private final static int gridSize = 3;
     private final int[] xxx;
+
+    private static final Zobrist zobrist = new Zobrist(gridSize * gridSize, 2, 0x5DEECE66DL);
 }
\ No newline at end of file
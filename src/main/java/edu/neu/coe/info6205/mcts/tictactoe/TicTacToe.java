@@ -1,8 +1,11 @@
 package edu.neu.coe.info6205.mcts.tictactoe;
 
+import edu.neu.coe.info6205.mcts.core.AnytimeSearch;
 import edu.neu.coe.info6205.mcts.core.Game;
 import edu.neu.coe.info6205.mcts.core.Move;
+import edu.neu.coe.info6205.mcts.core.Playout;
 import edu.neu.coe.info6205.mcts.core.State;
+import edu.neu.coe.info6205.mcts.core.TranspositionTable;
 
 import java.util.*;
 
@@ -73,6 +76,27 @@ public class TicTacToe implements Game<TicTacToe> {
         return state;
     }
 
+    /**
+     * Run a TicTacToe game in which X is played by MCTS and O plays at random.
+     * The search tree is re-rooted after every move (by either player) so that its playouts are carried over.
+     *
+     * @param iterations the number of MCTS iterations for each move by X.
+     * @return the terminal State.
+     */
+    State<TicTacToe> runGame(int iterations) {
+        State<TicTacToe> state = start();
+        MCTS mcts = new MCTS(new TicTacToeNode(state));
+        while (!state.isTerminal()) {
+            if (state.player() == X) {
+                mcts.run(iterations);
+                state = AnytimeSearch.bestMove(mcts.root()).state();
+            } else
+                state = state.next(state.chooseMove(state.player()));
+            mcts.advance(state);
+        }
+        return state;
+    }
+
     /**
      * This method determines the opening player (the "white" by analogy with chess).
      * NOTE this should agree with
@@ -92,6 +116,27 @@ public class TicTacToe implements Game<TicTacToe> {
         return new TicTacToeState();
     }
 
+    /**
+     * Method to create a TranspositionTable for this game, keyed by the canonical Zobrist hash of the position
+     * (so that the eight symmetrical variants of a position share their statistics).
+     *
+     * @param capacity the maximum number of entries.
+     * @return a new TranspositionTable.
+     */
+    public static TranspositionTable<TicTacToe> transpositionTable(int capacity) {
+        return new TranspositionTable<>(capacity, TicTacToe::canonicalHash);
+    }
+
+    /**
+     * Method to yield the canonical (symmetry-invariant) Zobrist hash of the position of a State.
+     *
+     * @param state a State of TicTacToe.
+     * @return the canonical hash.
+     */
+    public static long canonicalHash(State<TicTacToe> state) {
+        return ((TicTacToeState) state).position().canonicalHash();
+    }
+
     /**
      * Primary constructor.
      *
@@ -235,6 +280,15 @@ public class TicTacToe implements Game<TicTacToe> {
             return new TicTacToeState(position.move(move.player(), ints[0], ints[1]));
         }
 
+        /**
+         * Method to yield a mutable copy of this State for fast playouts.
+         *
+         * @return a TicTacToePlayout.
+         */
+        public Optional<Playout> playout() {
+            return Optional.of(new TicTacToePlayout(position));
+        }
+
         /**
          * Is the game over?
          *
@@ -244,6 +298,18 @@ public class TicTacToe implements Game<TicTacToe> {
             return position.full() || position.winner().isPresent();
         }
 
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TicTacToeState)) return false;
+            return position.equals(((TicTacToeState) o).position);
+        }
+
+        @Override
+        public int hashCode() {
+            return position.hashCode();
+        }
+
         @Override
         public String toString() {
             return "TicTacToe{\n" +
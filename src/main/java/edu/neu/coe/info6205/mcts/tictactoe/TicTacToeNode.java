@@ -1,18 +1,19 @@
 package edu.neu.coe.info6205.mcts.tictactoe;
 
 import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.PackedStatistics;
 import edu.neu.coe.info6205.mcts.core.State;
+import edu.neu.coe.info6205.mcts.core.TranspositionTable;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class TicTacToeNode implements Node<TicTacToe> {
-    private final Random random = new Random();
     private Node<TicTacToe> parent;
-    private int wins;
-    private int playouts;
+    private final PackedStatistics statistics;
+    private final TranspositionTable<TicTacToe> table;
 
     /**
      * @return true if this node is a leaf node (in which case no further exploration is possible).
@@ -46,54 +47,82 @@ public class TicTacToeNode implements Node<TicTacToe> {
         return children;
     }
 
+    /**
+     * Method which adds the immediate children of this Node.
+     * NOTE with a TranspositionTable, the statistics of this Node may already include playouts which reached
+     * the same position by another move order: so, rather than resetting them (by backPropagate), they are left alone.
+     */
+    public void explore() {
+        if (table == null) {
+            Node.super.explore();
+            return;
+        }
+        if (isLeaf()) return;
+        if (children.isEmpty()) expand();
+        else throw new RuntimeException("exploration done already for " + this);
+    }
+
     /**
      * Method to add a child to this Node.
      *
      * @param state the State for the new chile.
+     * @return the new child.
      */
-    public void addChild(State<TicTacToe> state) {
+    public Node<TicTacToe> addChild(State<TicTacToe> state) {
         if(state == null) {
 
             throw new IllegalArgumentException("empty state added");
 
         }
-        TicTacToeNode child = new TicTacToeNode(state);
+        TicTacToeNode child = new TicTacToeNode(state, table);
         child.setParent(this);  // Set the parent of the child
         children.add(child);
+        return child;
     }
 
     /**
      * This method sets the number of wins and playouts according to the children states.
      */
     public void backPropagate() {
-        playouts = 0;
-        wins = 0;
+        int wins = 0;
+        int playouts = 0;
         for (Node<TicTacToe> child : children) {
             wins += child.wins();
             playouts += child.playouts();
         }
+        statistics.set(wins, playouts);
     }
 
     /**
      * @return the score for this Node and its descendents a win is worth 2 points, a draw is worth 1 point.
      */
     public int wins() {
-        return wins;
+        return statistics.wins();
     }
 
     public void setWins(int wins) {
-        this.wins = wins;
+        statistics.setWins(wins);
     }
 
     /**
      * @return the number of playouts evaluated (including this node). A leaf node will have a playouts value of 1.
      */
     public int playouts() {
-        return playouts;
+        return statistics.playouts();
     }
 
     public void setPlayouts(int playout) {
-        this.playouts = playout;
+        statistics.setPlayouts(playout);
+    }
+
+    /**
+     * Method to atomically add to the wins and playouts of this Node.
+     *
+     * @param wins     the wins to be added.
+     * @param playouts the playouts to be added.
+     */
+    public void addStatistics(int wins, int playouts) {
+        statistics.add(wins, playouts);
     }
 
     // Implement parent methods
@@ -105,35 +134,47 @@ public class TicTacToeNode implements Node<TicTacToe> {
         this.parent = parent;
     }
 
-    public TicTacToeNode(State<TicTacToe> state) {
+    /**
+     * Primary constructor.
+     *
+     * @param state the State of this Node.
+     * @param table a TranspositionTable whose statistics are shared by this Node and its descendants (or null).
+     */
+    public TicTacToeNode(State<TicTacToe> state, TranspositionTable<TicTacToe> table) {
         this.state = state;
-        this.children = new ArrayList<>();
+        this.table = table;
+        this.statistics = table != null ? table.statistics(state) : new PackedStatistics();
+        this.children = new CopyOnWriteArrayList<>();
         this.parent = null;
         initializeNodeData();
     }
 
+    public TicTacToeNode(State<TicTacToe> state) {
+        this(state, null);
+    }
+
     private void initializeNodeData() {
-        if (isLeaf()) {
-            this.playouts = 1;
+        // NOTE shared statistics which have already been initialized (by a transposition) are left alone.
+        if (isLeaf() && statistics.playouts() == 0) {
             Optional<Integer> winner = state.winner();
             if (winner.isPresent())
-                this.wins = 2;
+                statistics.set(2, 1);
             else
-                this.wins = 1;
+                statistics.set(1, 1);
         }
     }
 
 
 
     public void incrementPlayouts() {
-        this.playouts++;
+        statistics.add(0, 1);
     }
 
 
     public void addWins(int wins) {
-        this.wins += wins;
+        statistics.add(wins, 0);
     }
     private final State<TicTacToe> state;
-    private final ArrayList<Node<TicTacToe>> children;
+    private final List<Node<TicTacToe>> children;
 }
 //
@@ -0,0 +1,94 @@
+package edu.neu.coe.info6205.mcts.tictactoe;
+
+import edu.neu.coe.info6205.mcts.core.Playout;
+
+/**
+ * Class which is a mutable version of Position, used to play out a game of TicTacToe in place.
+ * The cells of each player are held as a 9-bit mask and a move is the cell number: i * 3 + j.
+ */
+public class TicTacToePlayout implements Playout {
+
+    /**
+     * Constructor to create a TicTacToePlayout which starts from the given position.
+     *
+     * @param position the starting position (which is not changed).
+     */
+    public TicTacToePlayout(Position position) {
+        this.x = position.bits(TicTacToe.X);
+        this.o = position.bits(TicTacToe.O);
+        this.count = position.count();
+        this.initialCount = count;
+        this.last = position.last;
+        this.initialLast = position.last;
+        this.won = position.winner().isPresent();
+    }
+
+    public int player() {
+        return last == TicTacToe.X ? TicTacToe.O : TicTacToe.X;
+    }
+
+    public boolean isTerminal() {
+        return won || count == cells;
+    }
+
+    public int winner() {
+        return won ? last : TicTacToe.blank;
+    }
+
+    public int maxMoves() {
+        return cells;
+    }
+
+    public int moves(int[] buffer) {
+        int occupied = x | o;
+        int n = 0;
+        for (int cell = 0; cell < cells; cell++)
+            if ((occupied & (1 << cell)) == 0) buffer[n++] = cell;
+        return n;
+    }
+
+    public void play(int cell) {
+        int player = player();
+        if (player == TicTacToe.X) {
+            x |= 1 << cell;
+            won = threeInARow(x);
+        } else {
+            o |= 1 << cell;
+            won = threeInARow(o);
+        }
+        history[count++] = cell;
+        last = player;
+    }
+
+    public void undo() {
+        if (count == initialCount) throw new RuntimeException("no move to undo");
+        int mask = ~(1 << history[--count]);
+        if (last == TicTacToe.X) x &= mask;
+        else o &= mask;
+        last = count == initialCount ? initialLast : 1 - last;
+        won = false;
+    }
+
+    /**
+     * @param bits the cells of one player.
+     * @return true if bits include one of the eight lines.
+     */
+    static boolean threeInARow(int bits) {
+        for (int line : lines) if ((bits & line) == line) return true;
+        return false;
+    }
+
+    private static final int cells = 9;
+
+    // The three rows, the three columns and the two diagonals.
+    private static final int[] lines = {0007, 0070, 0700, 0111, 0222, 0444, 0421, 0124};
+
+    private int x;
+    private int o;
+    private int count;
+    private int last;
+    private boolean won;
+    private final int initialCount;
+    private final int initialLast;
+    private final int[] history = new int[cells];
+}
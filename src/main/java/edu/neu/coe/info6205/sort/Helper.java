@@ -1,7 +1,5 @@
 package edu.neu.coe.info6205.sort;
 
-import edu.neu.coe.info6205.sort.linearithmic.MergeSortBasic;
-
 import static java.util.Arrays.binarySearch;
 
 /**
@@ -186,12 +184,25 @@ public interface Helper<X extends Comparable<X>> extends GenericHelper<X> {
 
     /**
      * Count the number of inversions of this array.
+     * <p>
+     * NOTE for arrays of more than about 100,000 elements, use countInversions (the count may not fit in an int).
      *
      * @param xs an array of Xs.
      * @return the number of inversions.
+     * @throws ArithmeticException if the number of inversions exceeds Integer.MAX_VALUE.
      */
     default int inversions(X[] xs) {
-        return MergeSortBasic.countInversions(xs);
+        return Math.toIntExact(countInversions(xs));
+    }
+
+    /**
+     * Count the number of inversions of this array, as a long.
+     *
+     * @param xs an array of Xs.
+     * @return the number of inversions.
+     */
+    default long countInversions(X[] xs) {
+        return InversionCounter.count(xs);
     }
 
     /**
@@ -234,6 +245,17 @@ public interface Helper<X extends Comparable<X>> extends GenericHelper<X> {
         // do nothing.
     }
 
+    /**
+     * Method to determine whether the current sort invocation is being instrumented.
+     * An instrumented Helper may sample its invocations, in which case the others should avoid any costly instrumentation
+     * (such as counting inversions).
+     *
+     * @return by default, the same as instrumented().
+     */
+    default boolean instrumenting() {
+        return instrumented();
+    }
+
     /**
      * Method to do any required preProcessing.
      *
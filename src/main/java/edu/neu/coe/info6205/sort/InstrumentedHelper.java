@@ -10,6 +10,13 @@ import static edu.neu.coe.info6205.util.Utilities.formatWhole;
 /**
  * Helper class for sorting methods with instrumentation of compares and swaps, and in addition, bounds checks.
  * This Helper class may be used for analyzing sort methods but will run at slightly slower speeds than the super-class.
+ * <p>
+ * For large inputs, instrumentation may be sampled (see the [instrumenting] options sampleSorts and sampleOperations):
+ * only one in every sampleSorts sort invocations is instrumented (the others count nothing);
+ * and, within an instrumented invocation, the fixes of only one in (on average) sampleOperations swaps are enumerated
+ * (that's the expensive part, linear in the distance between the swapped elements) and each such enumeration is scaled up accordingly.
+ * The StatPack then holds per-invocation values for the sampled invocations,
+ * while estimate and errorBound extrapolate them to all invocations.
  *
  * @param <X> the underlying type (must be Comparable).
  */
@@ -21,6 +28,13 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
         return true;
     }
 
+    /**
+     * @return true if the current sort invocation is being instrumented (only one in every sampleSorts invocations is).
+     */
+    public boolean instrumenting() {
+        return active;
+    }
+
     /**
      * Method to determine if one X value is less than another.
      *
@@ -72,7 +86,7 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
         X v = xs[i];
         X w = xs[j];
         incrementHits(4);
-        if (countFixes) enumerateFixes(xs, i, j, Integer.signum(v.compareTo(w)));
+        if (countFixes && active && sampleOperation()) enumerateFixes(xs, i, j, Integer.signum(v.compareTo(w)));
         xs[i] = w;
         xs[j] = v;
     }
@@ -113,6 +127,9 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
     /**
      * Method to enumerate the number of inversions fixed by the swap of i and j elements in the array xs.
      * NOTE: this may not be accurate when there are duplicates.
+     * <p>
+     * If operations are being sampled, the result is scaled up by sampleOperations
+     * and its contribution to the variance of the estimated fixes is accumulated.
      *
      * @param xs    the array.
      * @param i     the lower index.
@@ -120,13 +137,31 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      * @param sense the sense of "fix."
      */
     private void enumerateFixes(X[] xs, int i, int j, int sense) {
-        incrementFixes(sense);
+        int result = sense;
         X v = xs[i];
         X w = xs[j];
         for (int k = i + 1; k < j; k++) {
             X x = xs[k];
-            if (w.compareTo(x) < 0 && x.compareTo(v) < 0) incrementFixes(2 * sense);
+            if (w.compareTo(x) < 0 && x.compareTo(v) < 0) result += 2 * sense;
         }
+        // NOTE the scaled result may exceed Integer.MAX_VALUE (as may the total fixes of a large sort).
+        addFixes((long) sampleOperations * result);
+        // NOTE each swap is sampled with probability p = 1/sampleOperations so the variance of the Horvitz-Thompson estimate is (1-p)/p^2 * result^2.
+        if (sampleOperations > 1) fixesVariance += (double) sampleOperations * (sampleOperations - 1) * result * result;
+    }
+
+    /**
+     * Method to decide whether the current operation is to be sampled.
+     * The gaps between sampled operations are geometrically distributed (with mean sampleOperations)
+     * so that every operation has the same probability of being sampled, regardless of any periodicity in the sort.
+     *
+     * @return true if this operation is to be sampled.
+     */
+    private boolean sampleOperation() {
+        if (sampleOperations <= 1) return true;
+        if (--untilNextSample > 0) return false;
+        untilNextSample = 1 + (int) (Math.log(1 - sampler.nextDouble()) / Math.log(1 - 1.0 / sampleOperations));
+        return true;
     }
 
     /**
@@ -174,7 +209,7 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
         int cf = v.compareTo(w);
         if (cf > 0) {
             incrementHits(2);
-            if (countFixes) enumerateFixes(xs, i, j, Integer.signum(v.compareTo(w)));
+            if (countFixes && active && sampleOperation()) enumerateFixes(xs, i, j, Integer.signum(v.compareTo(w)));
             xs[i] = w;
             xs[j] = v;
             incrementSwaps(1);
@@ -276,10 +311,13 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
         copies = 0;
         fixes = 0;
         hits = 0;
+        fixesVariance = 0;
         // NOTE: it's an error to reset the StatPack if we've been here before
         if (n == this.n && statPack != null) return;
         super.init(n);
-        statPack = new StatPack(Statistics.NORMALIZER_LINEARITHMIC_NATURAL, n, COMPARES, SWAPS, COPIES, INVERSIONS, FIXES, HITS);
+        statPack = sampleOperations > 1 ?
+                new StatPack(Statistics.NORMALIZER_LINEARITHMIC_NATURAL, n, COMPARES, SWAPS, COPIES, INVERSIONS, FIXES, FIXES_VARIANCE, HITS) :
+                new StatPack(Statistics.NORMALIZER_LINEARITHMIC_NATURAL, n, COMPARES, SWAPS, COPIES, INVERSIONS, FIXES, HITS);
     }
 
     /**
@@ -290,9 +328,9 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      */
     public X[] preProcess(X[] xs) {
         final X[] result = super.preProcess(xs);
-        // NOTE: because counting inversions is so slow, we only do if for a (configured) number of samples.
-        if (countInversions-- > 0) {
-            if (statPack != null) statPack.add(INVERSIONS, inversions(result));
+        // NOTE: counting inversions costs about as much as a merge sort, so we only do it for a (configured) number of samples.
+        if (active && countInversions-- > 0) {
+            if (statPack != null) statPack.add(INVERSIONS, InversionCounter.countParallel(result));
             else throw new RuntimeException("InstrumentedHelper.postProcess: no StatPack");
         }
         return result;
@@ -309,7 +347,45 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
     public void postProcess(X[] xs) {
         super.postProcess(xs);
         if (!sorted(xs)) throw new BaseHelper.HelperException("Array is not sorted");
-        gatherStatistic();
+        if (active) gatherStatistic();
+        active = ++invocations % sampleSorts == 0;
+    }
+
+    /**
+     * Method to estimate the total value of the given statistic over all the sort invocations so far
+     * (including those which were not sampled).
+     *
+     * @param key one of COMPARES, SWAPS, COPIES, FIXES, HITS.
+     * @return the mean value over the sampled invocations multiplied by the number of invocations.
+     */
+    public double estimate(String key) {
+        return statPack.mean(key) * invocations;
+    }
+
+    /**
+     * Method to yield the half-width of an approximate 95% confidence interval for estimate(key).
+     * This accounts for the sampling of sort invocations (using the variation between the sampled invocations)
+     * and, in the case of FIXES, for the sampling of operations within each invocation.
+     * If every invocation and every operation was counted, the result is zero.
+     *
+     * @param key one of COMPARES, SWAPS, COPIES, FIXES, HITS.
+     * @return the error bound.
+     */
+    public double errorBound(String key) {
+        int k = statPack.getCount(key);
+        if (k == 0) return Double.POSITIVE_INFINITY;
+        double fraction = (double) k / invocations;
+        // NOTE the variance of the mean of k samples from a population of invocations (with finite population correction).
+        double variance = sampleSorts > 1 && k > 1 ? Math.pow(statPack.stdDev(key), 2) / k * (1 - fraction) : 0;
+        if (FIXES.equals(key) && sampleOperations > 1) variance += statPack.total(FIXES_VARIANCE) / k / k;
+        return 1.96 * Math.sqrt(variance) * invocations;
+    }
+
+    /**
+     * @return the number of sort invocations which have been post-processed by this Helper.
+     */
+    public int getInvocations() {
+        return invocations;
     }
 
     private void gatherStatistic() {
@@ -322,6 +398,8 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
             statPack.add(COPIES, copies);
         if (countFixes)
             statPack.add(FIXES, fixes);
+        if (countFixes && sampleOperations > 1)
+            statPack.add(FIXES_VARIANCE, fixesVariance);
         if (countHits)
             statPack.add(HITS, hits);
     }
@@ -335,11 +413,22 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
     }
 
     public void close() {
-        if (showStats)
+        if (showStats) {
             logger.info("Closing Helper: " + description + " with statPack:\n    " + statPack);
+            if ((sampleSorts > 1 || sampleOperations > 1) && statPack != null && invocations > 0)
+                logger.info("Estimated totals over " + formatWhole(invocations) + " invocations: " + showEstimates());
+        }
         super.close();
     }
 
+    private String showEstimates() {
+        StringBuilder stringBuilder = new StringBuilder();
+        for (String key : new String[]{COMPARES, SWAPS, COPIES, FIXES, HITS})
+            if (statPack.getCount(key) > 0)
+                stringBuilder.append(String.format("%s: %.4g \u00B1 %.2g; ", key, estimate(key), errorBound(key)));
+        return stringBuilder.toString();
+    }
+
     /**
      * Method which retrieves the current value of randomArray.
      *
@@ -372,6 +461,10 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
         this.countFixes = config.getBoolean(INSTRUMENTING, FIXES);
         this.countHits = config.getBoolean(INSTRUMENTING, HITS); // the number of array accesses
         this.cutoff = config.getInt(HELPER, "cutoff", 0);
+        this.sampleSorts = Math.max(1, config.getInt(INSTRUMENTING, SAMPLE_SORTS, 1));
+        this.sampleOperations = Math.max(1, config.getInt(INSTRUMENTING, SAMPLE_OPERATIONS, 1));
+        // NOTE the sampler has its own random number generator so that sampling does not disturb the generation of random arrays.
+        this.sampler = new Random(config.getLong(HELPER, "seed", 0L));
     }
 
     /**
@@ -416,17 +509,28 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
     public static final String HITS = "hits";
     public static final String INSTRUMENTING = "instrumenting";
     public static final String SHOW_STATS = "showStats";
+    public static final String SAMPLE_SORTS = "sampleSorts";
+    public static final String SAMPLE_OPERATIONS = "sampleOperations";
+    // NOTE the (estimated) variance of the extrapolated value of fixes, for one sort invocation.
+    public static final String FIXES_VARIANCE = "fixes variance";
 
+    /**
+     * NOTE the counts are accumulated as longs (a sort of millions of elements may exceed Integer.MAX_VALUE):
+     * the StatPack receives them exactly; but this (and the other count getters) throws if the count is too large for an int.
+     *
+     * @return the number of compares in the current sort invocation.
+     * @throws ArithmeticException if the number of compares exceeds Integer.MAX_VALUE.
+     */
     public int getCompares() {
-        return compares;
+        return Math.toIntExact(compares);
     }
 
     public int getSwaps() {
-        return swaps;
+        return Math.toIntExact(swaps);
     }
 
     public int getFixes() {
-        return fixes;
+        return Math.toIntExact(fixes);
     }
 
     /**
@@ -435,7 +539,7 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      * @param n the number of copies made.
      */
     public void incrementCopies(int n) {
-        if (countCopies) copies += n;
+        if (countCopies && active) copies += n;
     }
 
     /**
@@ -444,7 +548,7 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      * @param n the number of hits.
      */
     public void incrementHits(int n) {
-        if (countHits) hits += n;
+        if (countHits && active) hits += n;
     }
 
     /**
@@ -453,7 +557,7 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
      * @param n the number of copies made.
      */
     public void incrementFixes(int n) {
-        if (countFixes) fixes += n;
+        addFixes(n);
 //        System.out.println("incrementFixes: "+n+"; fixes: " + fixes);
     }
 
@@ -463,33 +567,37 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
 
     public String showFixes(X[] xs) {
         checkFixes(xs);
-        return "fixes+inversions: " + (fixes + inversions(xs));
+        return "fixes+inversions: " + (fixes + countInversions(xs));
     }
 
     private void incrementCompares() {
-        if (countCompares)
+        if (countCompares && active)
             compares++;
     }
 
     private void incrementSwaps(int n) {
-        if (countSwaps)
+        if (countSwaps && active)
             swaps += n;
     }
 
+    private void addFixes(long n) {
+        if (countFixes && active) fixes += n;
+    }
+
     // NOTE: the following private methods are only for testing (using reflection).
 
     private int getHits() {
-        return hits;
+        return Math.toIntExact(hits);
     }
 
     private int getCopies() {
-        return copies;
+        return Math.toIntExact(copies);
     }
 
     private void checkFixes(X[] xs) {
         if (statPack != null) {
             final double initial = statPack.total(INVERSIONS);
-            final int inversions = inversions(xs);
+            final long inversions = countInversions(xs);
             if (fixes + inversions != initial) {
                 System.err.println("inversions and fixes don't match");
             }
@@ -504,11 +612,18 @@ public class InstrumentedHelper<X extends Comparable<X>> extends BaseHelper<X> {
     private final boolean countHits;
     private final boolean showStats;
     private StatPack statPack;
-    private int compares = 0;
-    private int swaps = 0;
-    private int copies = 0;
-    private int fixes = 0;
-    private int hits = 0;
+    private long compares = 0;
+    private long swaps = 0;
+    private long copies = 0;
+    private long fixes = 0;
+    private long hits = 0;
     private int countInversions;
     private int maxDepth = 0;
+    private final int sampleSorts;
+    private final int sampleOperations;
+    private final Random sampler;
+    private int invocations = 0;
+    private boolean active = true;
+    private int untilNextSample = 0;
+    private double fixesVariance = 0;
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package edu.neu.coe.info6205.sort;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class to count the inversions of an array (the pairs i &lt; j such that xs[i] &gt; xs[j]) in O(n log n) time.
+ * <p>
+ * The inversions are counted while merge-sorting a copy of the array:
+ * whenever an element of the right half is merged ahead of the remaining elements of the left half, each of those is one inversion.
+ * Small sub-arrays are counted by insertion sort (each shift is one inversion).
+ * The array itself is not changed.
+ * <p>
+ * The count is a long because a random array of n elements has about n^2/4 inversions, which exceeds Integer.MAX_VALUE when n is more than about 100,000.
+ * Equal elements are not inversions.
+ */
+public class InversionCounter {
+
+    /**
+     * Method to count the inversions of xs.
+     *
+     * @param xs  an array.
+     * @param <X> the underlying comparable type.
+     * @return the number of inversions.
+     */
+    public static <X extends Comparable<X>> long count(X[] xs) {
+        X[] a = Arrays.copyOf(xs, xs.length);
+        return sortAndCount(a, Arrays.copyOf(xs, xs.length), 0, xs.length);
+    }
+
+    /**
+     * Method to count the inversions of xs using the given pool:
+     * the two halves of any sub-array of more than cutoff elements are counted in parallel.
+     *
+     * @param xs     an array.
+     * @param pool   the ForkJoinPool.
+     * @param cutoff the size of sub-array at or below which inversions are counted sequentially.
+     * @param <X>    the underlying comparable type.
+     * @return the number of inversions.
+     */
+    public static <X extends Comparable<X>> long count(X[] xs, ForkJoinPool pool, int cutoff) {
+        if (xs.length <= cutoff) return count(xs);
+        X[] a = Arrays.copyOf(xs, xs.length);
+        return pool.invoke(new CountTask<>(a, Arrays.copyOf(xs, xs.length), 0, xs.length, Math.max(cutoff, CUTOFF)));
+    }
+
+    /**
+     * Method to count the inversions of xs, in parallel (in the common pool) if xs is large.
+     *
+     * @param xs  an array.
+     * @param <X> the underlying comparable type.
+     * @return the number of inversions.
+     */
+    public static <X extends Comparable<X>> long countParallel(X[] xs) {
+        return count(xs, ForkJoinPool.commonPool(), PARALLEL_CUTOFF);
+    }
+
+    /**
+     * Method to sort a:from:to and count its inversions, given that aux:from:to holds the same elements as a:from:to.
+     * The roles of a and aux alternate at each level of the recursion (as in PrimitiveMergeSort).
+     */
+    static <X extends Comparable<X>> long sortAndCount(X[] a, X[] aux, int from, int to) {
+        if (to - from <= CUTOFF) return insertionCount(a, from, to);
+        int mid = from + (to - from) / 2;
+        long result = sortAndCount(aux, a, from, mid) + sortAndCount(aux, a, mid, to);
+        return result + merge(aux, a, from, mid, to);
+    }
+
+    private static <X extends Comparable<X>> long insertionCount(X[] xs, int from, int to) {
+        long result = 0;
+        for (int i = from + 1; i < to; i++) {
+            X x = xs[i];
+            int j = i;
+            while (j > from && x.compareTo(xs[j - 1]) < 0) {
+                xs[j] = xs[j - 1];
+                j--;
+            }
+            xs[j] = x;
+            result += i - j;
+        }
+        return result;
+    }
+
+    private static <X extends Comparable<X>> long merge(X[] sorted, X[] result, int from, int mid, int to) {
+        if (sorted[mid - 1].compareTo(sorted[mid]) <= 0) {
+            System.arraycopy(sorted, from, result, from, to - from);
+            return 0;
+        }
+        long inversions = 0;
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++)
+            if (i >= mid) result[k] = sorted[j++];
+            else if (j >= to) result[k] = sorted[i++];
+            else if (sorted[j].compareTo(sorted[i]) < 0) {
+                inversions += mid - i;
+                result[k] = sorted[j++];
+            } else result[k] = sorted[i++];
+        return inversions;
+    }
+
+    @SuppressWarnings("serial")
+    private static class CountTask<X extends Comparable<X>> extends RecursiveTask<Long> {
+
+        CountTask(X[] a, X[] aux, int from, int to, int cutoff) {
+            this.a = a;
+            this.aux = aux;
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= cutoff) return sortAndCount(a, aux, from, to);
+            int mid = from + (to - from) / 2;
+            CountTask<X> left = new CountTask<>(aux, a, from, mid, cutoff);
+            left.fork();
+            long result = new CountTask<>(aux, a, mid, to, cutoff).compute();
+            result += left.join();
+            return result + merge(aux, a, from, mid, to);
+        }
+
+        private final X[] a;
+        private final X[] aux;
+        private final int from;
+        private final int to;
+        private final int cutoff;
+    }
+
+    // NOTE sub-arrays of this size (or less) are counted by insertion sort.
+    static final int CUTOFF = 8;
+
+    // NOTE sub-arrays of this size (or less) are not worth splitting into parallel tasks.
+    static final int PARALLEL_CUTOFF = 1 << 14;
+}
@@ -0,0 +1,85 @@
+package edu.neu.coe.info6205.sort;
+
+/**
+ * Interface PrimitiveSort.
+ * This interface defines the behavior of a sort which operates directly on arrays of int, long or double,
+ * that's to say without boxing the elements and without a Helper (and so it cannot be instrumented).
+ * <p>
+ * NOTE doubles are compared with the primitive operators (and so -0.0 is equal to 0.0),
+ * except that, as with Arrays.sort, any NaN values are moved to the end (see moveNaNsToEnd).
+ */
+public interface PrimitiveSort {
+
+    /**
+     * Method to sort the sub-array xs:from:to in place.
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    void sort(int[] xs, int from, int to);
+
+    /**
+     * Method to sort the sub-array xs:from:to in place.
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    void sort(long[] xs, int from, int to);
+
+    /**
+     * Method to sort the sub-array xs:from:to in place.
+     *
+     * @param xs   the array to be sorted.
+     * @param from the index of the first element to sort.
+     * @param to   the index of the first element not to sort.
+     */
+    void sort(double[] xs, int from, int to);
+
+    /**
+     * Method to sort the whole of xs in place.
+     *
+     * @param xs the array to be sorted.
+     */
+    default void sort(int[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    /**
+     * Method to sort the whole of xs in place.
+     *
+     * @param xs the array to be sorted.
+     */
+    default void sort(long[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    /**
+     * Method to sort the whole of xs in place.
+     *
+     * @param xs the array to be sorted.
+     */
+    default void sort(double[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    /**
+     * Method to move any NaN values in the sub-array xs:from:to to the end of that sub-array,
+     * so that the rest of it may be sorted with the primitive operators (for which NaN is neither less than nor greater than anything).
+     *
+     * @param xs   the array.
+     * @param from the index of the first element to consider.
+     * @param to   the index of the first element not to consider.
+     * @return the index of the first NaN value (or to if there are none): the end of the sub-array which remains to be sorted.
+     */
+    static int moveNaNsToEnd(double[] xs, int from, int to) {
+        int end = to;
+        for (int i = to - 1; i >= from; i--)
+            if (Double.isNaN(xs[i])) {
+                xs[i] = xs[--end];
+                xs[end] = Double.NaN;
+            }
+        return end;
+    }
+}
@@ -1,7 +1,10 @@
 package edu.neu.coe.info6205.sort.elementary;
 
+import edu.neu.coe.info6205.sort.BaseHelper;
 import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.InstrumentedHelper;
 import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
 
 public class HeapSort<X extends Comparable<X>> extends SortWithHelper<X> {
 
@@ -9,6 +12,23 @@ public class HeapSort<X extends Comparable<X>> extends SortWithHelper<X> {
         super(helper);
     }
 
+    /**
+     * Factory method to create a heap sort according to the configuration:
+     * a HeapSort with an InstrumentedHelper if instrumentation is configured,
+     * otherwise a HeapSortPure (which makes no calls on its Helper while sorting).
+     *
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     * @param <X>    the underlying comparable type.
+     * @return a SortWithHelper of X.
+     */
+    public static <X extends Comparable<X>> SortWithHelper<X> create(int N, Config config) {
+        if (config.isInstrumented()) return new HeapSort<>(new InstrumentedHelper<X>(DESCRIPTION, N, config));
+        else return new HeapSortPure<>(new BaseHelper<X>(DESCRIPTION, N, config));
+    }
+
+    public static final String DESCRIPTION = "Heap sort";
+
     public void sort(X[] array, int from, int to) {
         if (array == null || array.length <= 1) return;
 
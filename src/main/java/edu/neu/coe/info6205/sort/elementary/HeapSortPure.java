@@ -0,0 +1,55 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.Helper;
+
+/**
+ * Class HeapSortPure is a version of HeapSort whose inner loops make no calls on the Helper:
+ * elements are compared by calling compareTo directly and are moved by ordinary array assignment.
+ * The Helper is still used for everything outside the sort itself (init, preProcess, postProcess, etc.).
+ * <p>
+ * This means that, whatever kinds of Helper are in use elsewhere in the program,
+ * there are no (potentially megamorphic) Helper call sites in the hot loop for the JIT compiler to deal with.
+ * Naturally, a HeapSortPure cannot be instrumented: use HeapSort.create to choose between the two according to the configuration.
+ * <p>
+ * NOTE unlike HeapSort, this sorts only the sub-array from:to.
+ *
+ * @param <X> the underlying comparable type.
+ */
+public class HeapSortPure<X extends Comparable<X>> extends HeapSort<X> {
+
+    /**
+     * Constructor for HeapSortPure.
+     *
+     * @param helper a Helper, which must not be instrumented.
+     */
+    public HeapSortPure(Helper<X> helper) {
+        super(helper);
+        if (helper.instrumented()) throw new IllegalArgumentException("HeapSortPure cannot be instrumented: use HeapSort");
+    }
+
+    public void sort(X[] xs, int from, int to) {
+        for (int i = from + (to - from) / 2 - 1; i >= from; i--) sink(xs, from, i, to);
+        for (int k = to - 1; k > from; k--) {
+            X x = xs[from];
+            xs[from] = xs[k];
+            xs[k] = x;
+            sink(xs, from, from, k);
+        }
+    }
+
+    /**
+     * Method to sift the element at index i down the max-heap xs:from:to (whose root is at from).
+     * NOTE the children of the element at index i are at indices 2i+1-from and 2i+2-from.
+     */
+    private void sink(X[] xs, int from, int i, int to) {
+        X x = xs[i];
+        int child;
+        while ((child = 2 * i + 1 - from) < to) {
+            if (child + 1 < to && xs[child].compareTo(xs[child + 1]) < 0) child++;
+            if (x.compareTo(xs[child]) >= 0) break;
+            xs[i] = xs[child];
+            i = child;
+        }
+        xs[i] = x;
+    }
+}
@@ -0,0 +1,91 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.PrimitiveSort;
+
+/**
+ * Class PrimitiveHeapSort: heap sort specialised for arrays of int, long and double.
+ * <p>
+ * Unlike HeapSort, this sorts only the sub-array from:to (the heap is rooted at from)
+ * and the sift-down is a loop which moves a hole down the heap rather than a recursion of swaps.
+ */
+public class PrimitiveHeapSort implements PrimitiveSort {
+
+    public void sort(int[] xs, int from, int to) {
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) sink(xs, from, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            int x = xs[from];
+            xs[from] = xs[from + k];
+            xs[from + k] = x;
+            sink(xs, from, 0, k);
+        }
+    }
+
+    public void sort(long[] xs, int from, int to) {
+        int n = to - from;
+        for (int i = n / 2 - 1; i >= 0; i--) sink(xs, from, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            long x = xs[from];
+            xs[from] = xs[from + k];
+            xs[from + k] = x;
+            sink(xs, from, 0, k);
+        }
+    }
+
+    public void sort(double[] xs, int from, int to) {
+        int n = PrimitiveSort.moveNaNsToEnd(xs, from, to) - from;
+        for (int i = n / 2 - 1; i >= 0; i--) sink(xs, from, i, n);
+        for (int k = n - 1; k > 0; k--) {
+            double x = xs[from];
+            xs[from] = xs[from + k];
+            xs[from + k] = x;
+            sink(xs, from, 0, k);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return DESCRIPTION;
+    }
+
+    public static final String DESCRIPTION = "Heap sort (primitive)";
+
+    /**
+     * Method to sift the element at heap index i down a max-heap of size n which is rooted at xs[base].
+     */
+    private static void sink(int[] xs, int base, int i, int n) {
+        int x = xs[base + i];
+        int child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && xs[base + child] < xs[base + child + 1]) child++;
+            if (x >= xs[base + child]) break;
+            xs[base + i] = xs[base + child];
+            i = child;
+        }
+        xs[base + i] = x;
+    }
+
+    private static void sink(long[] xs, int base, int i, int n) {
+        long x = xs[base + i];
+        int child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && xs[base + child] < xs[base + child + 1]) child++;
+            if (x >= xs[base + child]) break;
+            xs[base + i] = xs[base + child];
+            i = child;
+        }
+        xs[base + i] = x;
+    }
+
+    private static void sink(double[] xs, int base, int i, int n) {
+        double x = xs[base + i];
+        int child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && xs[base + child] < xs[base + child + 1]) child++;
+            if (x >= xs[base + child]) break;
+            xs[base + i] = xs[base + child];
+            i = child;
+        }
+        xs[base + i] = x;
+    }
+}
@@ -0,0 +1,56 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.PrimitiveSort;
+
+/**
+ * Class PrimitiveInsertionSort: insertion sort specialised for arrays of int, long and double.
+ * <p>
+ * Each element is held in a local while the larger elements to its left are shifted one place to the right,
+ * so there is one array write per shift rather than the two of a swap.
+ */
+public class PrimitiveInsertionSort implements PrimitiveSort {
+
+    public void sort(int[] xs, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int x = xs[i];
+            int j = i;
+            while (j > from && x < xs[j - 1]) {
+                xs[j] = xs[j - 1];
+                j--;
+            }
+            xs[j] = x;
+        }
+    }
+
+    public void sort(long[] xs, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long x = xs[i];
+            int j = i;
+            while (j > from && x < xs[j - 1]) {
+                xs[j] = xs[j - 1];
+                j--;
+            }
+            xs[j] = x;
+        }
+    }
+
+    public void sort(double[] xs, int from, int to) {
+        final int end = PrimitiveSort.moveNaNsToEnd(xs, from, to);
+        for (int i = from + 1; i < end; i++) {
+            double x = xs[i];
+            int j = i;
+            while (j > from && x < xs[j - 1]) {
+                xs[j] = xs[j - 1];
+                j--;
+            }
+            xs[j] = x;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return DESCRIPTION;
+    }
+
+    public static final String DESCRIPTION = "Insertion sort (primitive)";
+}
@@ -0,0 +1,129 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.PrimitiveSort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class PrimitiveShellSort: shell sort specialised for arrays of int, long and double.
+ * <p>
+ * The gap (h) sequences are the same as those of ShellSort.
+ * Each h-sort shifts elements (as PrimitiveInsertionSort does) rather than swapping them.
+ */
+public class PrimitiveShellSort implements PrimitiveSort {
+
+    /**
+     * Primary constructor.
+     *
+     * @param m the mode, that is to say the "gap" (h) sequence to follow:
+     *          1: ordinary insertion sort;
+     *          2: Shell's original sequence (powers of two less one);
+     *          3: Knuth's sequence based on 3 (the one in the book): 1, 4, 13, etc.
+     *          4: Sedgewick's 1986 sequence.
+     *          5: Pratt sequence (1971) 2^i*3^j with i, j >= 0.
+     */
+    public PrimitiveShellSort(int m) {
+        if (m < 1 || m > 5) throw new IllegalArgumentException("invalid m value: " + m);
+        this.m = m;
+    }
+
+    /**
+     * Secondary constructor which uses Knuth's sequence.
+     */
+    public PrimitiveShellSort() {
+        this(3);
+    }
+
+    public void sort(int[] xs, int from, int to) {
+        for (int h : gaps(m, to - from))
+            for (int i = from + h; i < to; i++) {
+                int x = xs[i];
+                int j = i;
+                while (j >= from + h && x < xs[j - h]) {
+                    xs[j] = xs[j - h];
+                    j -= h;
+                }
+                xs[j] = x;
+            }
+    }
+
+    public void sort(long[] xs, int from, int to) {
+        for (int h : gaps(m, to - from))
+            for (int i = from + h; i < to; i++) {
+                long x = xs[i];
+                int j = i;
+                while (j >= from + h && x < xs[j - h]) {
+                    xs[j] = xs[j - h];
+                    j -= h;
+                }
+                xs[j] = x;
+            }
+    }
+
+    public void sort(double[] xs, int from, int to) {
+        final int end = PrimitiveSort.moveNaNsToEnd(xs, from, to);
+        for (int h : gaps(m, end - from))
+            for (int i = from + h; i < end; i++) {
+                double x = xs[i];
+                int j = i;
+                while (j >= from + h && x < xs[j - h]) {
+                    xs[j] = xs[j - h];
+                    j -= h;
+                }
+                xs[j] = x;
+            }
+    }
+
+    @Override
+    public String toString() {
+        return DESCRIPTION + m;
+    }
+
+    public static final String DESCRIPTION = "Shell sort (primitive) in mode: ";
+
+    /**
+     * Method to yield the gap sequence of the given mode for n elements, largest first and ending with 1.
+     *
+     * @param m the mode (see the constructor).
+     * @param n the number of elements to be sorted.
+     * @return the h values, in descending order.
+     */
+    static int[] gaps(int m, int n) {
+        List<Integer> hs = new ArrayList<>();
+        switch (m) {
+            case 1:
+                hs.add(1);
+                break;
+            case 2:
+                for (int h = 1; h <= n; h = 2 * (h + 1) - 1) hs.add(h);
+                break;
+            case 3:
+                for (int h = 1; h <= n / 3 + 1; h = h * 3 + 1) hs.add(h);
+                break;
+            case 4:
+                hs.add(1);
+                for (int k = 1; sedgewick(k) < n; k++) hs.add((int) sedgewick(k));
+                break;
+            case 5:
+                for (long j = 1; j <= n; j *= 3)
+                    for (long i = j; i <= n; i *= 2) hs.add((int) i);
+                if (hs.isEmpty()) hs.add(1);
+                Collections.sort(hs);
+                break;
+            default:
+                throw new IllegalArgumentException("invalid m value: " + m);
+        }
+        int[] result = new int[hs.size()];
+        for (int i = 0; i < result.length; i++) result[i] = hs.get(result.length - 1 - i);
+        return result;
+    }
+
+    private static long sedgewick(int k) {
+        if (k % 2 == 0) return 9L * ((1L << k) - (1L << (k / 2))) + 1;
+        else return 8L * (1L << k) - 6 * (1L << ((k + 1) / 2)) + 1;
+    }
+
+    private final int m;
+}
@@ -86,6 +86,22 @@ public class ShellSort<X extends Comparable<X>> extends SortWithHelper<X> {
         this(m, new BaseHelper<>(DESCRIPTION, config));
     }
 
+    /**
+     * Factory method to create a shell sort according to the configuration:
+     * a ShellSort with an InstrumentedHelper if instrumentation is configured,
+     * otherwise a ShellSortPure (which makes no calls on its Helper while sorting).
+     *
+     * @param m      the "gap" (h) sequence to follow (see other constructors).
+     * @param N      the number elements we expect to sort.
+     * @param config the configuration.
+     * @param <X>    the underlying comparable type.
+     * @return a SortWithHelper of X.
+     */
+    public static <X extends Comparable<X>> SortWithHelper<X> create(int m, int N, Config config) {
+        if (config.isInstrumented()) return new ShellSort<>(m, new InstrumentedHelper<X>(DESCRIPTION + m, N, config));
+        else return new ShellSortPure<>(m, new BaseHelper<X>(DESCRIPTION + m, N, config));
+    }
+
     /**
      * Method to sort a sub-array of an array of Xs.
      * <p>
@@ -128,17 +144,19 @@ public class ShellSort<X extends Comparable<X>> extends SortWithHelper<X> {
      */
     private void hSort(int h, X[] xs, int from, int to) {
         final Helper<X> helper = getHelper();
-        int inversionsStart = 0;
-        if (helper.instrumented()) {
-            inversionsStart = helper.inversions(xs);
+        long inversionsStart = 0;
+        // NOTE counting inversions is costly, so it is done only for the sort invocations which are being instrumented.
+        final boolean instrumenting = helper.instrumenting();
+        if (instrumenting) {
+            inversionsStart = helper.countInversions(xs);
             logger.debug("hSort (begin) with h=" + h + ", current inversionsStart=" + inversionsStart);
         }
         for (int i = h + from; i < to; i++) {
             int j = i;
             while (j >= h + from && helper.swapConditional(xs, j - h, j)) j -= h;
         }
-        if (helper.instrumented()) {
-            int inversionsEnd = helper.inversions(xs);
+        if (instrumenting) {
+            long inversionsEnd = helper.countInversions(xs);
             int proportionFixed = (int) (100.0 * (inversionsStart - inversionsEnd) / inversionsStart);
             logger.debug("hSort (end) with h=" + h + ", inversions fixed=" + proportionFixed + "%");
         }
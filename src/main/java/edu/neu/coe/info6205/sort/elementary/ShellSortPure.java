@@ -0,0 +1,41 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.Helper;
+
+/**
+ * Class ShellSortPure is a version of ShellSort whose inner loops make no calls on the Helper:
+ * elements are compared by calling compareTo directly and each h-sort shifts elements rather than swapping them.
+ * The gap (h) sequence is exactly that of ShellSort in the same mode.
+ * <p>
+ * Because the Helper is not instrumented, there is no per-shell function and no inversion logging.
+ * Use ShellSort.create to choose between ShellSort and ShellSortPure according to the configuration.
+ *
+ * @param <X> the underlying comparable type.
+ */
+public class ShellSortPure<X extends Comparable<X>> extends ShellSort<X> {
+
+    /**
+     * Constructor for ShellSortPure.
+     *
+     * @param m      the "gap" (h) sequence to follow (see ShellSort).
+     * @param helper a Helper, which must not be instrumented.
+     */
+    public ShellSortPure(int m, Helper<X> helper) {
+        super(m, helper);
+        if (helper.instrumented()) throw new IllegalArgumentException("ShellSortPure cannot be instrumented: use ShellSort");
+    }
+
+    public void sort(X[] xs, int from, int to) {
+        H hh = new H(to - from);
+        for (int h = hh.first(); h > 0; h = hh.next())
+            for (int i = from + h; i < to; i++) {
+                X x = xs[i];
+                int j = i;
+                while (j >= from + h && x.compareTo(xs[j - h]) < 0) {
+                    xs[j] = xs[j - h];
+                    j -= h;
+                }
+                xs[j] = x;
+            }
+    }
+}
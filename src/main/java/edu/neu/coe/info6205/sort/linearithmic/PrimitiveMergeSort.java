@@ -0,0 +1,154 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.PrimitiveSort;
+import edu.neu.coe.info6205.sort.elementary.PrimitiveInsertionSort;
+
+import java.util.Arrays;
+
+/**
+ * Class PrimitiveMergeSort: merge sort specialised for arrays of int, long and double.
+ * <p>
+ * Both of the optimizations of MergeSort are always in effect:
+ * insurance (two sorted halves which are already in order are not merged)
+ * and no-copy (the roles of the array and the auxiliary array alternate at each level of the recursion,
+ * so the auxiliary array, which holds only the range to be sorted, is copied only once, at the start).
+ * Sub-arrays of no more than cutoff elements are sorted by insertion sort.
+ */
+public class PrimitiveMergeSort implements PrimitiveSort {
+
+    /**
+     * Primary constructor.
+     *
+     * @param cutoff the size of sub-array at or below which insertion sort is used (must be positive).
+     */
+    public PrimitiveMergeSort(int cutoff) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive: " + cutoff);
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Secondary constructor which uses the default cutoff.
+     */
+    public PrimitiveMergeSort() {
+        this(DEFAULT_CUTOFF);
+    }
+
+    public void sort(int[] xs, int from, int to) {
+        if (to - from <= cutoff) {
+            insertionSort.sort(xs, from, to);
+            return;
+        }
+        sort(xs, 0, Arrays.copyOfRange(xs, from, to), from, from, to);
+    }
+
+    public void sort(long[] xs, int from, int to) {
+        if (to - from <= cutoff) {
+            insertionSort.sort(xs, from, to);
+            return;
+        }
+        sort(xs, 0, Arrays.copyOfRange(xs, from, to), from, from, to);
+    }
+
+    public void sort(double[] xs, int from, int to) {
+        final int end = PrimitiveSort.moveNaNsToEnd(xs, from, to);
+        if (end - from <= cutoff) {
+            insertionSort.sort(xs, from, end);
+            return;
+        }
+        sort(xs, 0, Arrays.copyOfRange(xs, from, end), from, from, end);
+    }
+
+    @Override
+    public String toString() {
+        return DESCRIPTION + " with cutoff " + cutoff;
+    }
+
+    public static final String DESCRIPTION = "MergeSort (primitive)";
+
+    // NOTE the same as the default of Helper.cutoff().
+    public static final int DEFAULT_CUTOFF = 7;
+
+    /**
+     * Method to sort the range [from, to) of a, given that the same range of aux holds the same elements.
+     * The element at index i of the range is at index i - aOffset of a and at index i - auxOffset of aux
+     * (the auxiliary array holds only the range being sorted, so its offset is the start of that range).
+     * The elements of the range of aux are left in an unspecified order.
+     */
+    private void sort(int[] a, int aOffset, int[] aux, int auxOffset, int from, int to) {
+        if (to - from <= cutoff) {
+            insertionSort.sort(a, from - aOffset, to - aOffset);
+            return;
+        }
+        int mid = from + (to - from) / 2;
+        sort(aux, auxOffset, a, aOffset, from, mid);
+        sort(aux, auxOffset, a, aOffset, mid, to);
+        if (aux[mid - 1 - auxOffset] <= aux[mid - auxOffset])
+            System.arraycopy(aux, from - auxOffset, a, from - aOffset, to - from);
+        else merge(aux, auxOffset, a, aOffset, from, mid, to);
+    }
+
+    private void sort(long[] a, int aOffset, long[] aux, int auxOffset, int from, int to) {
+        if (to - from <= cutoff) {
+            insertionSort.sort(a, from - aOffset, to - aOffset);
+            return;
+        }
+        int mid = from + (to - from) / 2;
+        sort(aux, auxOffset, a, aOffset, from, mid);
+        sort(aux, auxOffset, a, aOffset, mid, to);
+        if (aux[mid - 1 - auxOffset] <= aux[mid - auxOffset])
+            System.arraycopy(aux, from - auxOffset, a, from - aOffset, to - from);
+        else merge(aux, auxOffset, a, aOffset, from, mid, to);
+    }
+
+    private void sort(double[] a, int aOffset, double[] aux, int auxOffset, int from, int to) {
+        if (to - from <= cutoff) {
+            insertionSort.sort(a, from - aOffset, to - aOffset);
+            return;
+        }
+        int mid = from + (to - from) / 2;
+        sort(aux, auxOffset, a, aOffset, from, mid);
+        sort(aux, auxOffset, a, aOffset, mid, to);
+        if (aux[mid - 1 - auxOffset] <= aux[mid - auxOffset])
+            System.arraycopy(aux, from - auxOffset, a, from - aOffset, to - from);
+        else merge(aux, auxOffset, a, aOffset, from, mid, to);
+    }
+
+    private static void merge(int[] sorted, int sortedOffset, int[] result, int resultOffset, int from, int mid, int to) {
+        int i = from - sortedOffset;
+        int j = mid - sortedOffset;
+        int iEnd = j;
+        int jEnd = to - sortedOffset;
+        for (int k = from - resultOffset; k < to - resultOffset; k++)
+            if (i >= iEnd) result[k] = sorted[j++];
+            else if (j >= jEnd) result[k] = sorted[i++];
+            else if (sorted[j] < sorted[i]) result[k] = sorted[j++];
+            else result[k] = sorted[i++];
+    }
+
+    private static void merge(long[] sorted, int sortedOffset, long[] result, int resultOffset, int from, int mid, int to) {
+        int i = from - sortedOffset;
+        int j = mid - sortedOffset;
+        int iEnd = j;
+        int jEnd = to - sortedOffset;
+        for (int k = from - resultOffset; k < to - resultOffset; k++)
+            if (i >= iEnd) result[k] = sorted[j++];
+            else if (j >= jEnd) result[k] = sorted[i++];
+            else if (sorted[j] < sorted[i]) result[k] = sorted[j++];
+            else result[k] = sorted[i++];
+    }
+
+    private static void merge(double[] sorted, int sortedOffset, double[] result, int resultOffset, int from, int mid, int to) {
+        int i = from - sortedOffset;
+        int j = mid - sortedOffset;
+        int iEnd = j;
+        int jEnd = to - sortedOffset;
+        for (int k = from - resultOffset; k < to - resultOffset; k++)
+            if (i >= iEnd) result[k] = sorted[j++];
+            else if (j >= jEnd) result[k] = sorted[i++];
+            else if (sorted[j] < sorted[i]) result[k] = sorted[j++];
+            else result[k] = sorted[i++];
+    }
+
+    private final int cutoff;
+    private final PrimitiveInsertionSort insertionSort = new PrimitiveInsertionSort();
+}
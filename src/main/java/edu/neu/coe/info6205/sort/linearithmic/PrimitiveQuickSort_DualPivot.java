@@ -0,0 +1,155 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import edu.neu.coe.info6205.sort.PrimitiveSort;
+import edu.neu.coe.info6205.sort.elementary.PrimitiveInsertionSort;
+
+/**
+ * Class PrimitiveQuickSort_DualPivot: dual-pivot quicksort specialised for arrays of int, long and double.
+ * <p>
+ * The partitioning is that of QuickSort_DualPivot (Yaroslavskiy's scheme) except that the two pivots are taken
+ * from one third and two thirds of the way along the partition (rather than from its ends)
+ * so that an array which is already (or reverse) sorted does not give quadratic behavior.
+ * If the two pivots are equal, the middle partition (whose elements are all equal to them) is not sorted.
+ * Partitions of no more than cutoff elements are sorted by insertion sort.
+ */
+public class PrimitiveQuickSort_DualPivot implements PrimitiveSort {
+
+    /**
+     * Primary constructor.
+     *
+     * @param cutoff the size of partition at or below which insertion sort is used (must be positive).
+     */
+    public PrimitiveQuickSort_DualPivot(int cutoff) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive: " + cutoff);
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Secondary constructor which uses the default cutoff.
+     */
+    public PrimitiveQuickSort_DualPivot() {
+        this(DEFAULT_CUTOFF);
+    }
+
+    public void sort(int[] xs, int from, int to) {
+        if (to - from <= cutoff) {
+            insertionSort.sort(xs, from, to);
+            return;
+        }
+        final int p1 = from;
+        final int p2 = to - 1;
+        int third = (to - from) / 3;
+        swap(xs, p1, p1 + third);
+        swap(xs, p2, p2 - third);
+        if (xs[p1] > xs[p2]) swap(xs, p1, p2);
+        int v1 = xs[p1];
+        int v2 = xs[p2];
+        int lt = p1 + 1;
+        int gt = p2 - 1;
+        int i = lt;
+        while (i <= gt) {
+            int x = xs[i];
+            if (x < v1) swap(xs, lt++, i++);
+            else if (x > v2) swap(xs, i, gt--);
+            else i++;
+        }
+        swap(xs, p1, --lt);
+        swap(xs, p2, ++gt);
+        sort(xs, from, lt);
+        if (v1 != v2) sort(xs, lt + 1, gt);
+        sort(xs, gt + 1, to);
+    }
+
+    public void sort(long[] xs, int from, int to) {
+        if (to - from <= cutoff) {
+            insertionSort.sort(xs, from, to);
+            return;
+        }
+        final int p1 = from;
+        final int p2 = to - 1;
+        int third = (to - from) / 3;
+        swap(xs, p1, p1 + third);
+        swap(xs, p2, p2 - third);
+        if (xs[p1] > xs[p2]) swap(xs, p1, p2);
+        long v1 = xs[p1];
+        long v2 = xs[p2];
+        int lt = p1 + 1;
+        int gt = p2 - 1;
+        int i = lt;
+        while (i <= gt) {
+            long x = xs[i];
+            if (x < v1) swap(xs, lt++, i++);
+            else if (x > v2) swap(xs, i, gt--);
+            else i++;
+        }
+        swap(xs, p1, --lt);
+        swap(xs, p2, ++gt);
+        sort(xs, from, lt);
+        if (v1 != v2) sort(xs, lt + 1, gt);
+        sort(xs, gt + 1, to);
+    }
+
+    public void sort(double[] xs, int from, int to) {
+        quickSort(xs, from, PrimitiveSort.moveNaNsToEnd(xs, from, to));
+    }
+
+    private void quickSort(double[] xs, int from, int to) {
+        if (to - from <= cutoff) {
+            insertionSort.sort(xs, from, to);
+            return;
+        }
+        final int p1 = from;
+        final int p2 = to - 1;
+        int third = (to - from) / 3;
+        swap(xs, p1, p1 + third);
+        swap(xs, p2, p2 - third);
+        if (xs[p1] > xs[p2]) swap(xs, p1, p2);
+        double v1 = xs[p1];
+        double v2 = xs[p2];
+        int lt = p1 + 1;
+        int gt = p2 - 1;
+        int i = lt;
+        while (i <= gt) {
+            double x = xs[i];
+            if (x < v1) swap(xs, lt++, i++);
+            else if (x > v2) swap(xs, i, gt--);
+            else i++;
+        }
+        swap(xs, p1, --lt);
+        swap(xs, p2, ++gt);
+        quickSort(xs, from, lt);
+        if (v1 != v2) quickSort(xs, lt + 1, gt);
+        quickSort(xs, gt + 1, to);
+    }
+
+    @Override
+    public String toString() {
+        return DESCRIPTION + " with cutoff " + cutoff;
+    }
+
+    public static final String DESCRIPTION = "QuickSort dual pivot (primitive)";
+
+    // NOTE the same as the default of Helper.cutoff().
+    public static final int DEFAULT_CUTOFF = 7;
+
+    private static void swap(int[] xs, int i, int j) {
+        int temp = xs[i];
+        xs[i] = xs[j];
+        xs[j] = temp;
+    }
+
+    private static void swap(long[] xs, int i, int j) {
+        long temp = xs[i];
+        xs[i] = xs[j];
+        xs[j] = temp;
+    }
+
+    private static void swap(double[] xs, int i, int j) {
+        double temp = xs[i];
+        xs[i] = xs[j];
+        xs[j] = temp;
+    }
+
+    private final int cutoff;
+    private final PrimitiveInsertionSort insertionSort = new PrimitiveInsertionSort();
+}
@@ -1,89 +1,47 @@
 package edu.neu.coe.info6205.sort.par;
 
-import java.io.BufferedWriter;
-import java.io.FileOutputStream;
+import edu.neu.coe.info6205.util.Config;
+
+import java.io.File;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.concurrent.ForkJoinPool;
 
 /**
  * This code has been fleshed out by Ziyao Qiao. Thanks very much.
- * CONSIDER tidy it up a bit.
+ * <p>
+ * Main tunes ParSort for arrays of the given size (by ParSortTuner, rather than by sweeping fifty cutoff values)
+ * and caches the chosen cutoff and parallelism in the given config.ini file.
+ * It then reads the settings back from that file and checks ParSort, sorting with them, against Arrays.sort.
+ * <p>
+ * NOTE ParSort.sort(int[]) loads config.ini from the classpath (once):
+ * so it picks up the settings stored in src/main/resources/config.ini only after the resources have been rebuilt.
+ * <p>
+ * Usage: Main [n [file]] where file defaults to src/main/resources/config.ini.
  */
 public class Main {
 
-    public static void main(String[] args) {
-        processArgs(args);
-        System.out.println("Degree of parallelism: " + ForkJoinPool.getCommonPoolParallelism());
-        Random random = new Random();
-        int[] array = new int[2000000];
-        ArrayList<Long> timeList = new ArrayList<>();
-        for (int j = 50; j < 100; j++) {
-            ParSort.cutoff = 10000 * (j + 1);
-            // for (int i = 0; i < array.length; i++) array[i] = random.nextInt(10000000);
-            long time;
-            long startTime = System.currentTimeMillis();
-            for (int t = 0; t < 10; t++) {
-                for (int i = 0; i < array.length; i++) array[i] = random.nextInt(10000000);
-                ParSort.sort(array, 0, array.length);
-            }
-            long endTime = System.currentTimeMillis();
-            time = (endTime - startTime);
-            timeList.add(time);
-
-
-            System.out.println("cutoff：" + (ParSort.cutoff) + "\t\t10times Time:" + time + "ms");
-
-        }
-        try {
-            FileOutputStream fis = new FileOutputStream("./src/result.csv");
-            OutputStreamWriter isr = new OutputStreamWriter(fis);
-            BufferedWriter bw = new BufferedWriter(isr);
-            int j = 0;
-            for (long i : timeList) {
-                String content = (double) 10000 * (j + 1) / 2000000 + "," + (double) i / 10 + "\n";
-                j++;
-                bw.write(content);
-                bw.flush();
-            }
-            bw.close();
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    private static void processArgs(String[] args) {
-        String[] xs = args;
-        while (xs.length > 0)
-            if (xs[0].startsWith("-")) xs = processArg(xs);
-    }
+    public static void main(String[] args) throws IOException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2000000;
+        File file = new File(args.length > 1 ? args[1] : "src/main/resources/config.ini");
+        System.out.println("Tuning ParSort for n=" + n + " with " + Runtime.getRuntime().availableProcessors() + " processors");
+        ParSortTuner tuner = new ParSortTuner(n);
+        ParSortTuner.Settings settings = tuner.tune();
+        System.out.println("Best: " + settings);
+        tuner.store(file, settings);
+        System.out.println("Settings stored in " + file);
 
-    private static String[] processArg(String[] xs) {
-        String[] result = new String[0];
-        System.arraycopy(xs, 2, result, 0, xs.length - 2);
-        processCommand(xs[0], xs[1]);
-        return result;
-    }
-
-    private static void processCommand(String x, String y) {
-        if (x.equalsIgnoreCase("N")) setConfig(x, Integer.parseInt(y));
-        else
-            // TODO sort this out
-            if (x.equalsIgnoreCase("P")) //noinspection ResultOfMethodCallIgnored
-                ForkJoinPool.getCommonPoolParallelism();
-    }
-
-    private static void setConfig(String x, int i) {
-        configuration.put(x, i);
+        Random random = new Random();
+        int[] array = new int[n];
+        for (int i = 0; i < n; i++) array[i] = random.nextInt(10000000);
+        int[] expected = Arrays.copyOf(array, n);
+        Arrays.sort(expected);
+        ParSortTuner.Settings stored = ParSortTuner.lookup(new Config(file), n, Runtime.getRuntime().availableProcessors())
+                .orElseThrow(() -> new RuntimeException("settings not found in " + file));
+        ForkJoinPool pool = new ForkJoinPool(stored.parallelism);
+        ParSort.sort(array, 0, n, stored.cutoff, pool);
+        pool.shutdown();
+        if (!Arrays.equals(expected, array)) throw new RuntimeException("ParSort did not sort the array");
     }
-
-    @SuppressWarnings("MismatchedQueryAndUpdateOfCollection")
-    private static final Map<String, Integer> configuration = new HashMap<>();
-
-
-}
\ No newline at end of file
+}
@@ -1,7 +1,14 @@
 package edu.neu.coe.info6205.sort.par;
 
+import edu.neu.coe.info6205.util.Config;
+
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This code has been fleshed out by Ziyao Qiao. Thanks very much.
@@ -11,14 +18,75 @@ class ParSort {
 
     public static int cutoff = 1000;
 
+    /**
+     * If true, the two sorted halves are merged by ParallelMerge (using all the threads of pool);
+     * otherwise, by a single sequential loop.
+     */
+    public static boolean parallelMerge = true;
+
+    /**
+     * The pool in which the sub-sorts (and parallel merges) run, unless another is given.
+     */
+    public static ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * Method to sort the given array, using the cutoff and parallelism which have been tuned (by ParSortTuner) for its size, if any.
+     * Otherwise, cutoff and pool are used.
+     * NOTE the tuned settings are passed down to the sub-sorts: cutoff and pool themselves are never changed,
+     * so concurrent sorts (of different sizes) cannot interfere with each other.
+     *
+     * @param array the array to be sorted.
+     */
+    public static void sort(int[] array) {
+        Optional<ParSortTuner.Settings> settings = lookup(array.length);
+        if (settings.isPresent()) sort(array, 0, array.length, settings.get().cutoff, pool(settings.get().parallelism));
+        else sort(array, 0, array.length);
+    }
+
+    /**
+     * Method to look up the settings cached in config.ini for arrays of n elements and the number of available processors.
+     * NOTE config.ini is loaded (once) from the classpath, so settings which have since been stored
+     * in src/main/resources/config.ini (for example, by Main) are only seen after the resources have been rebuilt.
+     *
+     * @param n the size of the array to be sorted.
+     * @return the tuned settings, if any.
+     */
+    static synchronized Optional<ParSortTuner.Settings> lookup(int n) {
+        if (config == null) {
+            try {
+                config = Config.load(ParSort.class);
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        }
+        return ParSortTuner.lookup(config, n, Runtime.getRuntime().availableProcessors());
+    }
+
     public static void sort(int[] array, int from, int to) {
+        sort(array, from, to, cutoff, pool);
+    }
+
+    /**
+     * Method to sort a range of the given array with the given cutoff and pool (rather than the static defaults).
+     *
+     * @param array  the array.
+     * @param from   the index of the first element to be sorted.
+     * @param to     the index after the last element to be sorted.
+     * @param cutoff ranges of fewer than cutoff elements are sorted by Arrays.sort.
+     * @param pool   the pool in which the sub-sorts (and parallel merges) run.
+     */
+    public static void sort(int[] array, int from, int to, int cutoff, ForkJoinPool pool) {
         if (to - from < cutoff) Arrays.sort(array, from, to);
         else {
             // FIXME next few lines should be removed from public repo.
-            CompletableFuture<int[]> parsort1 = parsort(array, from, from + (to - from) / 2); // TO IMPLEMENT
-            CompletableFuture<int[]> parsort2 = parsort(array, from + (to - from) / 2, to); // TO IMPLEMENT
+            CompletableFuture<int[]> parsort1 = parsort(array, from, from + (to - from) / 2, cutoff, pool); // TO IMPLEMENT
+            CompletableFuture<int[]> parsort2 = parsort(array, from + (to - from) / 2, to, cutoff, pool); // TO IMPLEMENT
             CompletableFuture<int[]> parsort = parsort1.thenCombine(parsort2, (xs1, xs2) -> {
                 int[] result = new int[xs1.length + xs2.length];
+                if (parallelMerge) {
+                    pool.invoke(new ParallelMerge.IntMerge(xs1, 0, xs1.length, xs2, 0, xs2.length, result, 0, cutoff));
+                    return result;
+                }
                 // TO IMPLEMENT
                 int i = 0;
                 int j = 0;
@@ -42,15 +110,24 @@ class ParSort {
         }
     }
 
-    private static CompletableFuture<int[]> parsort(int[] array, int from, int to) {
+    private static CompletableFuture<int[]> parsort(int[] array, int from, int to, int cutoff, ForkJoinPool pool) {
         return CompletableFuture.supplyAsync(
                 () -> {
                     int[] result = new int[to - from];
                     // TO IMPLEMENT
                     System.arraycopy(array, from, result, 0, result.length);
-                    sort(result, 0, to - from);
+                    sort(result, 0, to - from, cutoff, pool);
                     return result;
-                }
+                }, pool
         );
     }
-}
\ No newline at end of file
+
+    private static synchronized ForkJoinPool pool(int parallelism) {
+        return pools.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+
+    private static Config config;
+
+    // The pools used for tuned settings, keyed by parallelism.
+    private static final Map<Integer, ForkJoinPool> pools = new HashMap<>();
+}
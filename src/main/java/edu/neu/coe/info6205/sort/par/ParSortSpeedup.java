@@ -0,0 +1,49 @@
+package edu.neu.coe.info6205.sort.par;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark which reports the speedup (relative to Arrays.sort) of ParSort with its original sequential merge,
+ * ParSort with ParallelMerge, and ParallelMergeSort, for pools of increasing parallelism.
+ * <p>
+ * The output is a table (one row per degree of parallelism) of tab-separated values suitable for plotting:
+ * for each sort, the mean time in milliseconds and the speedup.
+ * <p>
+ * Usage: ParSortSpeedup [n [cutoff [maxParallelism [runs]]]].
+ */
+public class ParSortSpeedup {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int cutoff = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int maxParallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int runs = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        Random random = new Random(0L);
+        int[] ints = new int[n];
+        for (int i = 0; i < n; i++) ints[i] = random.nextInt();
+        System.out.println("ParSortSpeedup: n=" + n + ", cutoff=" + cutoff + ", processors=" + Runtime.getRuntime().availableProcessors() + ", runs=" + runs);
+        double base = ParallelMergeSortBenchmark.time(ints::clone, Arrays::sort, runs);
+        System.out.printf("Arrays.sort: %.2f ms%n", base);
+        System.out.println("parallelism\tParSort (sequential merge)\tspeedup\tParSort (parallel merge)\tspeedup\tParallelMergeSort\tspeedup");
+        for (int parallelism = 1; parallelism <= maxParallelism; parallelism = next(parallelism, maxParallelism)) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            ParSort.parallelMerge = false;
+            double sequentialMerge = ParallelMergeSortBenchmark.time(ints::clone, xs -> ParSort.sort(xs, 0, xs.length, cutoff, pool), runs);
+            ParSort.parallelMerge = true;
+            double parallelMerge = ParallelMergeSortBenchmark.time(ints::clone, xs -> ParSort.sort(xs, 0, xs.length, cutoff, pool), runs);
+            double parallelMergeSort = ParallelMergeSortBenchmark.time(ints::clone, new ParallelMergeSort(pool, cutoff)::sort, runs);
+            pool.shutdown();
+            System.out.printf("%d\t%.2f\t%.2f\t%.2f\t%.2f\t%.2f\t%.2f%n", parallelism,
+                    sequentialMerge, base / sequentialMerge, parallelMerge, base / parallelMerge, parallelMergeSort, base / parallelMergeSort);
+        }
+    }
+
+    /**
+     * @return the next degree of parallelism to be measured: the next power of two, but not skipping max.
+     */
+    private static int next(int parallelism, int max) {
+        return parallelism < max && 2 * parallelism > max ? max : 2 * parallelism;
+    }
+}
@@ -0,0 +1,229 @@
+package edu.neu.coe.info6205.sort.par;
+
+import edu.neu.coe.info6205.util.Config;
+import org.ini4j.Ini;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Class to choose the cutoff and the parallelism of ParSort automatically, by measurement.
+ * <p>
+ * For each candidate parallelism (the powers of two up to the number of processors, and the number of processors itself),
+ * the cutoff is found by a golden-section search (on the logarithm of the cutoff) which minimizes the measured time to sort.
+ * The best combination is then cached in the [parsort] section of a config.ini file,
+ * keyed by the array size (rounded up to a power of two) and the number of processors,
+ * for example: <code>cutoff.2097152.8 = 131072</code> and <code>parallelism.2097152.8 = 8</code>.
+ * ParSort.sort(int[]) looks these settings up at runtime (see ParSort.lookup).
+ * <p>
+ * This replaces the brute-force sweep of fifty cutoff values which used to be done by Main.
+ */
+public class ParSortTuner {
+
+    public static final String PARSORT = "parsort";
+    public static final String CUTOFF = "cutoff";
+    public static final String PARALLELISM = "parallelism";
+
+    /**
+     * Class to represent the settings chosen for ParSort.
+     */
+    public static class Settings {
+        public final int cutoff;
+        public final int parallelism;
+        public final double millis;
+
+        public Settings(int cutoff, int parallelism, double millis) {
+            this.cutoff = cutoff;
+            this.parallelism = parallelism;
+            this.millis = millis;
+        }
+
+        @Override
+        public String toString() {
+            return "Settings{cutoff=" + cutoff + ", parallelism=" + parallelism + ", millis=" + String.format("%.2f", millis) + '}';
+        }
+    }
+
+    /**
+     * Method to find the best settings for arrays of n elements.
+     *
+     * @return the best Settings found.
+     */
+    public Settings tune() {
+        Settings result = null;
+        for (int parallelism = 1; parallelism <= processors; parallelism = parallelism < processors && 2 * parallelism > processors ? processors : 2 * parallelism) {
+            Settings settings = tune(parallelism);
+            if (result == null || settings.millis < result.millis) result = settings;
+        }
+        return result;
+    }
+
+    /**
+     * Method to find the best cutoff for arrays of n elements with the given parallelism.
+     *
+     * @param parallelism the parallelism of the pool.
+     * @return the best Settings found.
+     */
+    public Settings tune(int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Map<Integer, Double> measured = new HashMap<>();
+        // NOTE each cutoff is measured at most once since the search often returns to the same (rounded) cutoff.
+        DoubleUnaryOperator cost = x -> measured.computeIfAbsent(cutoff(x), c -> measure(c, pool));
+        double lo = log2(Math.min(minCutoff, n));
+        double hi = log2(n);
+        int cutoff = cutoff(goldenSection(cost, lo, hi, tolerance));
+        double millis = measured.computeIfAbsent(cutoff, c -> measure(c, pool));
+        pool.shutdown();
+        return new Settings(cutoff, parallelism, millis);
+    }
+
+    /**
+     * Method to find the minimum of a unimodal function by golden-section search.
+     *
+     * @param f         the function.
+     * @param lo        the lower bound of the interval.
+     * @param hi        the upper bound of the interval.
+     * @param tolerance the width of the interval at which the search stops.
+     * @return the argument (between lo and hi) at which f is least.
+     */
+    public static double goldenSection(DoubleUnaryOperator f, double lo, double hi, double tolerance) {
+        double a = lo;
+        double b = hi;
+        double c = b - (b - a) / PHI;
+        double d = a + (b - a) / PHI;
+        double fc = f.applyAsDouble(c);
+        double fd = f.applyAsDouble(d);
+        while (b - a > tolerance) {
+            if (fc < fd) {
+                b = d;
+                d = c;
+                fd = fc;
+                c = b - (b - a) / PHI;
+                fc = f.applyAsDouble(c);
+            } else {
+                a = c;
+                c = d;
+                fc = fd;
+                d = a + (b - a) / PHI;
+                fd = f.applyAsDouble(d);
+            }
+        }
+        return fc < fd ? c : d;
+    }
+
+    /**
+     * Method to store the given settings for arrays of n elements in the given file (which is created if necessary).
+     * NOTE the file is updated in place (rather than via Config.copy) so that its other sections and its comments are preserved.
+     *
+     * @param file     the config.ini file.
+     * @param settings the Settings.
+     * @throws IOException if the file cannot be read or written.
+     */
+    public void store(File file, Settings settings) throws IOException {
+        Ini ini = file.exists() ? new Ini(file) : new Ini();
+        ini.put(PARSORT, key(CUTOFF, n, processors), settings.cutoff);
+        ini.put(PARSORT, key(PARALLELISM, n, processors), settings.parallelism);
+        ini.store(file);
+    }
+
+    /**
+     * Method to look up the cached settings for arrays of n elements.
+     *
+     * @param config     the Config.
+     * @param n          the number of elements.
+     * @param processors the number of processors.
+     * @return the Settings, if any have been cached (the time is unknown, so it is NaN).
+     */
+    public static Optional<Settings> lookup(Config config, int n, int processors) {
+        int cutoff = config.getInt(PARSORT, key(CUTOFF, n, processors), -1);
+        int parallelism = config.getInt(PARSORT, key(PARALLELISM, n, processors), -1);
+        if (cutoff < 1 || parallelism < 1) return Optional.empty();
+        return Optional.of(new Settings(cutoff, parallelism, Double.NaN));
+    }
+
+    /**
+     * @return the option name for the given setting, array size and number of processors.
+     */
+    static String key(String setting, int n, int processors) {
+        return setting + "." + bucket(n) + "." + processors;
+    }
+
+    /**
+     * @return the least power of two which is not less than n.
+     */
+    static int bucket(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    /**
+     * Method to measure the time of ParSort with the given cutoff and pool: the median of runs sorts (after a warmup sort).
+     *
+     * @return the time in milliseconds.
+     */
+    private double measure(int cutoff, ForkJoinPool pool) {
+        double[] millis = new double[runs];
+        for (int i = -1; i < runs; i++) {
+            int[] xs = data.clone();
+            long start = System.nanoTime();
+            ParSort.sort(xs, 0, xs.length, cutoff, pool);
+            if (i >= 0) millis[i] = (System.nanoTime() - start) / 1E6;
+        }
+        Arrays.sort(millis);
+        return millis[runs / 2];
+    }
+
+    private static int cutoff(double log2) {
+        return (int) Math.round(Math.pow(2, log2));
+    }
+
+    private static double log2(int x) {
+        return Math.log(x) / Math.log(2);
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param n          the size of the arrays to be sorted.
+     * @param processors the greatest parallelism to be tried.
+     * @param runs       the number of timed sorts per measurement.
+     * @param minCutoff  the least cutoff to be tried.
+     * @param tolerance  the precision of the search (in powers of two) of the cutoff.
+     * @param seed       the seed for the random data.
+     */
+    public ParSortTuner(int n, int processors, int runs, int minCutoff, double tolerance, long seed) {
+        if (n < 2) throw new IllegalArgumentException("n must be at least 2: " + n);
+        this.n = n;
+        this.processors = processors;
+        this.runs = runs;
+        this.minCutoff = minCutoff;
+        this.tolerance = tolerance;
+        Random random = new Random(seed);
+        data = new int[n];
+        for (int i = 0; i < n; i++) data[i] = random.nextInt();
+    }
+
+    /**
+     * Secondary constructor which uses all the available processors.
+     *
+     * @param n the size of the arrays to be sorted.
+     */
+    public ParSortTuner(int n) {
+        this(n, Runtime.getRuntime().availableProcessors(), 5, 1000, 0.25, 0L);
+    }
+
+    private static final double PHI = (1 + Math.sqrt(5)) / 2;
+
+    private final int n;
+    private final int processors;
+    private final int runs;
+    private final int minCutoff;
+    private final double tolerance;
+    private final int[] data;
+}
@@ -0,0 +1,192 @@
+package edu.neu.coe.info6205.sort.par;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class to merge two sorted runs in parallel by divide-and-conquer.
+ * <p>
+ * The middle element of the longer run is found in the shorter run by binary search;
+ * this splits the merge into two independent merges (everything before the split point and everything after it),
+ * which are performed in parallel, and so on recursively until a merge has no more than cutoff elements.
+ * The span of a merge of n elements is therefore O(log^2 n) rather than O(n).
+ * <p>
+ * The merge is stable: of two equal elements, the one from the left run comes first.
+ */
+public class ParallelMerge {
+
+    /**
+     * Method to merge left[leftFrom, leftTo) and right[rightFrom, rightTo) into dst, starting at dstFrom.
+     * If called from outside a ForkJoinPool, the sub-merges run in the common pool.
+     *
+     * @param left      the array containing the left run.
+     * @param leftFrom  the start of the left run.
+     * @param leftTo    the end of the left run.
+     * @param right     the array containing the right run.
+     * @param rightFrom the start of the right run.
+     * @param rightTo   the end of the right run.
+     * @param dst       the destination array (which must not overlap either run).
+     * @param dstFrom   the index in dst of the first element of the result.
+     * @param cutoff    the greatest number of elements which will be merged sequentially (at least 1).
+     */
+    public static void merge(int[] left, int leftFrom, int leftTo, int[] right, int rightFrom, int rightTo, int[] dst, int dstFrom, int cutoff) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive: " + cutoff);
+        new IntMerge(left, leftFrom, leftTo, right, rightFrom, rightTo, dst, dstFrom, cutoff).invoke();
+    }
+
+    /**
+     * Method to merge left[leftFrom, leftTo) and right[rightFrom, rightTo) into dst, starting at dstFrom.
+     * If called from outside a ForkJoinPool, the sub-merges run in the common pool.
+     *
+     * @param left      the array containing the left run.
+     * @param leftFrom  the start of the left run.
+     * @param leftTo    the end of the left run.
+     * @param right     the array containing the right run.
+     * @param rightFrom the start of the right run.
+     * @param rightTo   the end of the right run.
+     * @param dst       the destination array (which must not overlap either run).
+     * @param dstFrom   the index in dst of the first element of the result.
+     * @param cutoff    the greatest number of elements which will be merged sequentially (at least 1).
+     * @param <X>       the underlying type of the elements.
+     */
+    public static <X extends Comparable<X>> void merge(X[] left, int leftFrom, int leftTo, X[] right, int rightFrom, int rightTo, X[] dst, int dstFrom, int cutoff) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive: " + cutoff);
+        new ComparableMerge<>(left, leftFrom, leftTo, right, rightFrom, rightTo, dst, dstFrom, cutoff).invoke();
+    }
+
+    /**
+     * @return the index of the first element of xs[from, to) which is not less than x (or which is greater than x, if strict).
+     */
+    static int search(int[] xs, int from, int to, int x, boolean strict) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (xs[mid] < x || strict && xs[mid] == x) from = mid + 1;
+            else to = mid;
+        }
+        return from;
+    }
+
+    /**
+     * @return the index of the first element of xs[from, to) which is not less than x (or which is greater than x, if strict).
+     */
+    static <X extends Comparable<X>> int search(X[] xs, int from, int to, X x, boolean strict) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            int cf = xs[mid].compareTo(x);
+            if (cf < 0 || strict && cf == 0) from = mid + 1;
+            else to = mid;
+        }
+        return from;
+    }
+
+    @SuppressWarnings("serial")
+    static class IntMerge extends RecursiveAction {
+        protected void compute() {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+            // NOTE two single elements cannot be split (one of the sub-merges would be the whole merge).
+            if (leftLength + rightLength <= Math.max(cutoff, 2)) {
+                sequential();
+                return;
+            }
+            int leftMid;
+            int rightMid;
+            // NOTE to keep the merge stable, equal elements of the left run must go to the left of the split.
+            if (leftLength >= rightLength) {
+                leftMid = (leftFrom + leftTo) >>> 1;
+                rightMid = search(right, rightFrom, rightTo, left[leftMid], false);
+            } else {
+                rightMid = (rightFrom + rightTo) >>> 1;
+                leftMid = search(left, leftFrom, leftTo, right[rightMid], true);
+            }
+            int dstMid = dstFrom + (leftMid - leftFrom) + (rightMid - rightFrom);
+            invokeAll(new IntMerge(left, leftFrom, leftMid, right, rightFrom, rightMid, dst, dstFrom, cutoff),
+                    new IntMerge(left, leftMid, leftTo, right, rightMid, rightTo, dst, dstMid, cutoff));
+        }
+
+        private void sequential() {
+            int i = leftFrom;
+            int j = rightFrom;
+            int k = dstFrom;
+            while (i < leftTo && j < rightTo) dst[k++] = right[j] < left[i] ? right[j++] : left[i++];
+            while (i < leftTo) dst[k++] = left[i++];
+            while (j < rightTo) dst[k++] = right[j++];
+        }
+
+        IntMerge(int[] left, int leftFrom, int leftTo, int[] right, int rightFrom, int rightTo, int[] dst, int dstFrom, int cutoff) {
+            this.left = left;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.right = right;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.dst = dst;
+            this.dstFrom = dstFrom;
+            this.cutoff = cutoff;
+        }
+
+        private final int[] left;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int[] right;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int[] dst;
+        private final int dstFrom;
+        private final int cutoff;
+    }
+
+    @SuppressWarnings("serial")
+    static class ComparableMerge<X extends Comparable<X>> extends RecursiveAction {
+        protected void compute() {
+            int leftLength = leftTo - leftFrom;
+            int rightLength = rightTo - rightFrom;
+            if (leftLength + rightLength <= Math.max(cutoff, 2)) {
+                sequential();
+                return;
+            }
+            int leftMid;
+            int rightMid;
+            if (leftLength >= rightLength) {
+                leftMid = (leftFrom + leftTo) >>> 1;
+                rightMid = search(right, rightFrom, rightTo, left[leftMid], false);
+            } else {
+                rightMid = (rightFrom + rightTo) >>> 1;
+                leftMid = search(left, leftFrom, leftTo, right[rightMid], true);
+            }
+            int dstMid = dstFrom + (leftMid - leftFrom) + (rightMid - rightFrom);
+            invokeAll(new ComparableMerge<>(left, leftFrom, leftMid, right, rightFrom, rightMid, dst, dstFrom, cutoff),
+                    new ComparableMerge<>(left, leftMid, leftTo, right, rightMid, rightTo, dst, dstMid, cutoff));
+        }
+
+        private void sequential() {
+            int i = leftFrom;
+            int j = rightFrom;
+            int k = dstFrom;
+            while (i < leftTo && j < rightTo) dst[k++] = right[j].compareTo(left[i]) < 0 ? right[j++] : left[i++];
+            while (i < leftTo) dst[k++] = left[i++];
+            while (j < rightTo) dst[k++] = right[j++];
+        }
+
+        ComparableMerge(X[] left, int leftFrom, int leftTo, X[] right, int rightFrom, int rightTo, X[] dst, int dstFrom, int cutoff) {
+            this.left = left;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.right = right;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.dst = dst;
+            this.dstFrom = dstFrom;
+            this.cutoff = cutoff;
+        }
+
+        private final X[] left;
+        private final int leftFrom;
+        private final int leftTo;
+        private final X[] right;
+        private final int rightFrom;
+        private final int rightTo;
+        private final X[] dst;
+        private final int dstFrom;
+        private final int cutoff;
+    }
+}
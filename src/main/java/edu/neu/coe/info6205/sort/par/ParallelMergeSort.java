@@ -0,0 +1,201 @@
+package edu.neu.coe.info6205.sort.par;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class to perform a fork-join parallel merge sort of an int[] or of an array of Comparable.
+ * <p>
+ * Unlike ParSort, which allocates a new array for every sub-range and for every merge (and then copies it back),
+ * this sort allocates exactly one auxiliary array (of the same length as the range to be sorted) per call of sort.
+ * The auxiliary array starts as a copy of the (range of the) input and the two arrays then exchange roles at each level
+ * of the recursion ("ping-pong" merging): the halves are sorted into one array and merged into the other,
+ * so no element is ever copied back.
+ * <p>
+ * Sub-ranges of no more than cutoff elements are sorted sequentially by Arrays.sort.
+ * The merges are themselves parallel (see ParallelMerge) so that the top-level merges also use all the threads.
+ * The tasks run in an explicit ForkJoinPool (rather than the common pool) so that the degree of parallelism
+ * can be controlled and is not shared with unrelated work.
+ */
+public class ParallelMergeSort implements AutoCloseable {
+
+    /**
+     * Method to sort the given array.
+     *
+     * @param xs the array to be sorted in place.
+     */
+    public void sort(int[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    /**
+     * Method to sort a range of the given array.
+     *
+     * @param xs   the array.
+     * @param from the index of the first element to be sorted.
+     * @param to   the index after the last element to be sorted.
+     */
+    public void sort(int[] xs, int from, int to) {
+        if (to - from <= cutoff) {
+            Arrays.sort(xs, from, to);
+            return;
+        }
+        int[] aux = new int[to - from];
+        System.arraycopy(xs, from, aux, 0, to - from);
+        pool.invoke(new IntSort(aux, from, xs, 0, from, to));
+    }
+
+    /**
+     * Method to sort the given array.
+     *
+     * @param xs  the array to be sorted in place.
+     * @param <X> the underlying type of the elements.
+     */
+    public <X extends Comparable<X>> void sort(X[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    /**
+     * Method to sort a range of the given array (stably).
+     *
+     * @param xs   the array.
+     * @param from the index of the first element to be sorted.
+     * @param to   the index after the last element to be sorted.
+     * @param <X>  the underlying type of the elements.
+     */
+    public <X extends Comparable<X>> void sort(X[] xs, int from, int to) {
+        if (to - from <= cutoff) {
+            Arrays.sort(xs, from, to);
+            return;
+        }
+        X[] aux = Arrays.copyOfRange(xs, from, to);
+        pool.invoke(new ComparableSort<>(aux, from, xs, 0, from, to));
+    }
+
+    /**
+     * @return the cutoff (the greatest number of elements which will be sorted sequentially).
+     */
+    public int getCutoff() {
+        return cutoff;
+    }
+
+    /**
+     * @return the ForkJoinPool in which the sorts run.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Shut down the pool, provided that it was created by this ParallelMergeSort.
+     */
+    public void close() {
+        if (ownPool) pool.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelMergeSort{cutoff=" + cutoff + ", parallelism=" + pool.getParallelism() + '}';
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param pool   the ForkJoinPool in which to run (which will not be shut down by close).
+     * @param cutoff the greatest number of elements which will be sorted sequentially (at least 1).
+     */
+    public ParallelMergeSort(ForkJoinPool pool, int cutoff) {
+        this(pool, cutoff, false);
+    }
+
+    /**
+     * Secondary constructor which creates its own pool.
+     *
+     * @param parallelism the parallelism of the pool.
+     * @param cutoff      the greatest number of elements which will be sorted sequentially (at least 1).
+     */
+    public ParallelMergeSort(int parallelism, int cutoff) {
+        this(new ForkJoinPool(parallelism), cutoff, true);
+    }
+
+    private ParallelMergeSort(ForkJoinPool pool, int cutoff, boolean ownPool) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive: " + cutoff);
+        this.pool = pool;
+        this.cutoff = cutoff;
+        this.ownPool = ownPool;
+    }
+
+    /**
+     * Task to sort the range [from, to) of src into the same range of dst, where (on entry) both ranges hold the same elements.
+     * The element at index i of the range is at index i - srcOffset of src and at index i - dstOffset of dst
+     * (the offset of the auxiliary array is the start of the range being sorted, that of the array itself is 0).
+     */
+    @SuppressWarnings("serial")
+    private class IntSort extends RecursiveAction {
+        protected void compute() {
+            if (to - from <= cutoff) {
+                Arrays.sort(dst, from - dstOffset, to - dstOffset);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            // NOTE the halves are sorted into src (with the roles of the arrays exchanged) and then merged into dst.
+            invokeAll(new IntSort(dst, dstOffset, src, srcOffset, from, mid), new IntSort(dst, dstOffset, src, srcOffset, mid, to));
+            new ParallelMerge.IntMerge(src, from - srcOffset, mid - srcOffset, src, mid - srcOffset, to - srcOffset, dst, from - dstOffset, cutoff).invoke();
+        }
+
+        IntSort(int[] src, int srcOffset, int[] dst, int dstOffset, int from, int to) {
+            this.src = src;
+            this.srcOffset = srcOffset;
+            this.dst = dst;
+            this.dstOffset = dstOffset;
+            this.from = from;
+            this.to = to;
+        }
+
+        private final int[] src;
+        private final int srcOffset;
+        private final int[] dst;
+        private final int dstOffset;
+        private final int from;
+        private final int to;
+    }
+
+    /**
+     * Task to sort the range [from, to) of src into the same range of dst, where (on entry) both ranges hold the same elements.
+     * The element at index i of the range is at index i - srcOffset of src and at index i - dstOffset of dst
+     * (the offset of the auxiliary array is the start of the range being sorted, that of the array itself is 0).
+     */
+    @SuppressWarnings("serial")
+    private class ComparableSort<X extends Comparable<X>> extends RecursiveAction {
+        protected void compute() {
+            if (to - from <= cutoff) {
+                Arrays.sort(dst, from - dstOffset, to - dstOffset);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ComparableSort<>(dst, dstOffset, src, srcOffset, from, mid), new ComparableSort<>(dst, dstOffset, src, srcOffset, mid, to));
+            new ParallelMerge.ComparableMerge<>(src, from - srcOffset, mid - srcOffset, src, mid - srcOffset, to - srcOffset, dst, from - dstOffset, cutoff).invoke();
+        }
+
+        ComparableSort(X[] src, int srcOffset, X[] dst, int dstOffset, int from, int to) {
+            this.src = src;
+            this.srcOffset = srcOffset;
+            this.dst = dst;
+            this.dstOffset = dstOffset;
+            this.from = from;
+            this.to = to;
+        }
+
+        private final X[] src;
+        private final int srcOffset;
+        private final X[] dst;
+        private final int dstOffset;
+        private final int from;
+        private final int to;
+    }
+
+    private final ForkJoinPool pool;
+    private final int cutoff;
+    private final boolean ownPool;
+}
@@ -0,0 +1,80 @@
+package edu.neu.coe.info6205.sort.par;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark which compares ParSort (which allocates a new array for every sub-range and every merge)
+ * with ParallelMergeSort (one auxiliary array, ping-pong merging), ParallelRadixSort, ParallelSampleSort and Arrays.parallelSort.
+ * For more rigorous measurements, see the JMH benchmarks in src/jmh/java.
+ * <p>
+ * Usage: ParallelMergeSortBenchmark [n [cutoff [runs]]].
+ */
+public class ParallelMergeSortBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int cutoff = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        System.out.println("ParallelMergeSortBenchmark: n=" + n + ", cutoff=" + cutoff + ", runs=" + runs + ", parallelism=" + parallelism);
+        Random random = new Random(0L);
+        int[] ints = new int[n];
+        for (int i = 0; i < n; i++) ints[i] = random.nextInt();
+        Integer[] integers = new Integer[n];
+        for (int i = 0; i < n; i++) integers[i] = ints[i];
+        ParSort.cutoff = cutoff;
+        try (ParallelMergeSort sorter = new ParallelMergeSort(parallelism, cutoff);
+             ParallelRadixSort radixSort = new ParallelRadixSort(parallelism, cutoff);
+             ParallelSampleSort sampleSort = new ParallelSampleSort(parallelism, cutoff)) {
+            report("int[]: Arrays.sort", () -> ints.clone(), Arrays::sort, runs);
+            report("int[]: ParSort", () -> ints.clone(), xs -> ParSort.sort(xs, 0, xs.length), runs);
+            report("int[]: ParallelMergeSort", () -> ints.clone(), sorter::sort, runs);
+            report("int[]: ParallelRadixSort", () -> ints.clone(), radixSort::sort, runs);
+            report("int[]: ParallelSampleSort", () -> ints.clone(), sampleSort::sort, runs);
+            report("int[]: Arrays.parallelSort", () -> ints.clone(), Arrays::parallelSort, runs);
+            report("Integer[]: Arrays.sort", () -> integers.clone(), Arrays::sort, runs);
+            report("Integer[]: ParallelMergeSort", () -> integers.clone(), sorter::sort, runs);
+            report("Integer[]: Arrays.parallelSort", () -> integers.clone(), Arrays::parallelSort, runs);
+        }
+    }
+
+    /**
+     * Method to time the given sort and print the mean time.
+     * NOTE Benchmark_Timer is not used because Timer.repeat is left as an exercise.
+     *
+     * @param description the description.
+     * @param supplier    a supplier of a fresh (unsorted) array for each run, which is not timed.
+     * @param sort        the sort.
+     * @param runs        the number of timed runs.
+     * @return the mean time of a run, in milliseconds.
+     */
+    static <T> double report(String description, Supplier<T> supplier, Consumer<T> sort, int runs) {
+        double result = time(supplier, sort, runs);
+        System.out.printf("%-32s %8.2f ms%n", description, result);
+        return result;
+    }
+
+    /**
+     * Method to time the given sort (after two warmup runs).
+     *
+     * @param supplier a supplier of a fresh (unsorted) array for each run, which is not timed.
+     * @param sort     the sort.
+     * @param runs     the number of timed runs.
+     * @return the mean time of a run, in milliseconds.
+     */
+    static <T> double time(Supplier<T> supplier, Consumer<T> sort, int runs) {
+        for (int i = 0; i < 2; i++) sort.accept(supplier.get());
+        long nanos = 0;
+        for (int i = 0; i < runs; i++) {
+            T xs = supplier.get();
+            long start = System.nanoTime();
+            sort.accept(xs);
+            nanos += System.nanoTime() - start;
+        }
+        return nanos / 1E6 / runs;
+    }
+}
@@ -0,0 +1,155 @@
+package edu.neu.coe.info6205.sort.par;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class to perform a parallel LSD (least significant digit first) radix sort of an int[].
+ * <p>
+ * The keys are sorted on four 8-bit digits (the most significant digit has its sign bit flipped so that negative numbers come first).
+ * Each pass divides the array into one chunk per thread and has three phases:
+ * <ol>
+ *     <li>each chunk counts its digits (in parallel) into its own histogram, so there is no contention;</li>
+ *     <li>the histograms are combined by a (sequential, but tiny) prefix sum into a starting offset for each digit of each chunk;</li>
+ *     <li>each chunk scatters its elements (in parallel) into the auxiliary array, starting at its offsets.</li>
+ * </ol>
+ * Since each pass is stable, the array is sorted after the last pass.
+ * A pass in which every element has the same digit is skipped.
+ * <p>
+ * Arrays of no more than cutoff elements are sorted by Arrays.sort; each chunk has at least cutoff elements.
+ */
+public class ParallelRadixSort implements AutoCloseable {
+
+    /**
+     * Method to sort the given array.
+     *
+     * @param xs the array to be sorted in place.
+     */
+    public void sort(int[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    /**
+     * Method to sort a range of the given array.
+     *
+     * @param xs   the array.
+     * @param from the index of the first element to be sorted.
+     * @param to   the index after the last element to be sorted.
+     */
+    public void sort(int[] xs, int from, int to) {
+        int n = to - from;
+        if (n <= cutoff) {
+            Arrays.sort(xs, from, to);
+            return;
+        }
+        int chunks = ParallelTasks.chunks(pool, n, cutoff);
+        int[][] counts = new int[chunks][RADIX];
+        // NOTE the element at index i of the range is at index srcFrom + i of src and at index dstFrom + i of dst.
+        int[] src = xs;
+        int srcFrom = from;
+        int[] dst = new int[n];
+        int dstFrom = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += BITS) {
+            int[] s = src;
+            int[] d = dst;
+            int sFrom = srcFrom;
+            int dFrom = dstFrom;
+            int sh = shift;
+            int flip = shift + BITS == Integer.SIZE ? RADIX / 2 : 0;
+            ParallelTasks.forEach(pool, chunks, t -> {
+                int[] count = counts[t];
+                Arrays.fill(count, 0);
+                for (int i = sFrom + ParallelTasks.start(0, n, chunks, t), end = sFrom + ParallelTasks.start(0, n, chunks, t + 1); i < end; i++)
+                    count[(s[i] >>> sh & MASK) ^ flip]++;
+            });
+            if (!offsets(counts, dFrom, n)) continue;
+            ParallelTasks.forEach(pool, chunks, t -> {
+                int[] offset = counts[t];
+                for (int i = sFrom + ParallelTasks.start(0, n, chunks, t), end = sFrom + ParallelTasks.start(0, n, chunks, t + 1); i < end; i++)
+                    d[offset[(s[i] >>> sh & MASK) ^ flip]++] = s[i];
+            });
+            src = d;
+            srcFrom = dFrom;
+            dst = s;
+            dstFrom = sFrom;
+        }
+        if (src != xs) System.arraycopy(src, srcFrom, xs, from, n);
+    }
+
+    /**
+     * Method to replace the per-chunk digit counts by the index at which each chunk should place its first element with each digit.
+     *
+     * @param counts the counts (one row per chunk), which are replaced by the offsets.
+     * @param from   the index of the first element.
+     * @param n      the number of elements.
+     * @return false if all the elements have the same digit (in which case the pass may be skipped), otherwise true.
+     */
+    static boolean offsets(int[][] counts, int from, int n) {
+        int offset = from;
+        for (int digit = 0; digit < counts[0].length; digit++) {
+            int total = 0;
+            for (int[] count : counts) {
+                int c = count[digit];
+                count[digit] = offset + total;
+                total += c;
+            }
+            if (total == n) return false;
+            offset += total;
+        }
+        return true;
+    }
+
+    /**
+     * @return the cutoff (the greatest number of elements which will be sorted sequentially).
+     */
+    public int getCutoff() {
+        return cutoff;
+    }
+
+    /**
+     * Shut down the pool, provided that it was created by this ParallelRadixSort.
+     */
+    public void close() {
+        if (ownPool) pool.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelRadixSort{cutoff=" + cutoff + ", parallelism=" + pool.getParallelism() + '}';
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param pool   the ForkJoinPool in which to run (which will not be shut down by close).
+     * @param cutoff the greatest number of elements which will be sorted sequentially (at least 1).
+     */
+    public ParallelRadixSort(ForkJoinPool pool, int cutoff) {
+        this(pool, cutoff, false);
+    }
+
+    /**
+     * Secondary constructor which creates its own pool.
+     *
+     * @param parallelism the parallelism of the pool.
+     * @param cutoff      the greatest number of elements which will be sorted sequentially (at least 1).
+     */
+    public ParallelRadixSort(int parallelism, int cutoff) {
+        this(new ForkJoinPool(parallelism), cutoff, true);
+    }
+
+    private ParallelRadixSort(ForkJoinPool pool, int cutoff, boolean ownPool) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive: " + cutoff);
+        this.pool = pool;
+        this.cutoff = cutoff;
+        this.ownPool = ownPool;
+    }
+
+    private static final int BITS = 8;
+    private static final int RADIX = 1 << BITS;
+    private static final int MASK = RADIX - 1;
+
+    private final ForkJoinPool pool;
+    private final int cutoff;
+    private final boolean ownPool;
+}
@@ -0,0 +1,170 @@
+package edu.neu.coe.info6205.sort.par;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Class to perform a parallel sample sort of an int[].
+ * <p>
+ * A random sample of the elements is sorted and every OVERSAMPLING-th sample is taken as a splitter,
+ * which divides the elements into buckets of (probably) similar sizes.
+ * Then, as with ParallelRadixSort, the array is divided into one chunk per thread and
+ * <ol>
+ *     <li>each chunk counts (in parallel) how many of its elements belong in each bucket;</li>
+ *     <li>a prefix sum of the counts yields the offset of each bucket in each chunk;</li>
+ *     <li>each chunk scatters (in parallel) its elements into the buckets of the auxiliary array.</li>
+ * </ol>
+ * Finally, the buckets are sorted independently (in parallel, by Arrays.sort) and copied back.
+ * There are several buckets per thread so that the work is balanced even if the buckets are not.
+ * <p>
+ * Arrays of no more than cutoff elements are sorted by Arrays.sort.
+ */
+public class ParallelSampleSort implements AutoCloseable {
+
+    /**
+     * Method to sort the given array.
+     *
+     * @param xs the array to be sorted in place.
+     */
+    public void sort(int[] xs) {
+        sort(xs, 0, xs.length);
+    }
+
+    /**
+     * Method to sort a range of the given array.
+     *
+     * @param xs   the array.
+     * @param from the index of the first element to be sorted.
+     * @param to   the index after the last element to be sorted.
+     */
+    public void sort(int[] xs, int from, int to) {
+        int n = to - from;
+        if (n <= cutoff) {
+            Arrays.sort(xs, from, to);
+            return;
+        }
+        int buckets = Math.max(2, Math.min(BUCKETS_PER_THREAD * pool.getParallelism(), n / cutoff));
+        int[] splitters = splitters(xs, from, n, buckets);
+        int chunks = ParallelTasks.chunks(pool, n, cutoff);
+        int[][] counts = new int[chunks][buckets];
+        ParallelTasks.forEach(pool, chunks, t -> {
+            int[] count = counts[t];
+            for (int i = ParallelTasks.start(from, n, chunks, t), end = ParallelTasks.start(from, n, chunks, t + 1); i < end; i++)
+                count[bucket(splitters, xs[i])]++;
+        });
+        // NOTE the start of each bucket (in aux, which holds only the range) is recorded before the counts are replaced by offsets.
+        int[] starts = new int[buckets + 1];
+        for (int b = 0; b < buckets; b++) {
+            int total = 0;
+            for (int[] count : counts) total += count[b];
+            starts[b + 1] = starts[b] + total;
+        }
+        // NOTE offsets returns false if all the elements are in one bucket, but the offsets are valid nonetheless.
+        ParallelRadixSort.offsets(counts, 0, n);
+        int[] aux = new int[n];
+        ParallelTasks.forEach(pool, chunks, t -> {
+            int[] offset = counts[t];
+            for (int i = ParallelTasks.start(from, n, chunks, t), end = ParallelTasks.start(from, n, chunks, t + 1); i < end; i++)
+                aux[offset[bucket(splitters, xs[i])]++] = xs[i];
+        });
+        ParallelTasks.forEach(pool, buckets, b -> {
+            Arrays.sort(aux, starts[b], starts[b + 1]);
+            System.arraycopy(aux, starts[b], xs, from + starts[b], starts[b + 1] - starts[b]);
+        });
+    }
+
+    /**
+     * Method to choose the splitters from a sorted random sample.
+     *
+     * @return buckets - 1 splitters in ascending order.
+     */
+    private int[] splitters(int[] xs, int from, int n, int buckets) {
+        int[] sample = new int[buckets * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++) sample[i] = xs[from + random.nextInt(n)];
+        Arrays.sort(sample);
+        int[] result = new int[buckets - 1];
+        for (int b = 1; b < buckets; b++) result[b - 1] = sample[b * OVERSAMPLING];
+        return result;
+    }
+
+    /**
+     * @return the bucket of x: the number of splitters which are less than or equal to x.
+     */
+    static int bucket(int[] splitters, int x) {
+        int lo = 0;
+        int hi = splitters.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (splitters[mid] <= x) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * @return the cutoff (the greatest number of elements which will be sorted sequentially).
+     */
+    public int getCutoff() {
+        return cutoff;
+    }
+
+    /**
+     * Shut down the pool, provided that it was created by this ParallelSampleSort.
+     */
+    public void close() {
+        if (ownPool) pool.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelSampleSort{cutoff=" + cutoff + ", parallelism=" + pool.getParallelism() + '}';
+    }
+
+    /**
+     * Primary constructor.
+     *
+     * @param pool   the ForkJoinPool in which to run (which will not be shut down by close).
+     * @param cutoff the greatest number of elements which will be sorted sequentially (at least 1).
+     * @param random the source of randomness for sampling.
+     */
+    public ParallelSampleSort(ForkJoinPool pool, int cutoff, Random random) {
+        this(pool, cutoff, random, false);
+    }
+
+    /**
+     * Secondary constructor.
+     *
+     * @param pool   the ForkJoinPool in which to run (which will not be shut down by close).
+     * @param cutoff the greatest number of elements which will be sorted sequentially (at least 1).
+     */
+    public ParallelSampleSort(ForkJoinPool pool, int cutoff) {
+        this(pool, cutoff, new Random(), false);
+    }
+
+    /**
+     * Secondary constructor which creates its own pool.
+     *
+     * @param parallelism the parallelism of the pool.
+     * @param cutoff      the greatest number of elements which will be sorted sequentially (at least 1).
+     */
+    public ParallelSampleSort(int parallelism, int cutoff) {
+        this(new ForkJoinPool(parallelism), cutoff, new Random(), true);
+    }
+
+    private ParallelSampleSort(ForkJoinPool pool, int cutoff, Random random, boolean ownPool) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive: " + cutoff);
+        this.pool = pool;
+        this.cutoff = cutoff;
+        this.random = random;
+        this.ownPool = ownPool;
+    }
+
+    private static final int BUCKETS_PER_THREAD = 4;
+    private static final int OVERSAMPLING = 32;
+
+    private final ForkJoinPool pool;
+    private final int cutoff;
+    private final Random random;
+    private final boolean ownPool;
+}
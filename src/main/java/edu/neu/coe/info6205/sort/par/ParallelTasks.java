@@ -0,0 +1,47 @@
+package edu.neu.coe.info6205.sort.par;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Utilities for the data-parallel phases (one task per chunk of an array) of the sorts in this package.
+ */
+class ParallelTasks {
+
+    /**
+     * Method to run body(0), body(1), ... body(tasks - 1) in parallel in the given pool and to wait for them all.
+     *
+     * @param pool  the ForkJoinPool.
+     * @param tasks the number of tasks.
+     * @param body  the body of each task.
+     */
+    static void forEach(ForkJoinPool pool, int tasks, IntConsumer body) {
+        if (tasks == 1) {
+            body.accept(0);
+            return;
+        }
+        List<ForkJoinTask<?>> list = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            int task = t;
+            list.add(ForkJoinTask.adapt(() -> body.accept(task)));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(list)));
+    }
+
+    /**
+     * @return the start of chunk t when n elements (starting at from) are divided into the given number of chunks.
+     */
+    static int start(int from, int n, int chunks, int t) {
+        return from + (int) ((long) n * t / chunks);
+    }
+
+    /**
+     * @return the number of chunks into which n elements should be divided: one per thread of pool, but at least cutoff elements each.
+     */
+    static int chunks(ForkJoinPool pool, int n, int cutoff) {
+        return Math.max(1, Math.min(pool.getParallelism(), n / cutoff));
+    }
+}
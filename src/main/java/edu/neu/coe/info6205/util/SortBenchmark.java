@@ -5,11 +5,9 @@ package edu.neu.coe.info6205.util;
 
 import edu.neu.coe.info6205.sort.BaseHelper;
 import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.PrimitiveSort;
 import edu.neu.coe.info6205.sort.SortWithHelper;
-import edu.neu.coe.info6205.sort.elementary.BubbleSort;
-import edu.neu.coe.info6205.sort.elementary.InsertionSort;
-import edu.neu.coe.info6205.sort.elementary.RandomSort;
-import edu.neu.coe.info6205.sort.elementary.ShellSort;
+import edu.neu.coe.info6205.sort.elementary.*;
 import edu.neu.coe.info6205.sort.linearithmic.TimSort;
 import edu.neu.coe.info6205.sort.linearithmic.*;
 
@@ -44,6 +42,7 @@ public class SortBenchmark {
     void doMain(String[] args) {
         sortStrings(getWordCounts(args));
         doIntegerSorts(getWordCounts(args));
+        doPrimitiveSorts(getWordCounts(args));
     }
 
     public void doIntegerSorts(Stream<Integer> wordCounts) {
@@ -51,6 +50,18 @@ public class SortBenchmark {
             wordCounts.forEach(this::getSortedIntegersByShellSort);
     }
 
+    /**
+     * Method to compare, head-to-head, the boxed (Integer) sorts with their primitive-specialised counterparts
+     * (on int[], long[] and double[]), for each of the sorters enabled in the [benchmarkprimitivesorters] section.
+     * Both sides are timed by hand (not by Benchmark_Timer, whose Timer.repeat is left as an exercise);
+     * a boxed sort which is not yet implemented (see config.ini) fails the comparison.
+     *
+     * @param ns the sizes of array to be sorted.
+     */
+    public void doPrimitiveSorts(Stream<Integer> ns) {
+        ns.forEach(this::benchmarkPrimitiveSorters);
+    }
+
     public void sortLocalDateTimes(final int n, Config config) throws IOException {
         logger.info("Beginning LocalDateTime sorts");
         // CONSIDER why do we have localDateTimeSupplier IN ADDITION TO localDateTimes?
@@ -158,6 +169,97 @@ public class SortBenchmark {
             runStringSortBenchmark(words, nWords, nRuns / 10, new BubbleSort<>(nWords, config), timeLoggersQuadratic);
     }
 
+    private void benchmarkPrimitiveSorters(int n) {
+        int nRuns = config.getInt(BENCHMARKPRIMITIVESORTERS, "runs", 100);
+        Integer[] numbers = new BaseHelper<Integer>("numbers", n, config).random(Integer.class, Random::nextInt);
+
+        if (isConfigBenchmarkPrimitiveSorter("quicksortDualPivot")) {
+            runBoxedSortBenchmark(numbers, n, nRuns, new QuickSort_DualPivot<>(n, config), timeLoggersLinearithmic);
+            runPrimitiveSortBenchmark(new PrimitiveQuickSort_DualPivot(), n, nRuns, timeLoggersLinearithmic);
+        }
+
+        if (isConfigBenchmarkPrimitiveSorter("mergesort")) {
+            runBoxedSortBenchmark(numbers, n, nRuns, new MergeSort<>(n, config), timeLoggersLinearithmic);
+            runPrimitiveSortBenchmark(new PrimitiveMergeSort(), n, nRuns, timeLoggersLinearithmic);
+        }
+
+        if (isConfigBenchmarkPrimitiveSorter("heapsort")) {
+            runBoxedSortBenchmark(numbers, n, nRuns, HeapSort.create(n, config), timeLoggersLinearithmic);
+            runPrimitiveSortBenchmark(new PrimitiveHeapSort(), n, nRuns, timeLoggersLinearithmic);
+        }
+
+        if (isConfigBenchmarkPrimitiveSorter("shellsort")) {
+            int m = config.getInt(BENCHMARKINTEGERSORTERS, "mode", 5);
+            runBoxedSortBenchmark(numbers, n, nRuns, ShellSort.create(m, n, config), timeLoggersSubQuadratic);
+            runPrimitiveSortBenchmark(new PrimitiveShellSort(m), n, nRuns, timeLoggersSubQuadratic);
+        }
+
+        // NOTE: this is very slow of course, so recommendation is not to enable this option.
+        if (isConfigBenchmarkPrimitiveSorter("insertionsort")) {
+            runBoxedSortBenchmark(numbers, n, nRuns / 10, new InsertionSort<>(n, config), timeLoggersQuadratic);
+            runPrimitiveSortBenchmark(new PrimitiveInsertionSort(), n, nRuns / 10, timeLoggersQuadratic);
+        }
+    }
+
+    /**
+     * Method to run a sorting benchmark of a PrimitiveSort on random arrays of int, of long and of double.
+     *
+     * @param sorter      the sorter to use.
+     * @param n           the number of elements to be sorted.
+     * @param nRuns       the number of runs of the sort to be preformed (for each element type).
+     * @param timeLoggers a set of timeLoggers to be used.
+     */
+    static void runPrimitiveSortBenchmark(PrimitiveSort sorter, int n, int nRuns, TimeLogger[] timeLoggers) {
+        Random random = new Random();
+        runTimedSortBenchmark(sorter + " on int[]", () -> random.ints(n).toArray(), sorter::sort, n, nRuns, timeLoggers);
+        runTimedSortBenchmark(sorter + " on long[]", () -> random.longs(n).toArray(), sorter::sort, n, nRuns, timeLoggers);
+        runTimedSortBenchmark(sorter + " on double[]", () -> random.doubles(n).toArray(), sorter::sort, n, nRuns, timeLoggers);
+    }
+
+    /**
+     * Method to run a sorting benchmark of a (boxed) SortWithHelper on random arrays of Integer,
+     * timed in the same way as runPrimitiveSortBenchmark so that the two may be compared.
+     *
+     * @param numbers     an array of available integers (to be chosen randomly).
+     * @param n           the number of integers to be sorted.
+     * @param nRuns       the number of runs of the sort to be preformed.
+     * @param sorter      the sorter to use--NOTE that this sorter will be closed at the end of this method.
+     * @param timeLoggers a set of timeLoggers to be used.
+     */
+    static void runBoxedSortBenchmark(Integer[] numbers, int n, int nRuns, SortWithHelper<Integer> sorter, TimeLogger[] timeLoggers) {
+        sorter.init(n);
+        Supplier<Integer[]> supplier = () -> sorter.preProcess(sorter.getHelper().random(Integer.class, r -> numbers[r.nextInt(numbers.length)]));
+        runTimedSortBenchmark(sorter + " on Integer[]", supplier, sorter::mutatingSort, n, nRuns, timeLoggers);
+        sorter.close();
+    }
+
+    private static <T> void runTimedSortBenchmark(String description, Supplier<T> supplier, Consumer<T> sort, int n, int nRuns, TimeLogger[] timeLoggers) {
+        logger.info("run: sort " + formatWhole(n) + " elements using " + description);
+        final double time = time(supplier, sort, nRuns);
+        for (TimeLogger timeLogger : timeLoggers) timeLogger.log(time, n);
+    }
+
+    /**
+     * Method to time the given sort (after a few warmup runs).
+     * NOTE Benchmark_Timer is not used because Timer.repeat is left as an exercise (and so yields zero).
+     *
+     * @param supplier a supplier of a fresh (unsorted) array for each run, which is not timed.
+     * @param sort     the sort.
+     * @param runs     the number of timed runs.
+     * @return the mean time of a run, in milliseconds.
+     */
+    static <T> double time(Supplier<T> supplier, Consumer<T> sort, int runs) {
+        for (int i = 0; i < Math.max(2, runs / 10); i++) sort.accept(supplier.get());
+        long nanos = 0;
+        for (int i = 0; i < runs; i++) {
+            T xs = supplier.get();
+            long start = System.nanoTime();
+            sort.accept(xs);
+            nanos += System.nanoTime() - start;
+        }
+        return nanos / 1E6 / runs;
+    }
+
     private static void runPureSystemSortBenchmark(String[] words, int nWords, int nRuns, Random random) {
         Benchmark<String[]> benchmark = new Benchmark_Timer<>("SystemSort", null, Arrays::sort, null);
         doPureBenchmark(words, nWords, nRuns, random, benchmark);
@@ -167,7 +269,7 @@ public class SortBenchmark {
         if (isConfigBenchmarkIntegerSorter("shellsort")) {
             int m = config.getInt(BENCHMARKINTEGERSORTERS, "mode", 5);
             int runs = config.getInt(BENCHMARKINTEGERSORTERS, "runs", 1000);
-            SortWithHelper<Integer> sorter = new ShellSort<>(m, N, config);
+            SortWithHelper<Integer> sorter = ShellSort.create(m, N, config);
             Integer[] numbers = sorter.getHelper().random(Integer.class, Random::nextInt);
             runIntegerSortBenchmark(numbers, N, runs, sorter, sorter::preProcess, timeLoggersSubQuadratic);
         }
@@ -377,11 +479,16 @@ public class SortBenchmark {
         return isConfigBoolean(BENCHMARKINTEGERSORTERS, option);
     }
 
+    private boolean isConfigBenchmarkPrimitiveSorter(String option) {
+        return isConfigBoolean(BENCHMARKPRIMITIVESORTERS, option);
+    }
+
     private boolean isConfigBoolean(String section, String option) {
         return config.getBoolean(section, option);
     }
 
     public static final String BENCHMARKINTEGERSORTERS = "benchmarkintegersorters";
+    public static final String BENCHMARKPRIMITIVESORTERS = "benchmarkprimitivesorters";
 
     private final Config config;
 }
\ No newline at end of file
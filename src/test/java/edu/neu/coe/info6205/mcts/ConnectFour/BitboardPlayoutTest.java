@@ -0,0 +1,67 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BitboardPlayoutTest {
+
+    @Test
+    public void testPlayAgreesWithPosition() {
+        Random random = new Random(0L);
+        int[] buffer = new int[7];
+        for (int game = 0; game < 100; game++) {
+            BitboardPosition position = BitboardPosition.start();
+            BitboardPlayout playout = new BitboardPlayout(position);
+            while (!position.isTerminal()) {
+                assertFalse(playout.isTerminal());
+                int player = playout.player();
+                int n = playout.moves(buffer);
+                assertEquals(position.moves(player).size(), n);
+                int column = buffer[random.nextInt(n)];
+                position = position.move(player, column);
+                playout.play(column);
+                assertEquals(position, playout.position());
+            }
+            assertTrue(playout.isTerminal());
+            assertEquals((int) position.winner().orElse(ConnectFour.BLANK), playout.winner());
+        }
+    }
+
+    @Test
+    public void testUndo() {
+        BitboardPosition start = BitboardPosition.start().move(ConnectFour.X, 3);
+        BitboardPlayout playout = new BitboardPlayout(start);
+        assertEquals(ConnectFour.O, playout.player());
+        playout.play(3);
+        playout.play(4);
+        playout.play(3);
+        playout.undo();
+        playout.undo();
+        playout.undo();
+        assertEquals(start, playout.position());
+        assertEquals(ConnectFour.O, playout.player());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testUndoTooFar() {
+        new BitboardPlayout(BitboardPosition.start()).undo();
+    }
+
+    @Test
+    public void testPlayOut() {
+        BitboardPlayout playout = new BitboardPlayout(BitboardPosition.start());
+        int winner = playout.playOut(new Random(0L));
+        assertTrue(playout.isTerminal());
+        assertEquals(winner, playout.winner());
+    }
+
+    @Test
+    public void testStatePlayout() {
+        ConnectFour game = new ConnectFour(0L);
+        assertTrue(game.start().playout().isPresent());
+        assertTrue(game.startBitboard().playout().isPresent());
+    }
+}
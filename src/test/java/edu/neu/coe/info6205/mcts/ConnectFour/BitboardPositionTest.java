@@ -0,0 +1,138 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BitboardPositionTest {
+
+    @Test
+    public void testStart() {
+        BitboardPosition position = BitboardPosition.start();
+        assertFalse(position.full());
+        assertFalse(position.isTerminal());
+        assertFalse(position.winner().isPresent());
+        assertEquals(7, position.moves(ConnectFour.X).size());
+    }
+
+    @Test
+    public void testVertical() {
+        BitboardPosition position = play(3, 4, 3, 4, 3, 4, 3);
+        assertEquals(Optional.of(ConnectFour.X), position.winner());
+    }
+
+    @Test
+    public void testHorizontal() {
+        BitboardPosition position = play(6, 6, 5, 5, 4, 4, 0, 3, 3);
+        assertFalse(position.winner().isPresent());
+        position = play(0, 0, 1, 1, 2, 2, 3);
+        assertEquals(Optional.of(ConnectFour.X), position.winner());
+    }
+
+    @Test
+    public void testNoWrapAcrossColumns() {
+        // X occupies the top two cells of column 0 and the bottom two cells of column 1: not a line
+        String grid = "X . . . . . .\n" +
+                "X . . . . . .\n" +
+                "O . . . . . .\n" +
+                "O O . . . . .\n" +
+                "X X . . . . .\n" +
+                "O X . . . . .";
+        BitboardPosition position = BitboardPosition.of(ConnectFourPosition.parsePosition(grid, ConnectFour.X));
+        assertFalse(position.winner().isPresent());
+        assertFalse(BitboardPosition.fourInARow(position.x));
+    }
+
+    @Test
+    public void testDiagonals() {
+        String grid = "O O O O - - -\n" +
+                "X - - - X - -\n" +
+                "X - - X - - -\n" +
+                "X - X - - - -\n" +
+                "O - - - - - -\n" +
+                "O - - - - - -";
+        BitboardPosition position = BitboardPosition.of(ConnectFourPosition.parsePosition(grid, 0));
+        assertTrue(BitboardPosition.fourInARow(position.o));
+        assertFalse(BitboardPosition.fourInARow(position.x));
+        String diagonal = ". . . . . . .\n" +
+                ". . . . . . .\n" +
+                ". . . X . . .\n" +
+                ". . X O . . .\n" +
+                ". X O O . . .\n" +
+                "X O O O X . .";
+        position = BitboardPosition.of(ConnectFourPosition.parsePosition(diagonal, ConnectFour.X));
+        assertEquals(Optional.of(ConnectFour.X), position.winner());
+        String antiDiagonal = ". . . . . . .\n" +
+                ". . . . . . .\n" +
+                "O . . . . . .\n" +
+                "X O . . . . .\n" +
+                "X X O . . . .\n" +
+                "X X X O . . .";
+        position = BitboardPosition.of(ConnectFourPosition.parsePosition(antiDiagonal, ConnectFour.O));
+        assertEquals(Optional.of(ConnectFour.O), position.winner());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testColumnFull() {
+        play(6, 6, 6, 6, 6, 6, 6);
+    }
+
+    @Test
+    public void testGrid() {
+        ConnectFourPosition position = ConnectFourPosition.parsePosition(". . . . . . .\n. . . . . . .\n. . . . . . .\n. . . . . . .\n. . . . . . .\n. . . X O . .", ConnectFour.O);
+        assertArrayEquals(position.grid, BitboardPosition.of(position).grid());
+    }
+
+    @Test
+    public void testAgreesWithConnectFourPosition() {
+        Random random = new Random(0L);
+        for (int game = 0; game < 200; game++) {
+            ConnectFourPosition grid = ConnectFour.startingPosition();
+            BitboardPosition bitboard = BitboardPosition.start();
+            int player = ConnectFour.X;
+            while (!grid.full() && !grid.winner().isPresent()) {
+                assertFalse(bitboard.isTerminal());
+                List<Integer> moves = grid.moves(player);
+                assertEquals(moves, bitboard.moves(player));
+                int column = moves.get(random.nextInt(moves.size()));
+                grid = grid.move(player, column);
+                bitboard = bitboard.move(player, column);
+                player = 1 - player;
+            }
+            assertTrue(bitboard.isTerminal());
+            assertEquals(grid.winner(), bitboard.winner());
+            assertArrayEquals(grid.grid, bitboard.grid());
+        }
+    }
+
+    @Test
+    public void testZobrist() {
+        ConnectFourPosition grid = ConnectFourPosition.parsePosition(
+                ". . . . . . .\n" +
+                        ". . . . . . .\n" +
+                        ". . . . . . .\n" +
+                        ". . . . . . .\n" +
+                        ". . . O . . .\n" +
+                        "X . . X . . .", 0);
+        BitboardPosition position = BitboardPosition.of(grid);
+        assertEquals(grid.zobrist(), position.zobrist());
+        assertEquals(play(0, 3, 4).zobrist(), play(4, 3, 0).zobrist());
+        assertNotEquals(play(0, 3, 4).zobrist(), play(6, 3, 2).zobrist());
+        assertEquals(play(0, 3, 4).canonicalHash(), play(6, 3, 2).canonicalHash());
+        assertEquals(grid.canonicalHash(), grid.reflect(0).canonicalHash());
+    }
+
+    private static BitboardPosition play(int... columns) {
+        BitboardPosition position = BitboardPosition.start();
+        int player = ConnectFour.X;
+        for (int column : columns) {
+            position = position.move(player, column);
+            player = 1 - player;
+        }
+        return position;
+    }
+}
@@ -0,0 +1,64 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.PlayoutPolicy;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ConnectFourPlayoutPolicyTest {
+
+    @Test
+    public void testWins() {
+        // X has three in column 0; O has three in column 1.
+        BitboardPlayout playout = new BitboardPlayout(play(0, 1, 0, 1, 0, 1));
+        assertTrue(playout.wins(ConnectFour.X, 0));
+        assertFalse(playout.wins(ConnectFour.X, 1));
+        assertTrue(playout.wins(ConnectFour.O, 1));
+        assertFalse(playout.wins(ConnectFour.O, 2));
+    }
+
+    @Test
+    public void testChooseWin() {
+        BitboardPlayout playout = new BitboardPlayout(play(0, 1, 0, 1, 0, 1));
+        int[] moves = new int[7];
+        int n = playout.moves(moves);
+        PlayoutPolicy target = new ConnectFourPlayoutPolicy();
+        for (int i = 0; i < 20; i++) assertEquals(0, target.choose(playout, moves, n, new Random(i)));
+    }
+
+    @Test
+    public void testChooseBlock() {
+        // X (to move) has no win but O threatens to complete column 1.
+        BitboardPlayout playout = new BitboardPlayout(play(0, 1, 2, 1, 4, 1));
+        int[] moves = new int[7];
+        int n = playout.moves(moves);
+        PlayoutPolicy target = new ConnectFourPlayoutPolicy();
+        for (int i = 0; i < 20; i++) assertEquals(1, target.choose(playout, moves, n, new Random(i)));
+        // NOTE the generic policy sees the win but not the block.
+        assertEquals(0, PlayoutPolicy.winningMove(new BitboardPlayout(play(0, 1, 0, 1, 0, 1)), moves, n));
+        assertEquals(-1, PlayoutPolicy.winningMove(playout, moves, n));
+        assertEquals(play(0, 1, 2, 1, 4, 1), playout.position());
+    }
+
+    @Test
+    public void testPlayOut() {
+        Random random = new Random(0L);
+        PlayoutPolicy target = new ConnectFourPlayoutPolicy();
+        for (int i = 0; i < 100; i++) {
+            int winner = new BitboardPlayout(play(0, 1, 0, 1, 0, 1)).playOut(random, target);
+            assertEquals(ConnectFour.X, winner);
+        }
+    }
+
+    private static BitboardPosition play(int... columns) {
+        BitboardPosition result = BitboardPosition.start();
+        int player = ConnectFour.X;
+        for (int column : columns) {
+            result = result.move(player, column);
+            player = player == ConnectFour.X ? ConnectFour.O : ConnectFour.X;
+        }
+        return result;
+    }
+}
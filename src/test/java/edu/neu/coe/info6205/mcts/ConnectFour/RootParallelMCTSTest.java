@@ -0,0 +1,45 @@
+package edu.neu.coe.info6205.mcts.ConnectFour;
+
+import edu.neu.coe.info6205.mcts.core.State;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class RootParallelMCTSTest {
+
+    @Test
+    public void testRun() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            State<ConnectFour> state = new ConnectFour(0L).start();
+            RootParallelMCTS mcts = new RootParallelMCTS(state, 4, executor);
+            State<ConnectFour> best = mcts.run(100);
+            assertNotNull("Best child should not be null", best);
+            assertEquals("Root should have seven children", 7, mcts.children().size());
+            assertTrue("Best child should be one of the children", mcts.children().contains(best));
+            int total = 0;
+            for (int playouts : mcts.playouts()) total += playouts;
+            assertTrue("Merged playouts should cover all trees", total >= 4 * 100 - 4 * 7);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBestChild() {
+        RootParallelMCTS mcts = new RootParallelMCTS(new ConnectFour(0L).start(), 2);
+        assertNull("No best child before run", mcts.bestChild());
+        State<ConnectFour> best = mcts.run(50);
+        int[] playouts = mcts.playouts();
+        int index = mcts.children().indexOf(best);
+        for (int p : playouts) assertTrue(playouts[index] >= p);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoTrees() {
+        new RootParallelMCTS(new ConnectFour(0L).start(), 0);
+    }
+}
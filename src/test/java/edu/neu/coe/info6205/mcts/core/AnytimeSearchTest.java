@@ -0,0 +1,86 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
+import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AnytimeSearchTest {
+
+    @Test
+    public void testIterations() {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        SearchReport<ConnectFour> report = mcts.run(SearchBudget.iterations(1000));
+        assertEquals(1000, report.iterations());
+        assertEquals(1000, mcts.root().playouts());
+        assertNotNull(report.bestMove());
+        assertSame(mcts.root(), report.bestMove().getParent());
+        assertTrue(report.depth() > 1);
+        assertEquals(count(mcts.root()), report.nodes());
+    }
+
+    @Test
+    public void testMillis() {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        SearchReport<ConnectFour> report = mcts.run(SearchBudget.millis(50));
+        assertTrue(report.nanos() >= 50_000_000L);
+        assertTrue(report.nanos() < 1_000_000_000L);
+        assertTrue(report.iterationsPerSecond() > 0);
+        assertNotNull(report.bestMove());
+    }
+
+    @Test
+    public void testNodes() {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        SearchReport<ConnectFour> report = mcts.run(SearchBudget.nodes(100).andMillis(10_000));
+        assertTrue(report.nodes() >= 100);
+        // NOTE each iteration expands at most one node (which has at most seven children).
+        assertTrue(report.nodes() < 100 + 7);
+        assertEquals(count(mcts.root()), report.nodes());
+    }
+
+    @Test
+    public void testResume() {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        mcts.run(SearchBudget.iterations(200));
+        SearchReport<ConnectFour> report = new AnytimeSearch<>(mcts).run(SearchBudget.iterations(300));
+        assertEquals(500, mcts.root().playouts());
+        assertEquals(count(mcts.root()), report.nodes());
+    }
+
+    @Test
+    public void testStop() throws InterruptedException {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        AnytimeSearch<ConnectFour> target = new AnytimeSearch<>(mcts);
+        Thread thread = new Thread(() -> target.run(SearchBudget.millis(60_000)));
+        thread.start();
+        Thread.sleep(50);
+        assertNotNull(target.bestMove());
+        target.stop();
+        thread.join(5_000);
+        assertFalse(thread.isAlive());
+    }
+
+    @Test
+    public void testBudget() {
+        SearchBudget target = SearchBudget.iterations(10).andMillis(5);
+        assertFalse(target.exhausted(9, 4_999_999, Long.MAX_VALUE - 1));
+        assertTrue(target.exhausted(10, 0, 0));
+        assertTrue(target.exhausted(0, 5_000_000, 0));
+        assertTrue(SearchBudget.nodes(3).exhausted(0, 0, 3));
+        assertEquals("SearchBudget{iterations=10 millis=5}", target.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeBudget() {
+        SearchBudget.millis(-1);
+    }
+
+    static long count(Node<ConnectFour> node) {
+        long result = 1;
+        for (Node<ConnectFour> child : node.children()) result += count(child);
+        return result;
+    }
+}
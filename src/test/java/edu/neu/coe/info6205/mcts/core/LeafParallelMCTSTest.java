@@ -0,0 +1,70 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourMove;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
+import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class LeafParallelMCTSTest {
+
+    @Test
+    public void testRun() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+            new LeafParallelMCTS<>(mcts, 8, pool).run(100);
+            Node<ConnectFour> root = mcts.root();
+            assertEquals(7, root.children().size());
+            assertEquals(800, root.playouts());
+            int total = 0;
+            for (Node<ConnectFour> child : root.children()) total += child.playouts();
+            assertEquals("the first batch was simulated from the root itself", 792, total);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRunNodePool() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // X (to play) wins at once by playing in column 0, so that terminal child is selected again and again.
+            State<ConnectFour> state = new ConnectFour(0L).startBitboard();
+            for (int column : new int[]{0, 1, 0, 1, 0, 1}) state = state.next(new ConnectFourMove(state.player(), column));
+            NodePool<ConnectFour> nodes = new NodePool<>(state);
+            MCTS mcts = new MCTS(nodes.root());
+            new LeafParallelMCTS<>(mcts, 16, pool).run(200);
+            Node<ConnectFour> root = mcts.root();
+            assertEquals(3200, root.playouts());
+            Node<ConnectFour> win = root.children().iterator().next();
+            assertTrue(win.isLeaf());
+            assertTrue(win.playouts() > 1);
+            assertEquals("every playout from the winning move is a win", 2 * win.playouts(), win.wins());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testBackPropagate() {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        Node<ConnectFour> root = mcts.root();
+        root.expand();
+        Node<ConnectFour> child = root.children().iterator().next();
+        new LeafParallelMCTS<>(mcts, 3).backPropagate(child, new int[]{1, 0, 1});
+        assertEquals(3, child.playouts());
+        assertEquals(mcts.reward(child, 1) * 2 + mcts.reward(child, 0), child.wins());
+        assertEquals(3, root.playouts());
+        assertEquals(mcts.reward(root, 1) * 2 + mcts.reward(root, 0), root.wins());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatch() {
+        new LeafParallelMCTS<>(new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard())), 0);
+    }
+}
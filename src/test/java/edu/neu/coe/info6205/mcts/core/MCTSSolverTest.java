@@ -0,0 +1,77 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourPosition;
+import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class MCTSSolverTest {
+
+    @Test
+    public void testWinInOne() {
+        MCTSSolver<ConnectFour> target = solver(". . . . . . .\n" +
+                ". . . . . . .\n" +
+                ". . . . . . .\n" +
+                ". . . . . . .\n" +
+                ". O O . . . .\n" +
+                ". X X X . . O", ConnectFour.O);
+        SearchReport<ConnectFour> report = target.run(SearchBudget.iterations(1000));
+        assertEquals(1, report.iterations());
+        assertTrue(target.isSolved());
+        assertEquals(Optional.of(ConnectFour.X), target.winner(report.bestMove().getParent()));
+        assertTrue(report.bestMove().state().isTerminal());
+    }
+
+    @Test
+    public void testWinInThree() {
+        // X plays in column 1 or 4 to make an open three.
+        MCTSSolver<ConnectFour> target = solver(". . . . . . .\n" +
+                ". . . . . . .\n" +
+                ". . . . . . .\n" +
+                ". . . . . . .\n" +
+                ". . O O . . .\n" +
+                ". . X X . . .", ConnectFour.O);
+        SearchReport<ConnectFour> report = target.run(SearchBudget.iterations(100_000));
+        assertTrue(report.iterations() < 100_000);
+        Node<ConnectFour> best = report.bestMove();
+        assertEquals(Optional.of(ConnectFour.X), target.winner(best.getParent()));
+        assertEquals(Optional.of(ConnectFour.X), target.winner(best));
+        assertTrue(target.proofs() > 1);
+    }
+
+    @Test
+    public void testLoss() {
+        // O (to move) cannot stop X from completing the bottom row.
+        MCTSSolver<ConnectFour> target = solver(". . . . . . .\n" +
+                ". . . . . . .\n" +
+                ". . . . . . .\n" +
+                ". . . . . . .\n" +
+                ". . O O . . .\n" +
+                ". X X X . . .", ConnectFour.X);
+        target.run(SearchBudget.iterations(100_000));
+        assertTrue(target.isSolved());
+        assertEquals(Optional.of(ConnectFour.X), target.winner(target.bestMove().getParent()));
+    }
+
+    @Test
+    public void testUnsolved() {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        MCTSSolver<ConnectFour> target = new MCTSSolver<>(mcts);
+        SearchReport<ConnectFour> report = target.run(SearchBudget.iterations(500));
+        assertEquals(500, report.iterations());
+        assertFalse(target.isSolved());
+        assertEquals(Optional.empty(), target.winner(mcts.root()));
+        // NOTE a proven node is back-propagated without a simulation but still counts as a playout.
+        assertEquals(500, mcts.root().playouts());
+    }
+
+    private static MCTSSolver<ConnectFour> solver(String grid, int last) {
+        State<ConnectFour> state = new ConnectFour(0L).new BitboardState(ConnectFourPosition.parsePosition(grid, last));
+        return new MCTSSolver<>(new MCTS(new ConnectFourNode(state)));
+    }
+}
@@ -0,0 +1,145 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourMove;
+import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class NodePoolTest {
+
+    @Test
+    public void testRoot() {
+        State<ConnectFour> start = new ConnectFour(0L).startBitboard();
+        NodePool<ConnectFour> target = new NodePool<>(start, 4);
+        Node<ConnectFour> root = target.root();
+        assertEquals(1, target.size());
+        assertEquals(start, root.state());
+        assertTrue(root.white());
+        assertFalse(root.isLeaf());
+        assertTrue(root.children().isEmpty());
+        assertNull(root.getParent());
+        assertEquals(root, target.root());
+    }
+
+    @Test
+    public void testExpand() {
+        State<ConnectFour> start = new ConnectFour(0L).startBitboard();
+        NodePool<ConnectFour> target = new NodePool<>(start, 4);
+        Node<ConnectFour> root = target.root();
+        root.expand();
+        assertEquals(8, target.size());
+        List<Node<ConnectFour>> children = new ArrayList<>(root.children());
+        assertEquals(7, children.size());
+        Node<ConnectFour> child = children.get(3);
+        assertEquals(start.next(new ConnectFourMove(ConnectFour.X, 3)), child.state());
+        assertEquals(root, child.getParent());
+        assertFalse(child.white());
+        child.expand();
+        Node<ConnectFour> grandchild = new ArrayList<>(child.children()).get(3);
+        assertEquals(play(start, 3, 3), grandchild.state());
+        assertTrue(grandchild.white());
+    }
+
+    @Test
+    public void testStatistics() {
+        NodePool<ConnectFour> target = new NodePool<>(new ConnectFour(0L).startBitboard());
+        Node<ConnectFour> root = target.root();
+        root.expand();
+        List<Node<ConnectFour>> children = new ArrayList<>(root.children());
+        children.get(0).addStatistics(2, 1);
+        children.get(1).addStatistics(1, 3);
+        root.backPropagate();
+        assertEquals(3, root.wins());
+        assertEquals(4, root.playouts());
+    }
+
+    @Test
+    public void testTerminal() {
+        State<ConnectFour> state = play(new ConnectFour(0L).startBitboard(), 0, 1, 0, 1, 0, 1);
+        NodePool<ConnectFour> target = new NodePool<>(state);
+        Node<ConnectFour> root = target.root();
+        root.expand();
+        Node<ConnectFour> win = new ArrayList<>(root.children()).get(0);
+        assertTrue(win.isLeaf());
+        assertEquals(2, win.wins());
+        assertEquals(1, win.playouts());
+    }
+
+    @Test
+    public void testMCTS() {
+        NodePool<ConnectFour> target = new NodePool<>(new ConnectFour(0L).startBitboard(), 16);
+        MCTS mcts = new MCTS(target.root());
+        SearchReport<ConnectFour> report = mcts.run(SearchBudget.iterations(2000));
+        assertEquals(target.size(), report.nodes());
+        assertTrue(target.bytes() >= 23L * target.size());
+        Node<ConnectFour> best = report.bestMove();
+        State<ConnectFour> state = best.state();
+        int playouts = best.playouts();
+        Node<ConnectFour> root = mcts.advance(state);
+        assertNull(root.getParent());
+        assertEquals(state, root.state());
+        assertEquals(playouts, root.playouts());
+        State<ConnectFour> reply = play(state, 0);
+        assertEquals(reply, mcts.advance(reply).state());
+        mcts.run(SearchBudget.iterations(500));
+    }
+
+    @Test
+    public void testAddChild() {
+        State<ConnectFour> start = new ConnectFour(0L).startBitboard();
+        NodePool<ConnectFour> target = new NodePool<>(start, 4);
+        Node<ConnectFour> root = target.root();
+        Node<ConnectFour> child = root.addChild(play(start, 5));
+        assertEquals(8, target.size());
+        assertEquals(root, child.getParent());
+        assertFalse(child.white());
+        Node<ConnectFour> grandchild = child.addChild(play(start, 5, 2));
+        assertEquals(15, target.size());
+        Node<ConnectFour> second = root.addChild(play(start, 1));
+        assertEquals(15, target.size());
+        List<Node<ConnectFour>> children = new ArrayList<>(root.children());
+        assertEquals(2, children.size());
+        assertEquals(child, children.get(0));
+        assertEquals(second, children.get(1));
+        assertEquals(play(start, 1), second.state());
+        assertEquals(play(start, 5, 2), grandchild.state());
+        assertEquals(play(start, 5), child.state());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddChildUnreachable() {
+        State<ConnectFour> start = new ConnectFour(0L).startBitboard();
+        new NodePool<>(start).root().addChild(start);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testAddChildExpanded() {
+        State<ConnectFour> start = new ConnectFour(0L).startBitboard();
+        Node<ConnectFour> root = new NodePool<>(start).root();
+        root.expand();
+        root.addChild(play(start, 0));
+    }
+
+    @Test
+    public void testWidening() {
+        NodePool<ConnectFour> target = new NodePool<>(new ConnectFour(0L).startBitboard());
+        Node<ConnectFour> root = target.root();
+        assertTrue(NodePool.isPooled(root));
+        MCTS mcts = new MCTS(root, new UCB1(1.44), PlayoutPolicy.random(), new ProgressiveWidening(1, 0.25));
+        SearchReport<ConnectFour> report = mcts.run(SearchBudget.iterations(500));
+        int children = root.children().size();
+        assertTrue(children > 1 && children <= new ProgressiveWidening(1, 0.25).limit(root.playouts()));
+        assertEquals(500, root.playouts());
+        assertNotNull(report.bestMove());
+    }
+
+    private static State<ConnectFour> play(State<ConnectFour> state, int... columns) {
+        for (int column : columns) state = state.next(new ConnectFourMove(state.player(), column));
+        return state;
+    }
+}
@@ -0,0 +1,75 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourMove;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
+import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class OpeningBookTest {
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        State<ConnectFour> start = new ConnectFour(0L).startBitboard();
+        MCTS mcts = new MCTS(new ConnectFourNode(start));
+        mcts.run(SearchBudget.iterations(5000));
+        Path path = Files.createTempFile("opening", ".book");
+        try {
+            int entries = OpeningBook.save(path, mcts.root(), ConnectFour::canonicalHash, 10);
+            assertEquals(12 + 16L * entries, Files.size(path));
+            OpeningBook<ConnectFour> target = OpeningBook.load(path, ConnectFour::canonicalHash);
+            assertEquals(entries, target.size());
+            Optional<PackedStatistics> root = target.statistics(start);
+            assertTrue(root.isPresent());
+            assertEquals(5000, root.get().playouts());
+            Node<ConnectFour> best = AnytimeSearch.bestMove(mcts.root());
+            Optional<State<ConnectFour>> move = target.bestMove(start, 10);
+            assertTrue(move.isPresent());
+            // NOTE the book may choose the mirror image of the best move, which has the same key.
+            assertEquals(ConnectFour.canonicalHash(best.state()), ConnectFour.canonicalHash(move.get()));
+            assertEquals(Optional.empty(), target.bestMove(start, 10000));
+            State<ConnectFour> deep = start;
+            for (int column : new int[]{0, 0, 0, 0, 0, 0, 1, 1, 1, 1})
+                deep = deep.next(new ConnectFourMove(deep.player(), column));
+            assertEquals(Optional.empty(), target.statistics(deep));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testEngine() throws IOException {
+        State<ConnectFour> start = new ConnectFour(0L).startBitboard();
+        MCTS mcts = new MCTS(new ConnectFourNode(start));
+        mcts.run(SearchBudget.iterations(2000));
+        Path path = Files.createTempFile("opening", ".book");
+        try {
+            OpeningBook.save(path, mcts.root(), ConnectFour::canonicalHash, 1);
+            OpeningBook<ConnectFour> book = OpeningBook.load(path, ConnectFour::canonicalHash);
+            Engine<ConnectFour> target = Engine.book(book, 1, Engine.random("random"));
+            assertEquals("random", target.name());
+            assertEquals(book.bestMove(start, 1).orElseThrow(), target.move(start, new Random(0L)));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotABook() throws IOException {
+        Path path = Files.createTempFile("opening", ".book");
+        try {
+            Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+            OpeningBook.load(path, ConnectFour::canonicalHash);
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
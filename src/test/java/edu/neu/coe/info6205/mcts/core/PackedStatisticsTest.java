@@ -0,0 +1,57 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class PackedStatisticsTest {
+
+    @Test
+    public void testAdd() {
+        PackedStatistics target = new PackedStatistics(3, 5);
+        target.add(2, 1);
+        assertEquals(5, target.wins());
+        assertEquals(6, target.playouts());
+        target.add(0, -6);
+        assertEquals(5, target.wins());
+        assertEquals(0, target.playouts());
+        target.add(-5, 0);
+        assertEquals(0, target.wins());
+        assertEquals(0, target.playouts());
+    }
+
+    @Test
+    public void testSet() {
+        PackedStatistics target = new PackedStatistics();
+        target.set(7, 11);
+        assertEquals(7, target.wins());
+        assertEquals(11, target.playouts());
+        target.setWins(2);
+        assertEquals(2, target.wins());
+        assertEquals(11, target.playouts());
+        target.setPlayouts(4);
+        assertEquals(2, target.wins());
+        assertEquals(4, target.playouts());
+    }
+
+    @Test
+    public void testConcurrentAdd() throws InterruptedException {
+        PackedStatistics target = new PackedStatistics();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++)
+            executor.submit(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    target.add(0, 1);
+                    target.add(2, 0);
+                }
+            });
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        assertEquals(80000, target.wins());
+        assertEquals(40000, target.playouts());
+    }
+}
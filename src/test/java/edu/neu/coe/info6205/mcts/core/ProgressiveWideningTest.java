@@ -0,0 +1,75 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
+import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class ProgressiveWideningTest {
+
+    @Test
+    public void testLimit() {
+        ProgressiveWidening target = new ProgressiveWidening(1, 0.5);
+        assertEquals(1, target.limit(0));
+        assertEquals(1, target.limit(1));
+        assertEquals(2, target.limit(2));
+        assertEquals(3, target.limit(9));
+        assertEquals(4, target.limit(10));
+        assertEquals(10, target.limit(100));
+    }
+
+    @Test
+    public void testWiden() {
+        ProgressiveWidening target = new ProgressiveWidening(1, 0.5);
+        Node<ConnectFour> root = new ConnectFourNode(new ConnectFour(0L).startBitboard());
+        Node<ConnectFour> first = target.widen(root);
+        assertNotNull(first);
+        assertSame(root, first.getParent());
+        assertEquals(1, root.children().size());
+        // NOTE a node with no playouts may have only one child.
+        assertNull(target.widen(root));
+        root.setPlayouts(49);
+        Set<State<ConnectFour>> states = new HashSet<>();
+        Node<ConnectFour> added;
+        while ((added = target.widen(root)) != null) {
+            // NOTE the child returned by widen is the one just added.
+            assertSame(root, added.getParent());
+            assertSame(added, new ArrayList<>(root.children()).get(root.children().size() - 1));
+        }
+        for (Node<ConnectFour> child : root.children()) states.add(child.state());
+        assertEquals(7, root.children().size());
+        assertEquals(7, states.size());
+    }
+
+    @Test
+    public void testOrderIsStable() {
+        ProgressiveWidening target = new ProgressiveWidening(1, 0.5);
+        State<ConnectFour> start = new ConnectFour(0L).startBitboard();
+        Node<ConnectFour> a = new ConnectFourNode(start);
+        Node<ConnectFour> b = new ConnectFourNode(start);
+        assertEquals(target.widen(a).state(), target.widen(b).state());
+    }
+
+    @Test
+    public void testSearch() {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()), new UCB1(1.44), PlayoutPolicy.random(), new ProgressiveWidening(1, 0.5));
+        SearchReport<ConnectFour> report = mcts.run(SearchBudget.iterations(100));
+        assertEquals(100, mcts.root().playouts());
+        assertTrue(mcts.root().children().size() <= 10);
+        assertEquals(AnytimeSearchTest.count(mcts.root()), report.nodes());
+        // NOTE each iteration adds exactly one node until the tree reaches a terminal position.
+        assertTrue(report.nodes() <= 101);
+        assertNotNull(report.bestMove());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadAlpha() {
+        new ProgressiveWidening(1, 2);
+    }
+}
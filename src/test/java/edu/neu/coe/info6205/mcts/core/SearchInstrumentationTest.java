@@ -0,0 +1,53 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
+import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
+import edu.neu.coe.info6205.util.StatPack;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SearchInstrumentationTest {
+
+    @Test
+    public void testRun() {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        SearchInstrumentation target = new SearchInstrumentation();
+        SearchReport<ConnectFour> report = mcts.run(SearchBudget.iterations(500), target);
+        assertEquals(1, target.runs());
+        StatPack statPack = target.getStatPack();
+        assertEquals(report.nodes() - 1, statPack.total(SearchInstrumentation.NODES), 0);
+        assertEquals(report.depth(), statPack.total(SearchInstrumentation.DEPTH), 0);
+        assertEquals(7, statPack.total(SearchInstrumentation.BRANCHING), 0.5);
+        assertTrue(statPack.total(SearchInstrumentation.SELECT) > 0);
+        assertTrue(statPack.total(SearchInstrumentation.EXPAND) > 0);
+        assertTrue(statPack.total(SearchInstrumentation.SIMULATE) > 0);
+        assertTrue(statPack.total(SearchInstrumentation.BACKPROPAGATE) > 0);
+        assertEquals(report.iterationsPerSecond(), statPack.total(SearchInstrumentation.PLAYOUTS_PER_SECOND), 1);
+    }
+
+    @Test
+    public void testRuns() {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        SearchInstrumentation target = new SearchInstrumentation();
+        mcts.run(SearchBudget.iterations(100), target);
+        mcts.run(SearchBudget.iterations(100), target);
+        mcts.run(SearchBudget.iterations(100));
+        assertEquals(2, target.runs());
+        assertEquals(2, target.getStatPack().getCount(SearchInstrumentation.NODES));
+    }
+
+    @Test
+    public void testWidening() {
+        ProgressiveWidening widening = new ProgressiveWidening(1, 0.5);
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()), new UCB1(1.44), PlayoutPolicy.random(), widening);
+        SearchInstrumentation target = new SearchInstrumentation();
+        SearchReport<ConnectFour> report = mcts.run(SearchBudget.iterations(200), target);
+        StatPack statPack = target.getStatPack();
+        assertEquals(report.nodes() - 1, statPack.total(SearchInstrumentation.NODES), 0);
+        // NOTE with progressive widening, most expanded nodes have only one child.
+        double branching = statPack.total(SearchInstrumentation.BRANCHING);
+        assertTrue(branching >= 1 && branching < 7);
+    }
+}
@@ -0,0 +1,91 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
+import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SelectionPolicyTest {
+
+    @Test
+    public void testLogTable() {
+        assertEquals(Double.NEGATIVE_INFINITY, LogTable.log(0), 0);
+        assertEquals(0.0, LogTable.log(1), 0);
+        assertEquals(Math.log(1000), LogTable.log(1000), 0);
+        assertEquals(Math.log(1 << 20), LogTable.log(1 << 20), 0);
+    }
+
+    @Test
+    public void testUCB1() {
+        UCB1 target = new UCB1(Math.sqrt(2));
+        double term = target.parentTerm(100, 7);
+        assertEquals(0.5 + Math.sqrt(2) * Math.sqrt(Math.log(100) / 10), target.value(5, 10, term), 1E-12);
+        assertEquals(Double.POSITIVE_INFINITY, target.unvisited(term), 0);
+    }
+
+    @Test
+    public void testUCB1AgreesWithStream() {
+        MCTS mcts = new MCTS(new ConnectFourNode(new ConnectFour(0L).startBitboard()));
+        mcts.run(3000);
+        List<Node<ConnectFour>> nodes = new ArrayList<>();
+        collect(mcts.root(), nodes);
+        SelectionPolicy target = new UCB1(1.44);
+        for (Node<ConnectFour> node : nodes)
+            assertSame(node.children().stream().max(Comparator.comparingDouble(mcts::ucb1)).orElse(null), target.select(node));
+    }
+
+    @Test
+    public void testUCB1Tuned() {
+        UCB1Tuned target = new UCB1Tuned(2);
+        double term = target.parentTerm(100, 7);
+        // NOTE with a mean of 0.5, the variance bound is 0.25 (plus the exploration term), which is clipped to 1/4.
+        assertEquals(0.5 + Math.sqrt(Math.log(100) / 10 * 0.25), target.value(10, 10, term), 1E-12);
+        // NOTE with a mean of 1, the variance bound is just the exploration term.
+        double ratio = Math.log(100) / 100;
+        assertEquals(1 + Math.sqrt(ratio * Math.min(0.25, Math.sqrt(2 * ratio))), target.value(200, 100, term), 1E-12);
+    }
+
+    @Test
+    public void testPUCT() {
+        PUCT target = new PUCT(2, 1);
+        double term = target.parentTerm(16, 4);
+        assertEquals(2.0, term, 1E-12);
+        assertEquals(0.5 + 2.0 / 5, target.value(2, 4, term), 1E-12);
+        assertEquals(2.0, target.unvisited(term), 0);
+    }
+
+    @Test
+    public void testSelect() {
+        ConnectFourNode root = new ConnectFourNode(new ConnectFour(0L).startBitboard());
+        assertNull(new UCB1(1).select(root));
+        root.expand();
+        List<Node<ConnectFour>> children = new ArrayList<>(root.children());
+        for (Node<ConnectFour> child : children) child.addStatistics(1, 2);
+        children.get(4).addStatistics(2, 0);
+        root.addStatistics(0, 14);
+        assertSame(children.get(4), new UCB1(1.44).select(root));
+        assertSame(children.get(4), new UCB1Tuned(2).select(root));
+        assertSame(children.get(4), new PUCT(1, 2).select(root));
+        // NOTE with equal values, the first child is chosen.
+        ConnectFourNode other = new ConnectFourNode(new ConnectFour(0L).startBitboard());
+        other.expand();
+        assertSame(other.children().iterator().next(), new UCB1(0).select(other));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeConstant() {
+        new UCB1(-1);
+    }
+
+    private static void collect(Node<ConnectFour> node, List<Node<ConnectFour>> nodes) {
+        if (node.children().isEmpty()) return;
+        nodes.add(node);
+        for (Node<ConnectFour> child : node.children()) collect(child, nodes);
+    }
+}
@@ -0,0 +1,94 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
+import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TournamentTest {
+
+    @Test
+    public void testRun() {
+        Engine<ConnectFour> mcts = Engine.mcts("MCTS", (s, r) -> new MCTS(new ConnectFourNode(s), new UCB1(1.44), PlayoutPolicy.random(), null, r), SearchBudget.iterations(500));
+        Engine<ConnectFour> random = Engine.random("random");
+        StringWriter csv = new StringWriter();
+        Tournament.Result result = new Tournament<>(s -> new ConnectFour(s).startBitboard(), mcts, random, 10, 42L, 2).run(csv);
+        assertEquals(10, result.games());
+        assertTrue(result.toString(), result.winsA() >= 8);
+        assertTrue(result.elo() > 0);
+        assertTrue(result.cpuSecondsA() > result.cpuSecondsB());
+        String[] lines = csv.toString().split("\\R");
+        assertEquals(11, lines.length);
+        assertEquals("game,seed,first,second,winner,plies,cpuMillisA,cpuMillisB", lines[0]);
+        for (int i = 1; i < lines.length; i++) assertEquals(8, lines[i].split(",").length);
+    }
+
+    @Test
+    public void testExhaustedBudget() {
+        State<ConnectFour> start = new ConnectFour(0L).startBitboard();
+        Engine<ConnectFour> mcts = Engine.mcts("MCTS", (s, r) -> new MCTS(new ConnectFourNode(s), new UCB1(1.44), PlayoutPolicy.random(), null, r), SearchBudget.iterations(0));
+        // NOTE the root is never expanded, so a random move is played.
+        State<ConnectFour> next = mcts.move(start, new Random(0L));
+        boolean legal = false;
+        for (Move<ConnectFour> move : start.moves(start.player())) legal |= start.next(move).equals(next);
+        assertTrue(legal);
+    }
+
+    @Test
+    public void testRandomIsReproducible() {
+        Engine<ConnectFour> random = Engine.random("random");
+        Tournament<ConnectFour> target = new Tournament<>(s -> new ConnectFour(s).startBitboard(), random, random, 1, 7L, 1);
+        assertArrayEquals(new long[]{target.play(3, null)[0]}, new long[]{target.play(3, null)[0]});
+    }
+
+    @Test
+    public void testMCTSIsReproducible() {
+        Engine<ConnectFour> ucb1 = Engine.mcts("UCB1", (s, r) -> new MCTS(new ConnectFourNode(s), new UCB1(1.44), PlayoutPolicy.random(), null, r), SearchBudget.iterations(200));
+        Engine<ConnectFour> puct = Engine.mcts("PUCT", (s, r) -> new MCTS(new ConnectFourNode(s), new PUCT(1.5, 2), PlayoutPolicy.random(), null, r), SearchBudget.iterations(200));
+        List<State<ConnectFour>> first = new ArrayList<>();
+        List<State<ConnectFour>> second = new ArrayList<>();
+        new Tournament<>(s -> new ConnectFour(s).startBitboard(), recording(ucb1, first), recording(puct, first), 1, 11L, 1).play(0, null);
+        new Tournament<>(s -> new ConnectFour(s).startBitboard(), recording(ucb1, second), recording(puct, second), 1, 11L, 1).play(0, null);
+        assertTrue(first.size() > 1);
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void testElo() {
+        assertEquals(0, Tournament.Result.elo(0.5), 1E-9);
+        assertEquals(-400 * Math.log10(1 / 0.75 - 1), Tournament.Result.elo(0.75), 1E-9);
+        assertEquals(Double.POSITIVE_INFINITY, Tournament.Result.elo(1), 0);
+        Tournament.Result result = new Tournament.Result("A", "B", 60, 30, 10, 0, 0);
+        assertEquals(0.65, result.score(), 1E-9);
+        double[] interval = result.eloInterval(1.96);
+        assertTrue(interval[0] < result.elo() && result.elo() < interval[1]);
+        assertTrue(interval[0] > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelism() {
+        Engine<ConnectFour> random = Engine.random("random");
+        new Tournament<>(s -> new ConnectFour(s).startBitboard(), random, random, 1, 0L, 0);
+    }
+
+    private static Engine<ConnectFour> recording(Engine<ConnectFour> engine, List<State<ConnectFour>> states) {
+        return new Engine<>() {
+            public String name() {
+                return engine.name();
+            }
+
+            public State<ConnectFour> move(State<ConnectFour> state, Random random) {
+                State<ConnectFour> result = engine.move(state, random);
+                states.add(result);
+                return result;
+            }
+        };
+    }
+}
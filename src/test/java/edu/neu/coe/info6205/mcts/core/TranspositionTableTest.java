@@ -0,0 +1,106 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourMove;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
+import edu.neu.coe.info6205.mcts.ConnectFour.MCTS;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TranspositionTableTest {
+
+    @Test
+    public void testTransposition() {
+        TranspositionTable<ConnectFour> target = ConnectFour.transpositionTable(100);
+        State<ConnectFour> start = new ConnectFour(0L).start();
+        PackedStatistics s1 = target.statistics(play(start, 0, 3, 4));
+        PackedStatistics s2 = target.statistics(play(start, 4, 3, 0));
+        assertSame(s1, s2);
+        // NOTE the mirror image shares statistics too.
+        assertSame(s1, target.statistics(play(start, 6, 3, 2)));
+        assertNotSame(s1, target.statistics(play(start, 0, 3, 5)));
+        assertEquals(2, target.size());
+        assertEquals(2, target.hits());
+        assertEquals(2, target.misses());
+    }
+
+    @Test
+    public void testBitboardAndGridAgree() {
+        TranspositionTable<ConnectFour> target = ConnectFour.transpositionTable(100);
+        ConnectFour game = new ConnectFour(0L);
+        assertSame(target.statistics(play(game.start(), 1, 2)), target.statistics(play(game.startBitboard(), 1, 2)));
+    }
+
+    @Test
+    public void testEviction() {
+        TranspositionTable<ConnectFour> target = ConnectFour.transpositionTable(2);
+        State<ConnectFour> start = new ConnectFour(0L).start();
+        PackedStatistics s0 = target.statistics(play(start, 0));
+        target.statistics(play(start, 1));
+        // NOTE this access makes column 1 the least-recently used.
+        assertSame(s0, target.statistics(play(start, 0)));
+        target.statistics(play(start, 2));
+        assertEquals(2, target.size());
+        assertEquals(1, target.evictions());
+        assertSame(s0, target.statistics(play(start, 0)));
+        assertEquals(3, target.evictions() + target.size());
+    }
+
+    @Test
+    public void testSharedNodes() {
+        TranspositionTable<ConnectFour> table = ConnectFour.transpositionTable(1000);
+        ConnectFourNode root = new ConnectFourNode(new ConnectFour(0L).start(), table);
+        ConnectFourNode other = new ConnectFourNode(play(new ConnectFour(1L).start(), 0, 3, 4), table);
+        root.addStatistics(1, 1);
+        other.addStatistics(2, 1);
+        ConnectFourNode transposed = new ConnectFourNode(play(new ConnectFour(1L).start(), 4, 3, 0), table);
+        assertEquals(2, transposed.wins());
+        assertEquals(1, transposed.playouts());
+        root.explore();
+        assertEquals(7, root.children().size());
+        // NOTE the seven children fall into four mirror-image classes (plus root and other).
+        assertEquals(6, table.size());
+    }
+
+    @Test
+    public void testExploreKeepsTransposedPlayouts() {
+        TranspositionTable<ConnectFour> table = ConnectFour.transpositionTable(1000);
+        ConnectFour game = new ConnectFour(0L);
+        ConnectFourNode first = new ConnectFourNode(play(game.start(), 0, 3, 4), table);
+        first.explore();
+        first.addStatistics(3, 5);
+        ConnectFourNode second = new ConnectFourNode(play(game.start(), 4, 3, 0), table);
+        assertEquals(5, second.playouts());
+        // NOTE exploring the same position reached by the other move order must not reset its statistics.
+        second.explore();
+        assertEquals(7, second.children().size());
+        second.addStatistics(1, 2);
+        assertEquals(4, first.wins());
+        assertEquals(7, first.playouts());
+    }
+
+    @Test
+    public void testRunKeepsTransposedPlayouts() {
+        TranspositionTable<ConnectFour> table = ConnectFour.transpositionTable(100000);
+        ConnectFour game = new ConnectFour(0L);
+        State<ConnectFour> start = game.start();
+        ConnectFourNode root1 = new ConnectFourNode(play(start, 0, 3, 4), table);
+        ConnectFourNode root2 = new ConnectFourNode(play(start, 4, 3, 0), table);
+        new MCTS(root1).run(300);
+        assertEquals(300, root1.playouts());
+        new MCTS(root2).run(200);
+        assertEquals(500, root2.playouts());
+        assertEquals(500, root1.playouts());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacity() {
+        ConnectFour.transpositionTable(0);
+    }
+
+    private static State<ConnectFour> play(State<ConnectFour> state, int... columns) {
+        for (int column : columns) state = state.next(new ConnectFourMove(state.player(), column));
+        return state;
+    }
+}
@@ -0,0 +1,53 @@
+package edu.neu.coe.info6205.mcts.core;
+
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFour;
+import edu.neu.coe.info6205.mcts.ConnectFour.ConnectFourNode;
+import edu.neu.coe.info6205.mcts.tictactoe.MCTS;
+import edu.neu.coe.info6205.mcts.tictactoe.TicTacToe;
+import edu.neu.coe.info6205.mcts.tictactoe.TicTacToeNode;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+public class TreeParallelMCTSTest {
+
+    @Test
+    public void testTicTacToe() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            MCTS mcts = new MCTS(new TicTacToeNode(new TicTacToe(0L).start()));
+            new TreeParallelMCTS<>(mcts, executor).run(2000, 4);
+            Node<TicTacToe> root = mcts.root();
+            assertEquals(9, root.children().size());
+            assertEquals("every iteration is counted exactly once (virtual losses are reversed)", 2000, root.playouts());
+            int total = 0;
+            for (Node<TicTacToe> child : root.children()) total += child.playouts();
+            assertEquals(1999, total);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConnectFour() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            edu.neu.coe.info6205.mcts.ConnectFour.MCTS mcts = new edu.neu.coe.info6205.mcts.ConnectFour.MCTS(new ConnectFourNode(new ConnectFour(0L).start()));
+            new TreeParallelMCTS<>(mcts, executor, 3).run(500, 3);
+            Node<ConnectFour> root = mcts.root();
+            assertEquals(7, root.children().size());
+            assertEquals(500, root.playouts());
+            assertNotNull(mcts.bestChild(root));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeVirtualLoss() {
+        new TreeParallelMCTS<>(new MCTS(new TicTacToeNode(new TicTacToe(0L).start())), null, -1);
+    }
+}
@@ -0,0 +1,64 @@
+package edu.neu.coe.info6205.mcts.mnk;
+
+import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.NodePool;
+import edu.neu.coe.info6205.mcts.core.SearchBudget;
+import edu.neu.coe.info6205.mcts.core.SearchReport;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class MNKPlayoutTest {
+
+    @Test
+    public void testPlayAndUndo() {
+        MNKPosition start = MNKPositionTest.play(MNKPosition.start(15, 15, 5), 112, 113);
+        MNKPlayout target = new MNKPlayout(start);
+        int[] buffer = new int[target.maxMoves()];
+        assertEquals(223, target.moves(buffer));
+        Random random = new Random(0L);
+        MNKPosition position = start;
+        for (int i = 0; i < 50 && !target.isTerminal(); i++) {
+            int cell = buffer[random.nextInt(target.moves(buffer))];
+            position = position.move(target.player(), cell);
+            target.play(cell);
+            assertEquals(position, target.position());
+            assertEquals(position.winner().orElse(MNKGame.BLANK).intValue(), target.winner());
+        }
+        while (!target.position().equals(start)) target.undo();
+        int n = target.moves(buffer);
+        assertEquals(223, n);
+        int[] cells = Arrays.copyOf(buffer, n);
+        Arrays.sort(cells);
+        assertEquals(start.moves(MNKGame.X), Arrays.stream(cells).boxed().toList());
+    }
+
+    @Test
+    public void testPlayOut() {
+        MNKPlayout target = new MNKPlayout(MNKPosition.start(7, 7, 4));
+        int winner = target.playOut(new Random(1L));
+        assertTrue(target.isTerminal());
+        assertEquals(target.position().winner().orElse(MNKGame.BLANK).intValue(), winner);
+    }
+
+    @Test
+    public void testMCTSFindsWin() {
+        MNKGame game = new MNKGame(7, 7, 4, 0L);
+        MNKPosition position = MNKPosition.parsePosition(
+                ". . . . . . .\n" +
+                        ". . . . . . .\n" +
+                        ". X X X . . .\n" +
+                        ". O O O . . .\n" +
+                        ". . . . . . .\n" +
+                        ". . . . . . .\n" +
+                        ". . . . . . .", 4, MNKGame.O);
+        NodePool<MNKGame> pool = new NodePool<>(game.new MNKState(position));
+        SearchReport<MNKGame> report = new MCTS(pool.root()).run(SearchBudget.iterations(3000));
+        Node<MNKGame> best = report.bestMove();
+        assertEquals(Optional.of(MNKGame.X), best.state().winner());
+    }
+}
@@ -0,0 +1,86 @@
+package edu.neu.coe.info6205.mcts.mnk;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+public class MNKPositionTest {
+
+    @Test
+    public void testStart() {
+        MNKPosition target = MNKPosition.start(15, 15, 5);
+        assertEquals(225, target.moves(MNKGame.X).size());
+        assertFalse(target.isTerminal());
+        assertEquals(4, target.x.length);
+    }
+
+    @Test
+    public void testHorizontal() {
+        MNKPosition target = play(MNKPosition.start(15, 15, 5), 0, 15, 1, 16, 2, 17, 3, 18);
+        assertFalse(target.winner().isPresent());
+        target = target.move(MNKGame.X, 4);
+        assertEquals(Optional.of(MNKGame.X), target.winner());
+        assertTrue(target.isTerminal());
+    }
+
+    @Test
+    public void testNoWrapAcrossRows() {
+        // NOTE cells 13, 14 end row 0 and cells 15, 16, 17 begin row 1.
+        MNKPosition target = play(MNKPosition.start(15, 15, 5), 13, 100, 14, 101, 15, 102, 16, 103, 17);
+        assertFalse(target.winner().isPresent());
+    }
+
+    @Test
+    public void testDiagonals() {
+        // NOTE the winning move fills the middle of the diagonal.
+        MNKPosition target = play(MNKPosition.start(15, 15, 5), 0, 1, 16, 2, 48, 3, 64, 4, 32);
+        assertEquals(Optional.of(MNKGame.X), target.winner());
+        target = play(MNKPosition.start(15, 15, 5), 0, 4 * 15, 1, 3 * 15 + 1, 2, 2 * 15 + 2, 3, 15 + 3, 200, 4);
+        assertEquals(Optional.of(MNKGame.O), target.winner());
+    }
+
+    @Test
+    public void testCrossesWordBoundary() {
+        // NOTE row 4 (cells 60 to 74) straddles the first and second words.
+        MNKPosition target = play(MNKPosition.start(15, 15, 5), 62, 0, 63, 1, 64, 2, 65, 3, 66);
+        assertEquals(Optional.of(MNKGame.X), target.winner());
+    }
+
+    @Test
+    public void testParsePosition() {
+        MNKPosition target = MNKPosition.parsePosition("X O .\nX O .\nX . .", 3, MNKGame.X);
+        assertEquals(Optional.of(MNKGame.X), target.winner());
+        assertEquals("X O .\nX O .\nX . .", target.toString());
+        assertEquals(MNKGame.O, target.get(1, 1));
+        assertEquals(play(MNKPosition.start(3, 3, 3), 0, 1, 3, 4, 6), target);
+    }
+
+    @Test
+    public void testDraw() {
+        MNKPosition target = MNKPosition.parsePosition("X O X\nX O O\nO X X", 3, MNKGame.X);
+        assertTrue(target.full());
+        assertTrue(target.isTerminal());
+        assertFalse(target.winner().isPresent());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testOccupied() {
+        play(MNKPosition.start(3, 3, 3), 4, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidGame() {
+        MNKPosition.start(3, 3, 4);
+    }
+
+    static MNKPosition play(MNKPosition position, int... cells) {
+        int player = MNKGame.X;
+        for (int cell : cells) {
+            position = position.move(player, cell);
+            player = 1 - player;
+        }
+        return position;
+    }
+}
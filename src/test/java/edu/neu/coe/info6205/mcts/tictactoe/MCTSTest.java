@@ -5,7 +5,11 @@ import static org.junit.Assert.*;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
+import java.util.Optional;
+
+import edu.neu.coe.info6205.mcts.core.AnytimeSearch;
 import edu.neu.coe.info6205.mcts.core.Node;
+import edu.neu.coe.info6205.mcts.core.State;
 
 public class MCTSTest {
 
@@ -42,4 +46,58 @@ public class MCTSTest {
         assertEquals(initialPlayouts + 1, node.playouts());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testAdvance() {
+        TicTacToe game = new TicTacToe(0L);
+        MCTS mcts = new MCTS(new TicTacToeNode(game.start()));
+        mcts.run(200);
+        Node<TicTacToe> best = AnytimeSearch.bestMove(mcts.root());
+        int playouts = best.playouts();
+        int grandchildren = best.children().size();
+        assertSame(best, mcts.advance(best.state()));
+        assertSame(best, mcts.root());
+        assertNull(best.getParent());
+        assertEquals(playouts, mcts.root().playouts());
+        assertEquals(grandchildren, mcts.root().children().size());
+        // NOTE advancing to the current root is a no-op.
+        assertSame(best, mcts.advance(best.state()));
+        State<TicTacToe> reply = best.state().next(best.state().chooseMove(best.state().player()));
+        assertEquals(reply, mcts.advance(reply).state());
+        mcts.run(100);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdvanceUnreachable() {
+        TicTacToe game = new TicTacToe(0L);
+        MCTS mcts = new MCTS(new TicTacToeNode(game.start()));
+        State<TicTacToe> state = game.start();
+        state = state.next(state.chooseMove(TicTacToe.X));
+        mcts.advance(state.next(state.chooseMove(TicTacToe.O)));
+    }
+
+    @Test
+    public void testRunGame() {
+        State<TicTacToe> state = new TicTacToe(0L).runGame(100);
+        assertTrue(state.isTerminal());
+    }
+
+    @Test
+    public void testFindsWinningMove() {
+        TicTacToe game = new TicTacToe(0L);
+        State<TicTacToe> state = game.new TicTacToeState(Position.parsePosition("X X .\nO O .\n. . .", TicTacToe.O));
+        MCTS mcts = new MCTS(new TicTacToeNode(state));
+        mcts.run(500);
+        Node<TicTacToe> best = AnytimeSearch.bestMove(mcts.root());
+        assertEquals(Optional.of(TicTacToe.X), best.state().winner());
+    }
+
+    @Test
+    public void testReward() {
+        MCTS mcts = new MCTS(new TicTacToeNode(new TicTacToe(0L).start()));
+        Node<TicTacToe> root = mcts.root();
+        // NOTE nobody has moved to the root, which is X to play: rewards are from the point of view of O.
+        assertEquals(0, mcts.reward(root, TicTacToe.X));
+        assertEquals(2, mcts.reward(root, TicTacToe.O));
+        assertEquals(1, mcts.reward(root, TicTacToe.blank));
+    }
+}
@@ -149,4 +149,15 @@ public class PositionTest {
         Position target = Position.parsePosition("X . .\n. O .\n. . X", 1);
         assertEquals("1,-1,-1\n-1,0,-1\n-1,-1,1", target.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCanonicalHash() {
+        Position target = Position.parsePosition("X . .\n. O .\n. . .", 0);
+        Position rotated = target.rotate();
+        assertNotEquals(target.zobrist(), rotated.zobrist());
+        assertEquals(target.canonicalHash(), rotated.canonicalHash());
+        assertEquals(target.canonicalHash(), target.reflect(0).canonicalHash());
+        assertEquals(target.canonicalHash(), Position.parsePosition(". . .\n. O .\n. . X", 0).canonicalHash());
+        assertNotEquals(target.canonicalHash(), Position.parsePosition(". X .\n. O .\n. . .", 0).canonicalHash());
+    }
+}
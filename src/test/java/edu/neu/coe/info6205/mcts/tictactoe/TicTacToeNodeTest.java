@@ -1,5 +1,7 @@
 package edu.neu.coe.info6205.mcts.tictactoe;
 
+import edu.neu.coe.info6205.mcts.core.State;
+import edu.neu.coe.info6205.mcts.core.TranspositionTable;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -44,4 +46,27 @@ public class TicTacToeNodeTest {
     public void backPropagate() {
         // no tests yet
     }
+
+    @Test
+    public void exploreWithTranspositionTable() {
+        TranspositionTable<TicTacToe> table = TicTacToe.transpositionTable(1000);
+        TicTacToe game = new TicTacToe(0L);
+        TicTacToeNode first = new TicTacToeNode(play(game.start(), 0, 0, 1, 1, 2, 2), table);
+        first.explore();
+        first.addStatistics(3, 5);
+        TicTacToeNode second = new TicTacToeNode(play(game.start(), 2, 2, 1, 1, 0, 0), table);
+        assertEquals(5, second.playouts());
+        // NOTE exploring the same position reached by the other move order must not reset its statistics.
+        second.explore();
+        assertEquals(6, second.children().size());
+        second.addStatistics(1, 2);
+        assertEquals(4, first.wins());
+        assertEquals(7, first.playouts());
+    }
+
+    private static State<TicTacToe> play(State<TicTacToe> state, int... cells) {
+        for (int k = 0; k < cells.length; k += 2)
+            state = state.next(new TicTacToe.TicTacToeMove(state.player(), cells[k], cells[k + 1]));
+        return state;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package edu.neu.coe.info6205.mcts.tictactoe;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TicTacToePlayoutTest {
+
+    @Test
+    public void testWinner() {
+        TicTacToePlayout playout = new TicTacToePlayout(Position.parsePosition("X . 0\nX O .\n. . 0", TicTacToe.O));
+        assertEquals(TicTacToe.X, playout.player());
+        assertFalse(playout.isTerminal());
+        playout.play(6);
+        assertTrue(playout.isTerminal());
+        assertEquals(TicTacToe.X, playout.winner());
+        playout.undo();
+        assertFalse(playout.isTerminal());
+        assertEquals(TicTacToe.blank, playout.winner());
+    }
+
+    @Test
+    public void testMoves() {
+        TicTacToePlayout playout = new TicTacToePlayout(TicTacToe.startingPosition());
+        int[] buffer = new int[playout.maxMoves()];
+        assertEquals(9, playout.moves(buffer));
+        playout.play(4);
+        assertEquals(8, playout.moves(buffer));
+        for (int i = 0; i < 8; i++) assertNotEquals(4, buffer[i]);
+    }
+
+    @Test
+    public void testPlayOutAgreesWithPosition() {
+        Random random = new Random(0L);
+        int[] buffer = new int[9];
+        for (int game = 0; game < 100; game++) {
+            Position position = TicTacToe.startingPosition();
+            TicTacToePlayout playout = new TicTacToePlayout(position);
+            while (!position.full() && !position.winner().isPresent()) {
+                assertFalse(playout.isTerminal());
+                int player = playout.player();
+                int cell = buffer[random.nextInt(playout.moves(buffer))];
+                position = position.move(player, cell / 3, cell % 3);
+                playout.play(cell);
+            }
+            assertTrue(playout.isTerminal());
+            assertEquals((int) position.winner().orElse(TicTacToe.blank), playout.winner());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package edu.neu.coe.info6205.sort;
 
+import edu.neu.coe.info6205.sort.elementary.HeapSort;
 import edu.neu.coe.info6205.sort.linearithmic.MergeSort;
 import edu.neu.coe.info6205.util.Config;
 import edu.neu.coe.info6205.util.PrivateMethodTester;
@@ -498,4 +499,72 @@ public class InstrumentedHelperTest {
         System.out.println(Arrays.toString(xs));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testSampleSorts() {
+        final Config config = Config.setupConfig("true", "0", "0", "", "").copy(InstrumentedHelper.INSTRUMENTING, InstrumentedHelper.SAMPLE_SORTS, "3");
+        int n = 100;
+        InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("HeapSort", n, 0L, config);
+        SortWithHelper<Integer> sorter = new HeapSort<>(helper);
+        for (int i = 0; i < 9; i++) {
+            Integer[] xs = sorter.preProcess(helper.random(Integer.class, r -> r.nextInt(1000)));
+            sorter.postProcess(sorter.sort(xs));
+        }
+        assertEquals(9, helper.getInvocations());
+        StatPack statPack = helper.getStatPack();
+        assertEquals(3, statPack.getCount(InstrumentedHelper.COMPARES));
+        assertEquals(9 * statPack.mean(InstrumentedHelper.COMPARES), helper.estimate(InstrumentedHelper.COMPARES), 1E-6);
+        double errorBound = helper.errorBound(InstrumentedHelper.COMPARES);
+        assertTrue(errorBound > 0 && errorBound < helper.estimate(InstrumentedHelper.COMPARES) / 10);
+    }
+
+    @Test
+    public void testSampleOperations() {
+        final Config exact = Config.setupConfig("true", "0", "0", "", "");
+        final Config sampled = exact.copy(InstrumentedHelper.INSTRUMENTING, InstrumentedHelper.SAMPLE_OPERATIONS, "10");
+        int n = 2000;
+        double[] fixes = new double[2];
+        InstrumentedHelper<Integer> sampledHelper = null;
+        for (int i = 0; i < 2; i++) {
+            InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("HeapSort", n, 0L, i == 0 ? exact : sampled);
+            SortWithHelper<Integer> sorter = new HeapSort<>(helper);
+            Integer[] xs = sorter.preProcess(helper.random(Integer.class, r -> r.nextInt(1000000)));
+            sorter.postProcess(sorter.sort(xs));
+            fixes[i] = helper.estimate(InstrumentedHelper.FIXES);
+            if (i == 0) assertEquals(0, helper.errorBound(InstrumentedHelper.FIXES), 0);
+            else sampledHelper = helper;
+        }
+        double errorBound = sampledHelper.errorBound(InstrumentedHelper.FIXES);
+        assertTrue(errorBound > 0);
+        assertEquals(fixes[0], fixes[1], errorBound);
+        // NOTE other statistics are still counted exactly.
+        assertEquals(0, sampledHelper.errorBound(InstrumentedHelper.COMPARES), 0);
+    }
+
+    @Test
+    public void testSampleOperationsLarge() {
+        final Config config = Config.setupConfig("true", "0", "0", "", "").copy(InstrumentedHelper.INSTRUMENTING, InstrumentedHelper.SAMPLE_OPERATIONS, "1000000000");
+        InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("test", 5, 0L, config);
+        helper.init(5);
+        Integer[] xs = new Integer[]{5, 2, 3, 4, 1};
+        // NOTE the first swap is always sampled: it fixes 7 inversions, which are scaled up to 7,000,000,000 fixes.
+        helper.swap(xs, 0, 4);
+        helper.postProcess(xs);
+        assertEquals(7_000_000_000.0, helper.getStatPack().total(InstrumentedHelper.FIXES), 0);
+        assertEquals(7_000_000_000.0, helper.estimate(InstrumentedHelper.FIXES), 0);
+    }
+
+    @Test
+    public void testInstrumenting() {
+        final Config config = Config.setupConfig("true", "0", "0", "", "").copy(InstrumentedHelper.INSTRUMENTING, InstrumentedHelper.SAMPLE_SORTS, "2");
+        InstrumentedHelper<Integer> helper = new InstrumentedHelper<>("test", 3, 0L, config);
+        helper.init(3);
+        Integer[] xs = new Integer[]{1, 2, 3};
+        assertTrue(helper.instrumenting());
+        helper.postProcess(xs);
+        assertFalse(helper.instrumenting());
+        helper.postProcess(xs);
+        assertTrue(helper.instrumenting());
+        assertFalse(new BaseHelper<Integer>("test", config).instrumenting());
+    }
+
+}
@@ -0,0 +1,68 @@
+package edu.neu.coe.info6205.sort;
+
+import edu.neu.coe.info6205.util.Config;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class InversionCounterTest {
+
+    @Test
+    public void testCount() {
+        Random random = new Random(0L);
+        for (int n : new int[]{0, 1, 2, 8, 9, 100, 1001}) {
+            Integer[] xs = new Integer[n];
+            for (int i = 0; i < n; i++) xs[i] = random.nextInt(n / 2 + 1);
+            Integer[] copy = Arrays.copyOf(xs, n);
+            assertEquals("n=" + n, bruteForce(xs), InversionCounter.count(xs));
+            assertArrayEquals(copy, xs);
+        }
+    }
+
+    @Test
+    public void testCountSortedAndReversed() {
+        int n = 100000;
+        Integer[] xs = new Integer[n];
+        for (int i = 0; i < n; i++) xs[i] = i;
+        assertEquals(0L, InversionCounter.count(xs));
+        for (int i = 0; i < n; i++) xs[i] = n - i;
+        assertEquals((long) n * (n - 1) / 2, InversionCounter.count(xs));
+    }
+
+    @Test
+    public void testCountParallel() {
+        Random random = new Random(0L);
+        int n = 300000;
+        Integer[] xs = new Integer[n];
+        for (int i = 0; i < n; i++) xs[i] = random.nextInt();
+        long expected = InversionCounter.count(xs);
+        // NOTE roughly n^2/4 for a random array, so more than Integer.MAX_VALUE.
+        assertTrue(expected > Integer.MAX_VALUE);
+        assertEquals(expected, InversionCounter.countParallel(xs));
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertEquals(expected, InversionCounter.count(xs, pool, 1000));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testHelperInversions() {
+        Helper<String> helper = new BaseHelper<>("test", Config.setupConfig("false", "0", "0", "", ""));
+        assertEquals(3, helper.inversions(new String[]{"c", "b", "a"}));
+        assertEquals(3, helper.inversions(new String[]{"b", "a", "b", "a"}));
+    }
+
+    private static long bruteForce(Integer[] xs) {
+        long result = 0;
+        for (int i = 0; i < xs.length; i++)
+            for (int j = i + 1; j < xs.length; j++)
+                if (xs[i] > xs[j]) result++;
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import edu.neu.coe.info6205.sort.BaseHelper;
+import edu.neu.coe.info6205.sort.Helper;
+import edu.neu.coe.info6205.sort.InstrumentedHelper;
+import edu.neu.coe.info6205.sort.SortWithHelper;
+import edu.neu.coe.info6205.util.Config;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class HeapSortPureTest {
+
+    @Test
+    public void testSort() {
+        Helper<Integer> helper = new BaseHelper<>("HeapSortPure", 1000, 0L, config);
+        SortWithHelper<Integer> sorter = new HeapSortPure<>(helper);
+        Integer[] xs = helper.random(Integer.class, Random::nextInt);
+        Integer[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sorter.sort(xs));
+    }
+
+    @Test
+    public void testSortSubArray() {
+        Helper<Integer> helper = new BaseHelper<>("HeapSortPure", 100, 0L, config);
+        int m = 3;
+        Integer[] xs = helper.random(Integer.class, r -> r.nextInt(10));
+        Integer[] expected = Arrays.copyOf(xs, xs.length);
+        Arrays.sort(expected, 20, 80);
+        new HeapSortPure<>(helper).sort(xs, 20, 80);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testCreate() {
+        assertEquals(HeapSortPure.class, HeapSort.create(100, config).getClass());
+        Config instrumented = Config.setupConfig("true", "0", "0", "", "");
+        SortWithHelper<Integer> sorter = HeapSort.create(100, instrumented);
+        assertEquals(HeapSort.class, sorter.getClass());
+        assertTrue(sorter.getHelper().instrumented());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInstrumented() {
+        Helper<Integer> helper = new InstrumentedHelper<>("HeapSortPure", Config.setupConfig("true", "0", "0", "", ""));
+        new HeapSortPure<>(helper);
+    }
+
+    private final Config config = Config.setupConfig("false", "0", "0", "", "");
+}
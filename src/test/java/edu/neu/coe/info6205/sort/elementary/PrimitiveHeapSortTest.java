@@ -0,0 +1,82 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveHeapSortTest {
+
+    @Test
+    public void testSortInt() {
+        Random random = new Random(0L);
+        for (int n : new int[]{0, 1, 2, 3, 10, 100, 1001}) {
+            int[] xs = random.ints(n).toArray();
+            int[] expected = xs.clone();
+            Arrays.sort(expected);
+            target.sort(xs);
+            assertArrayEquals(expected, xs);
+        }
+    }
+
+    @Test
+    public void testSortLong() {
+        Random random = new Random(0L);
+        long[] xs = random.longs(1000).toArray();
+        long[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortDouble() {
+        Random random = new Random(0L);
+        double[] xs = random.doubles(1000).toArray();
+        double[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs, 0.0);
+    }
+
+    @Test
+    public void testSortDoubleWithNaN() {
+        Random random = new Random(0L);
+        double[] xs = random.doubles(1000).toArray();
+        for (int i = 0; i < xs.length; i += 7) xs[i] = Double.NaN;
+        double[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs, 0.0);
+    }
+
+    @Test
+    public void testSortSubArray() {
+        Random random = new Random(0L);
+        int[] xs = random.ints(500, 0, 20).toArray();
+        int[] expected = xs.clone();
+        Arrays.sort(expected, 100, 400);
+        target.sort(xs, 100, 400);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortSorted() {
+        int[] xs = new int[1000];
+        for (int i = 0; i < xs.length; i++) xs[i] = i / 3;
+        int[] expected = xs.clone();
+        target.sort(xs);
+        assertArrayEquals(expected, xs);
+        for (int i = 0; i < xs.length / 2; i++) {
+            int x = xs[i];
+            xs[i] = xs[xs.length - 1 - i];
+            xs[xs.length - 1 - i] = x;
+        }
+        target.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    private final PrimitiveHeapSort target = new PrimitiveHeapSort();
+}
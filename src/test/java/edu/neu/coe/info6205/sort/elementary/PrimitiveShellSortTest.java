@@ -0,0 +1,93 @@
+package edu.neu.coe.info6205.sort.elementary;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveShellSortTest {
+
+    @Test
+    public void testSortInt() {
+        Random random = new Random(0L);
+        for (int n : new int[]{0, 1, 2, 3, 10, 100, 1001}) {
+            int[] xs = random.ints(n).toArray();
+            int[] expected = xs.clone();
+            Arrays.sort(expected);
+            target.sort(xs);
+            assertArrayEquals(expected, xs);
+        }
+    }
+
+    @Test
+    public void testSortLong() {
+        Random random = new Random(0L);
+        long[] xs = random.longs(1000).toArray();
+        long[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortDouble() {
+        Random random = new Random(0L);
+        double[] xs = random.doubles(1000).toArray();
+        double[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs, 0.0);
+    }
+
+    @Test
+    public void testSortDoubleWithNaN() {
+        Random random = new Random(0L);
+        double[] xs = random.doubles(1000).toArray();
+        for (int i = 0; i < xs.length; i += 7) xs[i] = Double.NaN;
+        double[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs, 0.0);
+    }
+
+    @Test
+    public void testSortSubArray() {
+        Random random = new Random(0L);
+        int[] xs = random.ints(500, 0, 20).toArray();
+        int[] expected = xs.clone();
+        Arrays.sort(expected, 100, 400);
+        target.sort(xs, 100, 400);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortModes() {
+        Random random = new Random(0L);
+        for (int m = 1; m <= 5; m++) {
+            int[] xs = random.ints(1000).toArray();
+            int[] expected = xs.clone();
+            Arrays.sort(expected);
+            new PrimitiveShellSort(m).sort(xs);
+            assertArrayEquals("mode " + m, expected, xs);
+        }
+    }
+
+    @Test
+    public void testGaps() {
+        assertArrayEquals(new int[]{1}, PrimitiveShellSort.gaps(1, 100));
+        assertArrayEquals(new int[]{63, 31, 15, 7, 3, 1}, PrimitiveShellSort.gaps(2, 100));
+        assertArrayEquals(new int[]{13, 4, 1}, PrimitiveShellSort.gaps(3, 40));
+        assertArrayEquals(new int[]{41, 19, 5, 1}, PrimitiveShellSort.gaps(4, 100));
+        assertArrayEquals(new int[]{9, 8, 6, 4, 3, 2, 1}, PrimitiveShellSort.gaps(5, 10));
+        assertArrayEquals(new int[]{1}, PrimitiveShellSort.gaps(5, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadMode() {
+        new PrimitiveShellSort(6);
+    }
+
+    private final PrimitiveShellSort target = new PrimitiveShellSort();
+}
@@ -161,6 +161,12 @@ public class ShellSortTest {
         doShellSortTest(100, 5);
     }
 
+    @Test
+    public void sortKnuthInstrumented100K() throws Exception {
+        // NOTE a random array of this size has more than Integer.MAX_VALUE inversions.
+        doShellSortTest(100_000, 3);
+    }
+
     @Test
     public void sortInsertionSortH1() {
         Integer[] xs = {15, 3, -1, 2, 4, 1, 0, 5, 8, 6, 1, 9, 17, 7, 11};
@@ -222,7 +228,7 @@ public class ShellSortTest {
     private void showInversions(Helper<Integer> helper) {
         if (InstrumentedHelper.class.isAssignableFrom(helper.getClass())) {
             InstrumentedHelper<Integer> instrumentedHelper = (InstrumentedHelper<Integer>) helper;
-            System.out.println("inversions: " + instrumentedHelper.inversions(instrumentedHelper.getRandomArray()));
+            System.out.println("inversions: " + instrumentedHelper.countInversions(instrumentedHelper.getRandomArray()));
             System.out.println("compares: " + instrumentedHelper.getCompares());
             System.out.println("swaps: " + instrumentedHelper.getSwaps());
         }
@@ -0,0 +1,99 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveMergeSortTest {
+
+    @Test
+    public void testSortInt() {
+        Random random = new Random(0L);
+        for (int n : new int[]{0, 1, 2, 3, 10, 100, 1001}) {
+            int[] xs = random.ints(n).toArray();
+            int[] expected = xs.clone();
+            Arrays.sort(expected);
+            target.sort(xs);
+            assertArrayEquals(expected, xs);
+        }
+    }
+
+    @Test
+    public void testSortLong() {
+        Random random = new Random(0L);
+        long[] xs = random.longs(1000).toArray();
+        long[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortDouble() {
+        Random random = new Random(0L);
+        double[] xs = random.doubles(1000).toArray();
+        double[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs, 0.0);
+    }
+
+    @Test
+    public void testSortDoubleWithNaN() {
+        Random random = new Random(0L);
+        double[] xs = random.doubles(1000).toArray();
+        for (int i = 0; i < xs.length; i += 7) xs[i] = Double.NaN;
+        double[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs, 0.0);
+    }
+
+    @Test
+    public void testSortSubArray() {
+        Random random = new Random(0L);
+        int[] xs = random.ints(500, 0, 20).toArray();
+        int[] expected = xs.clone();
+        Arrays.sort(expected, 100, 400);
+        target.sort(xs, 100, 400);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortSubArrayLongAndDouble() {
+        Random random = new Random(0L);
+        PrimitiveMergeSort sorter = new PrimitiveMergeSort(1);
+        long[] ls = random.longs(500).toArray();
+        long[] expectedLs = ls.clone();
+        Arrays.sort(expectedLs, 37, 451);
+        sorter.sort(ls, 37, 451);
+        assertArrayEquals(expectedLs, ls);
+        double[] ds = random.doubles(500).toArray();
+        double[] expectedDs = ds.clone();
+        Arrays.sort(expectedDs, 37, 451);
+        sorter.sort(ds, 37, 451);
+        assertArrayEquals(expectedDs, ds, 0.0);
+    }
+
+    @Test
+    public void testSortCutoffs() {
+        Random random = new Random(0L);
+        for (int cutoff : new int[]{1, 2, 7, 100}) {
+            int[] xs = random.ints(1000, 0, 100).toArray();
+            int[] expected = xs.clone();
+            Arrays.sort(expected);
+            new PrimitiveMergeSort(cutoff).sort(xs);
+            assertArrayEquals("cutoff " + cutoff, expected, xs);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadCutoff() {
+        new PrimitiveMergeSort(0);
+    }
+
+    private final PrimitiveMergeSort target = new PrimitiveMergeSort();
+}
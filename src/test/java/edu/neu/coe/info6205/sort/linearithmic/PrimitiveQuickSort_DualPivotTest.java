@@ -0,0 +1,104 @@
+package edu.neu.coe.info6205.sort.linearithmic;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveQuickSort_DualPivotTest {
+
+    @Test
+    public void testSortInt() {
+        Random random = new Random(0L);
+        for (int n : new int[]{0, 1, 2, 3, 10, 100, 1001}) {
+            int[] xs = random.ints(n).toArray();
+            int[] expected = xs.clone();
+            Arrays.sort(expected);
+            target.sort(xs);
+            assertArrayEquals(expected, xs);
+        }
+    }
+
+    @Test
+    public void testSortLong() {
+        Random random = new Random(0L);
+        long[] xs = random.longs(1000).toArray();
+        long[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortDouble() {
+        Random random = new Random(0L);
+        double[] xs = random.doubles(1000).toArray();
+        double[] expected = xs.clone();
+        Arrays.sort(expected);
+        target.sort(xs);
+        assertArrayEquals(expected, xs, 0.0);
+    }
+
+    @Test
+    public void testSortSubArray() {
+        Random random = new Random(0L);
+        int[] xs = random.ints(500, 0, 20).toArray();
+        int[] expected = xs.clone();
+        Arrays.sort(expected, 100, 400);
+        target.sort(xs, 100, 400);
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortCutoffs() {
+        Random random = new Random(0L);
+        for (int cutoff : new int[]{1, 2, 7, 100}) {
+            int[] xs = random.ints(1000, 0, 100).toArray();
+            int[] expected = xs.clone();
+            Arrays.sort(expected);
+            new PrimitiveQuickSort_DualPivot(cutoff).sort(xs);
+            assertArrayEquals("cutoff " + cutoff, expected, xs);
+        }
+    }
+
+    @Test
+    public void testSortSortedAndConstant() {
+        int n = 100_000;
+        int[] xs = new int[n];
+        for (int i = 0; i < n; i++) xs[i] = i;
+        int[] expected = xs.clone();
+        target.sort(xs);
+        assertArrayEquals(expected, xs);
+        for (int i = 0; i < n; i++) xs[i] = n - 1 - i;
+        target.sort(xs);
+        assertArrayEquals(expected, xs);
+        long[] ys = new long[n];
+        Arrays.fill(ys, 42L);
+        target.sort(ys);
+        for (long y : ys) assertEquals(42L, y);
+    }
+
+    @Test
+    public void testSortDoubleWithNaN() {
+        double[] xs = {3.0, Double.NaN, 1.0, 2.0, Double.NaN, 0.5, 4.0, 1.5, Double.NaN, 2.5, 0.0, 5.0};
+        new PrimitiveQuickSort_DualPivot(1).sort(xs);
+        double last = Double.NEGATIVE_INFINITY;
+        int nans = 0;
+        for (double x : xs)
+            if (Double.isNaN(x)) nans++;
+            else {
+                assertTrue(x >= last);
+                last = x;
+            }
+        assertEquals(3, nans);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadCutoff() {
+        new PrimitiveQuickSort_DualPivot(0);
+    }
+
+    private final PrimitiveQuickSort_DualPivot target = new PrimitiveQuickSort_DualPivot();
+}
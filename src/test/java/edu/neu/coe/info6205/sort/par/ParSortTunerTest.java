@@ -0,0 +1,88 @@
+package edu.neu.coe.info6205.sort.par;
+
+import edu.neu.coe.info6205.util.Config;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ParSortTunerTest {
+
+    @Test
+    public void testGoldenSection() {
+        assertEquals(3.0, ParSortTuner.goldenSection(x -> (x - 3) * (x - 3), 0, 10, 1E-6), 1E-5);
+        assertEquals(10.0, ParSortTuner.goldenSection(x -> -x, 0, 10, 1E-6), 1E-5);
+        assertEquals(0.0, ParSortTuner.goldenSection(x -> x, 0, 10, 1E-6), 1E-5);
+    }
+
+    @Test
+    public void testBucket() {
+        assertEquals(1, ParSortTuner.bucket(1));
+        assertEquals(2, ParSortTuner.bucket(2));
+        assertEquals(4, ParSortTuner.bucket(3));
+        assertEquals(2097152, ParSortTuner.bucket(2000000));
+        assertEquals(2097152, ParSortTuner.bucket(2097152));
+        assertEquals("cutoff.2097152.8", ParSortTuner.key(ParSortTuner.CUTOFF, 2000000, 8));
+    }
+
+    @Test
+    public void testTune() {
+        ParSortTuner target = new ParSortTuner(50_000, 2, 1, 1000, 1, 0L);
+        ParSortTuner.Settings settings = target.tune();
+        assertTrue(settings.cutoff >= 1000 && settings.cutoff <= 50_000);
+        assertTrue(settings.parallelism == 1 || settings.parallelism == 2);
+        assertTrue(settings.millis > 0);
+        // NOTE the tuner must leave ParSort as it found it.
+        assertSame(ForkJoinPool.commonPool(), ParSort.pool);
+    }
+
+    @Test
+    public void testSortWithSettings() {
+        int cutoff = ParSort.cutoff;
+        int[] xs = new Random(0L).ints(10_000).toArray();
+        int[] expected = xs.clone();
+        Arrays.sort(expected);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ParSort.sort(xs, 0, xs.length, 100, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, xs);
+        // NOTE the settings are passed down rather than stored in ParSort.
+        assertEquals(cutoff, ParSort.cutoff);
+        assertSame(ForkJoinPool.commonPool(), ParSort.pool);
+    }
+
+    @Test
+    public void testStoreAndLookup() throws IOException {
+        File file = File.createTempFile("config", ".ini");
+        assertTrue(file.delete());
+        try {
+            ParSortTuner target = new ParSortTuner(1_000_000, 4, 1, 1000, 1, 0L);
+            target.store(file, new ParSortTuner.Settings(65536, 4, 12.5));
+            Config config = new Config(file);
+            Optional<ParSortTuner.Settings> settings = ParSortTuner.lookup(config, 1_000_000, 4);
+            assertTrue(settings.isPresent());
+            assertEquals(65536, settings.get().cutoff);
+            assertEquals(4, settings.get().parallelism);
+            assertFalse(ParSortTuner.lookup(config, 1_000_000, 8).isPresent());
+            assertFalse(ParSortTuner.lookup(config, 4_000_000, 4).isPresent());
+            // NOTE storing again (for a different size) keeps the earlier settings.
+            target = new ParSortTuner(100, 4, 1, 10, 1, 0L);
+            target.store(file, new ParSortTuner.Settings(16, 2, 0.1));
+            config = new Config(file);
+            assertTrue(ParSortTuner.lookup(config, 1_000_000, 4).isPresent());
+            assertEquals(16, ParSortTuner.lookup(config, 100, 4).get().cutoff);
+        } finally {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+        }
+    }
+}
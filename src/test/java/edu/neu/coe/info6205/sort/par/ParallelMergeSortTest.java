@@ -0,0 +1,103 @@
+package edu.neu.coe.info6205.sort.par;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ParallelMergeSortTest {
+
+    @Test
+    public void testSortInts() {
+        Random random = new Random(0L);
+        try (ParallelMergeSort target = new ParallelMergeSort(4, 100)) {
+            for (int n : new int[]{0, 1, 99, 100, 101, 1000, 100_003}) {
+                int[] xs = new int[n];
+                for (int i = 0; i < n; i++) xs[i] = random.nextInt(1000);
+                int[] expected = xs.clone();
+                Arrays.sort(expected);
+                target.sort(xs);
+                assertArrayEquals(expected, xs);
+            }
+        }
+    }
+
+    @Test
+    public void testSortRange() {
+        int[] xs = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        try (ParallelMergeSort target = new ParallelMergeSort(2, 1)) {
+            target.sort(xs, 2, 8);
+        }
+        assertArrayEquals(new int[]{9, 8, 2, 3, 4, 5, 6, 7, 1, 0}, xs);
+    }
+
+    @Test
+    public void testSortComparableRange() {
+        Integer[] xs = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        try (ParallelMergeSort target = new ParallelMergeSort(2, 1)) {
+            target.sort(xs, 2, 8);
+        }
+        assertArrayEquals(new Integer[]{9, 8, 2, 3, 4, 5, 6, 7, 1, 0}, xs);
+    }
+
+    @Test
+    public void testSortComparable() {
+        Random random = new Random(0L);
+        String[] xs = new String[10_000];
+        for (int i = 0; i < xs.length; i++) xs[i] = Integer.toString(random.nextInt(100_000));
+        String[] expected = xs.clone();
+        Arrays.sort(expected);
+        try (ParallelMergeSort target = new ParallelMergeSort(3, 16)) {
+            target.sort(xs);
+        }
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testStable() {
+        // NOTE elements which compare equal must keep their original order.
+        Pair[] xs = new Pair[1000];
+        for (int i = 0; i < xs.length; i++) xs[i] = new Pair(i % 7, i);
+        try (ParallelMergeSort target = new ParallelMergeSort(4, 5)) {
+            target.sort(xs);
+        }
+        for (int i = 1; i < xs.length; i++) {
+            assertTrue(xs[i - 1].key <= xs[i].key);
+            if (xs[i - 1].key == xs[i].key) assertTrue(xs[i - 1].index < xs[i].index);
+        }
+    }
+
+    @Test
+    public void testSharedPool() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ParallelMergeSort target = new ParallelMergeSort(pool, 10);
+        int[] xs = {3, 1, 2};
+        target.sort(xs);
+        target.close();
+        assertFalse(pool.isShutdown());
+        assertArrayEquals(new int[]{1, 2, 3}, xs);
+        pool.shutdown();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadCutoff() {
+        new ParallelMergeSort(ForkJoinPool.commonPool(), 0);
+    }
+
+    private static class Pair implements Comparable<Pair> {
+        public int compareTo(Pair o) {
+            return Integer.compare(key, o.key);
+        }
+
+        Pair(int key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        final int key;
+        final int index;
+    }
+}
@@ -0,0 +1,97 @@
+package edu.neu.coe.info6205.sort.par;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ParallelMergeTest {
+
+    @Test
+    public void testMergeInts() {
+        Random random = new Random(0L);
+        for (int cutoff : new int[]{1, 2, 7, 1000}) {
+            for (int[] lengths : new int[][]{{0, 0}, {0, 5}, {5, 0}, {1, 1}, {1, 100}, {100, 1}, {500, 333}}) {
+                int[] left = sorted(random, lengths[0]);
+                int[] right = sorted(random, lengths[1]);
+                int[] dst = new int[left.length + right.length + 2];
+                ParallelMerge.merge(left, 0, left.length, right, 0, right.length, dst, 1, cutoff);
+                int[] expected = new int[left.length + right.length];
+                System.arraycopy(left, 0, expected, 0, left.length);
+                System.arraycopy(right, 0, expected, left.length, right.length);
+                Arrays.sort(expected);
+                assertArrayEquals(expected, Arrays.copyOfRange(dst, 1, dst.length - 1));
+            }
+        }
+    }
+
+    @Test
+    public void testMergeStable() {
+        // NOTE the left run holds even indices, the right run odd indices; keys are shared.
+        Pair[] left = new Pair[200];
+        Pair[] right = new Pair[150];
+        for (int i = 0; i < left.length; i++) left[i] = new Pair(i / 20, 2 * i);
+        for (int i = 0; i < right.length; i++) right[i] = new Pair(i / 15, 2 * i + 1);
+        Pair[] dst = new Pair[left.length + right.length];
+        ParallelMerge.merge(left, 0, left.length, right, 0, right.length, dst, 0, 3);
+        for (int i = 1; i < dst.length; i++) {
+            assertTrue(dst[i - 1].key <= dst[i].key);
+            if (dst[i - 1].key == dst[i].key && dst[i - 1].index % 2 != dst[i].index % 2)
+                assertEquals(0, dst[i - 1].index % 2);
+        }
+    }
+
+    @Test
+    public void testSearch() {
+        int[] xs = {1, 2, 2, 2, 3};
+        assertEquals(1, ParallelMerge.search(xs, 0, xs.length, 2, false));
+        assertEquals(4, ParallelMerge.search(xs, 0, xs.length, 2, true));
+        assertEquals(0, ParallelMerge.search(xs, 0, xs.length, 0, true));
+        assertEquals(5, ParallelMerge.search(xs, 0, xs.length, 9, false));
+    }
+
+    @Test
+    public void testParSort() {
+        Random random = new Random(1L);
+        int[] xs = new int[50_000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextInt();
+        int[] expected = xs.clone();
+        Arrays.sort(expected);
+        int cutoff = ParSort.cutoff;
+        try {
+            ParSort.cutoff = 1000;
+            for (boolean parallelMerge : new boolean[]{false, true}) {
+                ParSort.parallelMerge = parallelMerge;
+                int[] ys = xs.clone();
+                ParSort.sort(ys, 0, ys.length);
+                assertArrayEquals(expected, ys);
+            }
+        } finally {
+            ParSort.cutoff = cutoff;
+            ParSort.parallelMerge = true;
+        }
+    }
+
+    private static int[] sorted(Random random, int n) {
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) result[i] = random.nextInt(50);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static class Pair implements Comparable<Pair> {
+        public int compareTo(Pair o) {
+            return Integer.compare(key, o.key);
+        }
+
+        Pair(int key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        final int key;
+        final int index;
+    }
+}
@@ -0,0 +1,77 @@
+package edu.neu.coe.info6205.sort.par;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ParallelRadixSortTest {
+
+    @Test
+    public void testSort() {
+        Random random = new Random(0L);
+        try (ParallelRadixSort target = new ParallelRadixSort(4, 100)) {
+            for (int n : new int[]{0, 1, 100, 101, 1000, 100_003}) {
+                int[] xs = new int[n];
+                for (int i = 0; i < n; i++) xs[i] = random.nextInt();
+                int[] expected = xs.clone();
+                Arrays.sort(expected);
+                target.sort(xs);
+                assertArrayEquals(expected, xs);
+            }
+        }
+    }
+
+    @Test
+    public void testSortExtremes() {
+        int[] xs = new int[1000];
+        for (int i = 0; i < xs.length; i++)
+            xs[i] = switch (i % 5) {
+                case 0 -> Integer.MIN_VALUE;
+                case 1 -> Integer.MAX_VALUE;
+                case 2 -> -1;
+                case 3 -> 0;
+                default -> i;
+            };
+        int[] expected = xs.clone();
+        Arrays.sort(expected);
+        try (ParallelRadixSort target = new ParallelRadixSort(3, 10)) {
+            target.sort(xs);
+        }
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortSmallKeys() {
+        // NOTE the three upper digits are all zero so those passes are skipped (which leaves the result in the auxiliary array).
+        Random random = new Random(1L);
+        int[] xs = new int[10_000];
+        for (int i = 0; i < xs.length; i++) xs[i] = random.nextInt(256);
+        int[] expected = xs.clone();
+        Arrays.sort(expected);
+        try (ParallelRadixSort target = new ParallelRadixSort(2, 10)) {
+            target.sort(xs);
+        }
+        assertArrayEquals(expected, xs);
+    }
+
+    @Test
+    public void testSortRange() {
+        int[] xs = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        try (ParallelRadixSort target = new ParallelRadixSort(2, 1)) {
+            target.sort(xs, 2, 8);
+        }
+        assertArrayEquals(new int[]{9, 8, 2, 3, 4, 5, 6, 7, 1, 0}, xs);
+    }
+
+    @Test
+    public void testOffsets() {
+        int[][] counts = {{1, 0, 2}, {0, 3, 1}};
+        assertTrue(ParallelRadixSort.offsets(counts, 10, 7));
+        assertArrayEquals(new int[]{10, 11, 14}, counts[0]);
+        assertArrayEquals(new int[]{11, 11, 16}, counts[1]);
+        assertFalse(ParallelRadixSort.offsets(new int[][]{{0, 2}, {0, 3}}, 0, 5));
+    }
+}
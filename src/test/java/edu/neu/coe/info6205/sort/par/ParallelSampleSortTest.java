@@ -0,0 +1,61 @@
+package edu.neu.coe.info6205.sort.par;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class ParallelSampleSortTest {
+
+    @Test
+    public void testSort() {
+        Random random = new Random(0L);
+        try (ParallelSampleSort target = new ParallelSampleSort(4, 100)) {
+            for (int n : new int[]{0, 1, 100, 101, 1000, 100_003}) {
+                int[] xs = new int[n];
+                for (int i = 0; i < n; i++) xs[i] = random.nextInt();
+                int[] expected = xs.clone();
+                Arrays.sort(expected);
+                target.sort(xs);
+                assertArrayEquals(expected, xs);
+            }
+        }
+    }
+
+    @Test
+    public void testSortDuplicates() {
+        Random random = new Random(1L);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        ParallelSampleSort target = new ParallelSampleSort(pool, 10, new Random(2L));
+        for (int range : new int[]{1, 2, 10}) {
+            int[] xs = new int[10_000];
+            for (int i = 0; i < xs.length; i++) xs[i] = random.nextInt(range) - 1;
+            int[] expected = xs.clone();
+            Arrays.sort(expected);
+            target.sort(xs);
+            assertArrayEquals(expected, xs);
+        }
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSortRange() {
+        int[] xs = {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+        try (ParallelSampleSort target = new ParallelSampleSort(2, 1)) {
+            target.sort(xs, 2, 8);
+        }
+        assertArrayEquals(new int[]{9, 8, 2, 3, 4, 5, 6, 7, 1, 0}, xs);
+    }
+
+    @Test
+    public void testBucket() {
+        int[] splitters = {10, 20, 20, 30};
+        assertEquals(0, ParallelSampleSort.bucket(splitters, 9));
+        assertEquals(1, ParallelSampleSort.bucket(splitters, 10));
+        assertEquals(3, ParallelSampleSort.bucket(splitters, 20));
+        assertEquals(4, ParallelSampleSort.bucket(splitters, 99));
+    }
+}